@@ -39,6 +39,7 @@
 package oracle.jdbc.provider.aws.appconfig;
 
 import oracle.jdbc.provider.aws.AwsResourceFactory;
+import oracle.jdbc.provider.cache.CachedResourceFactory;
 import oracle.jdbc.provider.factory.Resource;
 import oracle.jdbc.provider.factory.ResourceFactory;
 import oracle.jdbc.provider.parameter.Parameter;
@@ -46,10 +47,10 @@ import oracle.jdbc.provider.parameter.ParameterSet;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.appconfigdata.AppConfigDataClient;
-import software.amazon.awssdk.services.appconfigdata.model.*;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.time.Clock;
 
 import static oracle.jdbc.provider.aws.configuration.AwsConfigurationParameters.*;
 import static oracle.jdbc.provider.util.ParameterUtils.getParameterWithFallback;
@@ -59,6 +60,13 @@ import static oracle.jdbc.provider.util.ParameterUtils.getParameterWithFallback;
  * AppConfig using the AppConfig Data API. This factory establishes a
  * configuration session and fetches the latest configuration data based on
  * the provided application, environment, and configuration profile identifiers.
+ * <p>
+ * A session is retained for each application, environment, configuration
+ * profile, and region. Later requests poll the configuration with the token
+ * of the session, at the interval recommended by AppConfig, and receive the
+ * configuration of the previous poll if it has not changed. See
+ * {@link AppConfigSession}.
+ * </p>
  */
 public class AppConfigFactory extends AwsResourceFactory<InputStream> {
 
@@ -92,6 +100,20 @@ public class AppConfigFactory extends AwsResourceFactory<InputStream> {
 
   private static final ResourceFactory<InputStream> INSTANCE = new AppConfigFactory();
 
+  /**
+   * Cache of configuration sessions, keyed by an application, environment,
+   * configuration profile, and region.
+   */
+  private static final ResourceFactory<AppConfigSession> SESSION_CACHE =
+    CachedResourceFactory.create(parameterSet ->
+      Resource.createPermanentResource(
+        new AppConfigSession(
+          parameterSet.getRequired(APP_CONFIG_APPLICATION),
+          parameterSet.getRequired(APP_CONFIG_ENVIRONMENT),
+          parameterSet.getRequired(APP_CONFIG_PROFILE),
+          Clock.systemUTC()),
+        false));
+
   private AppConfigFactory() {}
 
   /**
@@ -108,29 +130,23 @@ public class AppConfigFactory extends AwsResourceFactory<InputStream> {
     String configurationProfileId = getParameterWithFallback(APP_CONFIG_PROFILE, SYS_PROP_PROFILE, ENV_VAR_PROFILE, parameterSet);
     String region = parameterSet.getOptional(REGION);
 
-    try (AppConfigDataClient client = AppConfigDataClient.builder()
-      .credentialsProvider(() -> awsCredentials)
-      .applyMutation(builder -> {
-         if (region != null) builder.region(Region.of(region));
-       })
-       .build()) {
-
-      final StartConfigurationSessionResponse sessionResponse = client.startConfigurationSession(
-        StartConfigurationSessionRequest.builder()
-          .applicationIdentifier(applicationId)
-          .environmentIdentifier(environmentId)
-          .configurationProfileIdentifier(configurationProfileId)
-          .build());
-
-      final String token = sessionResponse.initialConfigurationToken();
-
-      final GetLatestConfigurationResponse configResponse = client.getLatestConfiguration(
-        GetLatestConfigurationRequest.builder()
-          .configurationToken(token)
-          .build());
-      return Resource.createPermanentResource(
-              new ByteArrayInputStream(configResponse.configuration().asByteArray()),
-              false);
-    }
+    ParameterSet sessionKey = ParameterSet.builder()
+      .add("application", APP_CONFIG_APPLICATION, applicationId)
+      .add("environment", APP_CONFIG_ENVIRONMENT, environmentId)
+      .add("profile", APP_CONFIG_PROFILE, configurationProfileId)
+      .add("region", REGION, region == null ? "" : region)
+      .build();
+
+    byte[] configuration = SESSION_CACHE.request(sessionKey)
+      .getContent()
+      .getConfiguration(() -> AppConfigDataClient.builder()
+        .credentialsProvider(() -> awsCredentials)
+        .applyMutation(builder -> {
+           if (region != null) builder.region(Region.of(region));
+         })
+        .build());
+
+    return Resource.createPermanentResource(
+      new ByteArrayInputStream(configuration), false);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,173 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.aws.appconfig;
+
+import software.amazon.awssdk.services.appconfigdata.AppConfigDataClient;
+import software.amazon.awssdk.services.appconfigdata.model.BadRequestException;
+import software.amazon.awssdk.services.appconfigdata.model.GetLatestConfigurationRequest;
+import software.amazon.awssdk.services.appconfigdata.model.GetLatestConfigurationResponse;
+import software.amazon.awssdk.services.appconfigdata.model.StartConfigurationSessionRequest;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A configuration session of AWS AppConfig, for one application, environment,
+ * and configuration profile. The session retains the most recent
+ * configuration, and the token for the next poll of the configuration.
+ * </p><p>
+ * The configuration is only polled once the interval recommended by AppConfig
+ * has passed since the previous poll. Until then, the retained configuration
+ * is returned. AppConfig returns an empty configuration when the configuration
+ * has not changed since the previous poll, in which case the retained
+ * configuration is also returned.
+ * </p><p>
+ * A new session is started for the first poll, after a poll fails, and when
+ * the token of the session has expired. Configuration tokens expire after 24
+ * hours.
+ * </p>
+ */
+final class AppConfigSession {
+
+  /**
+   * Number of seconds between polls if AppConfig does not recommend an
+   * interval. This is the default interval of AppConfig.
+   */
+  private static final int DEFAULT_POLL_INTERVAL = 60;
+
+  private final String applicationId;
+
+  private final String environmentId;
+
+  private final String configurationProfileId;
+
+  private final Clock clock;
+
+  /** Token for the next poll, or null if a session needs to be started */
+  private String token;
+
+  /** The most recent configuration, or null if none has been polled */
+  private byte[] configuration;
+
+  /** Time at which the configuration may be polled again */
+  private Instant nextPollTime;
+
+  AppConfigSession(
+    String applicationId, String environmentId, String configurationProfileId,
+    Clock clock) {
+    this.applicationId = applicationId;
+    this.environmentId = environmentId;
+    this.configurationProfileId = configurationProfileId;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the configuration of this session, polling AppConfig if the
+   * recommended interval has passed since the previous poll.
+   * @param clientSupplier Supplies a client for polling. The client is closed
+   * when the poll completes. Not null.
+   * @return The configuration. Not null.
+   */
+  synchronized byte[] getConfiguration(
+    Supplier<AppConfigDataClient> clientSupplier) {
+
+    if (configuration != null && clock.instant().isBefore(nextPollTime))
+      return configuration;
+
+    try (AppConfigDataClient client = clientSupplier.get()) {
+      GetLatestConfigurationResponse response = poll(client);
+
+      token = response.nextPollConfigurationToken();
+
+      Integer pollInterval = response.nextPollIntervalInSeconds();
+      nextPollTime = clock.instant().plusSeconds(
+        pollInterval == null ? DEFAULT_POLL_INTERVAL : pollInterval);
+
+      byte[] latest = response.configuration() == null
+        ? new byte[0]
+        : response.configuration().asByteArray();
+
+      // An empty configuration indicates that it is unchanged
+      if (configuration == null || latest.length > 0)
+        configuration = latest;
+
+      return configuration;
+    }
+    catch (RuntimeException runtimeException) {
+      // The token can not be trusted for the next poll
+      token = null;
+      throw runtimeException;
+    }
+  }
+
+  /**
+   * Polls the latest configuration with the token of this session, starting a
+   * new session if there is no token, or if the token has expired.
+   */
+  private GetLatestConfigurationResponse poll(AppConfigDataClient client) {
+    if (token != null) {
+      try {
+        return getLatestConfiguration(client, token);
+      }
+      catch (BadRequestException badRequestException) {
+        // The token has expired. Start a new session.
+      }
+    }
+
+    String initialToken = client.startConfigurationSession(
+        StartConfigurationSessionRequest.builder()
+          .applicationIdentifier(applicationId)
+          .environmentIdentifier(environmentId)
+          .configurationProfileIdentifier(configurationProfileId)
+          .build())
+      .initialConfigurationToken();
+
+    return getLatestConfiguration(client, initialToken);
+  }
+
+  private static GetLatestConfigurationResponse getLatestConfiguration(
+    AppConfigDataClient client, String token) {
+    return client.getLatestConfiguration(
+      GetLatestConfigurationRequest.builder()
+        .configurationToken(token)
+        .build());
+  }
+}
@@ -37,16 +37,21 @@
  */
 package oracle.jdbc.provider.aws.authentication;
 
-import oracle.jdbc.provider.aws.AwsResourceFactory;
+import oracle.jdbc.provider.cache.CachedResourceFactory;
 import oracle.jdbc.provider.factory.Resource;
 import oracle.jdbc.provider.factory.ResourceFactory;
 import oracle.jdbc.provider.parameter.Parameter;
 import oracle.jdbc.provider.parameter.ParameterSet;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import static oracle.jdbc.provider.parameter.Parameter.CommonAttribute.REQUIRED;
 
@@ -62,6 +67,14 @@ import static oracle.jdbc.provider.parameter.Parameter.CommonAttribute.REQUIRED;
  * accommodate programmers who may already be using the environment variables,
  * and do not wish to re-apply their configuration as Oracle JDBC connection
  * properties and URL parameters.
+ * </p><p>
+ * Credentials are resolved by an {@link AwsCredentialsProvider} that is
+ * cached for the parameters of this class. The provider retains the
+ * credentials it resolves, and refreshes them asynchronously before they
+ * expire, so that a request for credentials does not search the provider
+ * chain, or call an instance metadata or STS endpoint, each time it is made.
+ * The time taken to resolve credentials is logged at the {@link Level#FINE}
+ * level.
  * </p>
  */
 public final class AwsCredentialsFactory
@@ -71,6 +84,25 @@ public final class AwsCredentialsFactory
   public static final Parameter<AwsAuthenticationMethod>
       AUTHENTICATION_METHOD = Parameter.create(REQUIRED);
 
+  private static final Logger LOGGER =
+      Logger.getLogger(AwsCredentialsFactory.class.getName());
+
+  /**
+   * Amount of time before credentials expire at which a resource of the
+   * credentials is no longer valid. This matches the amount of time at which
+   * the AWS SDK begins refreshing credentials asynchronously, so that a new
+   * request for credentials will receive the refreshed credentials.
+   */
+  private static final Duration REFRESH_AHEAD = Duration.ofMinutes(5);
+
+  /**
+   * Cache of credentials providers, keyed by the parameters of this class.
+   * Providers are only created if a provider is not cached, or if a previous
+   * attempt to create one failed.
+   */
+  private static final ResourceFactory<AwsCredentialsProvider> PROVIDER_CACHE =
+      CachedResourceFactory.create(AwsCredentialsFactory::createProvider);
+
   private static final AwsCredentialsFactory INSTANCE
       = new AwsCredentialsFactory();
 
@@ -86,13 +118,25 @@ public final class AwsCredentialsFactory
 
   @Override
   public Resource<AwsCredentials> request(ParameterSet parameterSet) {
-    AwsCredentials awsCredentials = getCredential(parameterSet);
+    AwsCredentialsProvider credentialsProvider =
+        PROVIDER_CACHE.request(getCacheKey(parameterSet)).getContent();
+
+    long start = System.nanoTime();
+    AwsCredentials awsCredentials;
+    try {
+      awsCredentials = credentialsProvider.resolveCredentials();
+    }
+    finally {
+      LOGGER.log(Level.FINE, "Resolved AWS credentials in {0} ms",
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
 
     // If the token has expiration time, create an expiring resource
-    // with the expiration time.
+    // which expires ahead of that time.
     // Otherwise, create a permanent resource.
     if (awsCredentials.expirationTime().isPresent()) {
-      Instant expirationTime = awsCredentials.expirationTime().get();
+      Instant expirationTime =
+          awsCredentials.expirationTime().get().minus(REFRESH_AHEAD);
       return Resource.createExpiringResource(
           awsCredentials,
           expirationTime.atOffset(OffsetDateTime.now().getOffset()),true);
@@ -102,21 +146,40 @@ public final class AwsCredentialsFactory
   }
 
   /**
-   * Returns credentials for requesting an access token. The type of credentials
+   * Returns a {@code ParameterSet} with only the parameters of this class. The
+   * parameter set of a request may also configure the resource that is
+   * requested with the credentials, such as the name of a secret. The cache
+   * key excludes these parameters, so that the same credentials provider is
+   * shared by requests for different resources.
+   * @param parameterSet Parameters of a request. Not null.
+   * @return Parameters of the credentials provider. Not null.
+   */
+  private static ParameterSet getCacheKey(ParameterSet parameterSet) {
+    return ParameterSet.builder()
+        .add(
+            parameterSet.getName(AUTHENTICATION_METHOD),
+            AUTHENTICATION_METHOD,
+            parameterSet.getRequired(AUTHENTICATION_METHOD))
+        .build();
+  }
+
+  /**
+   * Returns a provider of credentials. The type of credentials
    * used are configured by the parameters of the given {@code parameterSet}.
    * Supported parameters are defined by the class variables in
    * {@link AwsCredentialsFactory}.
    * @param parameterSet parameters that configure credentials. Not null.
-   * @return Credentials configured by parameters
+   * @return A resource of the provider configured by parameters. Not null.
    */
-  private static AwsCredentials getCredential(ParameterSet parameterSet) {
+  private static Resource<AwsCredentialsProvider> createProvider(
+      ParameterSet parameterSet) {
 
     AwsAuthenticationMethod authenticationMethod =
         parameterSet.getRequired(AUTHENTICATION_METHOD);
 
     switch (authenticationMethod) {
       case DEFAULT:
-        return defaultCredentials();
+        return Resource.createPermanentResource(defaultProvider(), false);
       default :
         throw new IllegalArgumentException(
             "Unrecognized authentication method: " + authenticationMethod);
@@ -124,11 +187,16 @@ public final class AwsCredentialsFactory
   }
 
   /**
-   * Returns credentials resolved by {@link AwsResourceFactory}.
+   * Returns a provider of the default credentials provider chain. The
+   * provider retains the credentials of the first provider in the chain that
+   * resolves them, and refreshes expiring credentials with a background
+   * thread.
    */
-  private static AwsCredentials defaultCredentials() {
+  private static AwsCredentialsProvider defaultProvider() {
     return DefaultCredentialsProvider
         .builder()
-        .build().resolveCredentials();
+        .reuseLastProviderEnabled(true)
+        .asyncCredentialUpdateEnabled(true)
+        .build();
   }
 }
@@ -43,6 +43,7 @@ import oracle.jdbc.spi.UsernameProvider;
 import oracle.jdbc.spi.PasswordProvider;
 import oracle.jdbc.provider.parameter.ParameterSet;
 import oracle.jdbc.provider.resource.ResourceParameter;
+import oracle.jdbc.provider.util.CredentialsCache;
 import oracle.jdbc.provider.util.WalletUtils;
 
 import java.util.Base64;
@@ -120,6 +121,6 @@ public class ParameterStoreSEPSProvider
 
     String connectionStringIndex =
             parameterSet.getOptional(CommonParameters.CONNECTION_STRING_INDEX);
-    return WalletUtils.getCredentials(walletBytes, walletPassword, connectionStringIndex);
+    return CredentialsCache.getCredentials(walletBytes, walletPassword, connectionStringIndex);
   }
 }
\ No newline at end of file
@@ -42,6 +42,7 @@ import oracle.jdbc.provider.resource.ResourceParameter;
 import oracle.jdbc.spi.PasswordProvider;
 import oracle.jdbc.spi.UsernameProvider;
 import oracle.jdbc.provider.parameter.ParameterSet;
+import oracle.jdbc.provider.util.CredentialsCache;
 import oracle.jdbc.provider.util.WalletUtils;
 
 import java.util.Base64;
@@ -108,6 +109,6 @@ public class SecretsManagerSEPSProvider
       ? parameterSet.getOptional(PASSWORD).toCharArray() : null;
 
     String connectionStringIndex = parameterSet.getOptional(CONNECTION_STRING_INDEX);
-    return WalletUtils.getCredentials(walletBytes, walletPassword, connectionStringIndex);
+    return CredentialsCache.getCredentials(walletBytes, walletPassword, connectionStringIndex);
   }
 }
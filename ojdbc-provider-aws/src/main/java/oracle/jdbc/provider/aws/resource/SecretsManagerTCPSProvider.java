@@ -41,7 +41,7 @@ package oracle.jdbc.provider.aws.resource;
 import oracle.jdbc.provider.resource.ResourceParameter;
 import oracle.jdbc.spi.TlsConfigurationProvider;
 import oracle.jdbc.provider.parameter.ParameterSet;
-import oracle.jdbc.provider.util.TlsUtils;
+import oracle.jdbc.provider.cache.SSLContextCache;
 
 import javax.net.ssl.SSLContext;
 import java.util.Base64;
@@ -115,7 +115,7 @@ public class SecretsManagerTCPSProvider
         ? parameterSet.getOptional(PASSWORD).toCharArray() : null;
 
       String type = parameterSet.getRequired(TYPE);
-      return TlsUtils.createSSLContext(fileBytes, password, type);
+      return SSLContextCache.getSSLContext(fileBytes, password, type);
     } catch (Exception e) {
       throw new IllegalStateException("Failed to build SSLContext from AWS Secret", e);
     }
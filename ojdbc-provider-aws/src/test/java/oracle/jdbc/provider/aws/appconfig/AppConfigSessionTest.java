@@ -0,0 +1,213 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.aws.appconfig;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.appconfigdata.AppConfigDataClient;
+import software.amazon.awssdk.services.appconfigdata.model.BadRequestException;
+import software.amazon.awssdk.services.appconfigdata.model.GetLatestConfigurationRequest;
+import software.amazon.awssdk.services.appconfigdata.model.GetLatestConfigurationResponse;
+import software.amazon.awssdk.services.appconfigdata.model.StartConfigurationSessionRequest;
+import software.amazon.awssdk.services.appconfigdata.model.StartConfigurationSessionResponse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Verifies {@link AppConfigSession} with a client that does not use AWS */
+public class AppConfigSessionTest {
+
+  /**
+   * Verifies that one session is started, that the configuration is only
+   * polled at the recommended interval, and that an empty configuration is
+   * treated as unchanged.
+   */
+  @Test
+  public void testPolling() {
+    TestClock clock = new TestClock();
+    TestClient client = new TestClient();
+    AppConfigSession session =
+      new AppConfigSession("app", "env", "profile", clock);
+
+    client.responses.add(response("token-1", 30, "{\"v\":1}"));
+    assertEquals("{\"v\":1}", configuration(session, client));
+    assertEquals(Arrays.asList("start", "initial-token"), client.calls);
+
+    // Not polled before the interval has passed
+    clock.advance(29);
+    assertEquals("{\"v\":1}", configuration(session, client));
+    assertEquals(2, client.calls.size());
+
+    // Unchanged
+    clock.advance(1);
+    client.responses.add(response("token-2", 30, ""));
+    assertEquals("{\"v\":1}", configuration(session, client));
+    assertEquals("token-1", client.calls.get(2));
+
+    // Changed
+    clock.advance(30);
+    client.responses.add(response("token-3", 30, "{\"v\":2}"));
+    assertEquals("{\"v\":2}", configuration(session, client));
+    assertEquals(Arrays.asList(
+      "start", "initial-token", "token-1", "token-2"), client.calls);
+  }
+
+  /**
+   * Verifies that a new session is started when the token has expired, or
+   * when a poll fails.
+   */
+  @Test
+  public void testNewSession() {
+    TestClock clock = new TestClock();
+    TestClient client = new TestClient();
+    AppConfigSession session =
+      new AppConfigSession("app", "env", "profile", clock);
+
+    client.responses.add(response("token-1", 30, "{\"v\":1}"));
+    configuration(session, client);
+
+    // Expired token
+    clock.advance(30);
+    client.failures.add(BadRequestException.builder().message("expired").build());
+    client.responses.add(response("token-2", 30, "{\"v\":2}"));
+    assertEquals("{\"v\":2}", configuration(session, client));
+    assertEquals(Arrays.asList(
+      "start", "initial-token", "token-1", "start", "initial-token"),
+      client.calls);
+
+    // Failed poll
+    clock.advance(30);
+    client.failures.add(new IllegalStateException("network failure"));
+    assertThrows(IllegalStateException.class,
+      () -> configuration(session, client));
+    client.responses.add(response("token-3", 30, "{\"v\":3}"));
+    assertEquals("{\"v\":3}", configuration(session, client));
+    assertEquals(Arrays.asList("start", "initial-token"),
+      client.calls.subList(client.calls.size() - 2, client.calls.size()));
+  }
+
+  private static String configuration(
+    AppConfigSession session, TestClient client) {
+    return new String(session.getConfiguration(() -> client), UTF_8);
+  }
+
+  private static GetLatestConfigurationResponse response(
+    String nextToken, int pollInterval, String configuration) {
+    return GetLatestConfigurationResponse.builder()
+      .nextPollConfigurationToken(nextToken)
+      .nextPollIntervalInSeconds(pollInterval)
+      .configuration(SdkBytes.fromString(configuration, UTF_8))
+      .build();
+  }
+
+  /**
+   * A client which records the requests it receives, and returns queued
+   * responses or failures.
+   */
+  private static final class TestClient implements AppConfigDataClient {
+
+    final List<String> calls = new ArrayList<>();
+
+    final Queue<GetLatestConfigurationResponse> responses = new ArrayDeque<>();
+
+    final Queue<RuntimeException> failures = new ArrayDeque<>();
+
+    @Override
+    public StartConfigurationSessionResponse startConfigurationSession(
+      StartConfigurationSessionRequest request) {
+      calls.add("start");
+      return StartConfigurationSessionResponse.builder()
+        .initialConfigurationToken("initial-token")
+        .build();
+    }
+
+    @Override
+    public GetLatestConfigurationResponse getLatestConfiguration(
+      GetLatestConfigurationRequest request) {
+      calls.add(request.configurationToken());
+      if (!failures.isEmpty())
+        throw failures.remove();
+      return responses.remove();
+    }
+
+    @Override
+    public String serviceName() {
+      return "test";
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+
+  /** A clock which is advanced by a test */
+  private static final class TestClock extends Clock {
+
+    private Instant instant = Instant.parse("2026-01-01T00:00:00Z");
+
+    void advance(long seconds) {
+      instant = instant.plusSeconds(seconds);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -40,6 +40,7 @@ package oracle.jdbc.provider.azure.resource;
 
 import oracle.jdbc.provider.parameter.ParameterSet;
 import oracle.jdbc.provider.resource.ResourceParameter;
+import oracle.jdbc.provider.util.CredentialsCache;
 import oracle.jdbc.provider.util.WalletUtils;
 import oracle.jdbc.spi.OracleResourceProvider;
 import oracle.jdbc.spi.PasswordProvider;
@@ -98,7 +99,7 @@ public class KeyVaultSEPSProvider
             : null;
 
     String connectionStringIndex = parameterSet.getOptional(CONNECTION_STRING_INDEX);
-    return WalletUtils.getCredentials(walletBytes, walletPassword, connectionStringIndex);
+    return CredentialsCache.getCredentials(walletBytes, walletPassword, connectionStringIndex);
   }
 
 }
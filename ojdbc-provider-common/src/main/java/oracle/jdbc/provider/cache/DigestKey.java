@@ -0,0 +1,177 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * <p>
+ * A key of a cache of resources that are created from secret content, such
+ * as a wallet or a keystore file and its password. Keys are equal if they
+ * have the same SHA-256 digest of the content, the password, and any
+ * attributes, such as the type of the file.
+ * </p><p>
+ * The content and the password are retained only until {@link #release()} is
+ * called, once the resource has been created, so that a key retained by a
+ * cache only holds the digest and the attributes.
+ * </p>
+ */
+public final class DigestKey {
+
+  private final byte[] digest;
+
+  private final String[] attributes;
+
+  private byte[] content;
+
+  private char[] password;
+
+  /**
+   * Creates a key for content, a password, and attributes. The password is
+   * copied, and the content is retained as is.
+   *
+   * @param content The secret content. Not null.
+   * @param password The password of the content, or {@code null} if there is
+   * none.
+   * @param attributes Attributes that are not secret, and that distinguish
+   * resources created from the same content. Elements may be {@code null}.
+   */
+  public DigestKey(byte[] content, char[] password, String... attributes) {
+    this.content = content;
+    this.password = password == null ? null : password.clone();
+    this.attributes = attributes.clone();
+    this.digest = digest(content, password, this.attributes);
+  }
+
+  /**
+   * Returns the content, until the key is released.
+   *
+   * @return The secret content. Not null.
+   * @throws IllegalStateException If the key has been released.
+   */
+  public byte[] getContent() {
+    if (content == null)
+      throw new IllegalStateException("The key has been released");
+    return content;
+  }
+
+  /**
+   * Returns the password, until the key is released.
+   *
+   * @return The password, or {@code null} if there is none.
+   * @throws IllegalStateException If the key has been released.
+   */
+  public char[] getPassword() {
+    if (content == null)
+      throw new IllegalStateException("The key has been released");
+    return password;
+  }
+
+  /**
+   * Returns an attribute of the key.
+   *
+   * @param index The index of the attribute, as passed to the constructor.
+   * @return The attribute. May be {@code null}.
+   */
+  public String getAttribute(int index) {
+    return attributes[index];
+  }
+
+  /**
+   * Releases the content, and clears the password.
+   */
+  public void release() {
+    content = null;
+    if (password != null) {
+      Arrays.fill(password, (char) 0);
+      password = null;
+    }
+  }
+
+  private static byte[] digest(
+    byte[] content, char[] password, String[] attributes) {
+    try {
+      MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      messageDigest.update(content);
+
+      if (password != null) {
+        messageDigest.update((byte) 1);
+        ByteBuffer passwordBytes = UTF_8.encode(CharBuffer.wrap(password));
+        messageDigest.update(passwordBytes.duplicate());
+        if (passwordBytes.hasArray())
+          Arrays.fill(passwordBytes.array(), (byte) 0);
+      }
+
+      // Attributes are tagged with their index, so that a null attribute is
+      // not confused with the attribute that follows it
+      for (int i = 0; i < attributes.length; i++) {
+        if (attributes[i] != null) {
+          messageDigest.update((byte) (i + 2));
+          byte[] attributeBytes = attributes[i].getBytes(UTF_8);
+          messageDigest.update(ByteBuffer.allocate(4)
+            .putInt(attributeBytes.length).array());
+          messageDigest.update(attributeBytes);
+        }
+      }
+
+      return messageDigest.digest();
+    }
+    catch (GeneralSecurityException generalSecurityException) {
+      throw new IllegalStateException(
+        "SHA-256 is not supported", generalSecurityException);
+    }
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof DigestKey
+      && MessageDigest.isEqual(digest, ((DigestKey) other).digest);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(digest);
+  }
+}
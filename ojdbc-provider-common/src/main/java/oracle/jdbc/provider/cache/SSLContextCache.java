@@ -0,0 +1,150 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.cache;
+
+import oracle.jdbc.provider.factory.Resource;
+import oracle.jdbc.provider.factory.ResourceFactory;
+import oracle.jdbc.provider.parameter.Parameter;
+import oracle.jdbc.provider.parameter.ParameterSet;
+import oracle.jdbc.provider.util.TlsUtils;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+
+/**
+ * <p>
+ * A cache of {@link SSLContext} objects created from the content of a TLS
+ * file, such as a PKCS12, SSO, or PEM file that a provider has requested from
+ * a secret manager. Providers which are called for each connection may return
+ * the same {@code SSLContext} until the content of the file changes, rather
+ * than decoding the file and initializing a new {@code SSLContext} each time.
+ * </p><p>
+ * Reusing an {@code SSLContext} also retains its client session cache, which
+ * allows TLS sessions to be resumed by new connections to the same database.
+ * Resumption avoids the certificate exchange and key agreement of a full TLS
+ * handshake.
+ * </p><p>
+ * Contexts are identified by a SHA-256 digest of the file type, the file
+ * content, and the password. A new version of a secret has different content,
+ * and so it is mapped to a new {@code SSLContext}. The file content and the
+ * password are not retained by the cache. Contexts are cached by a
+ * {@link CachedResourceFactory}, which is cleared by
+ * {@link CacheController#clearAllCaches()}.
+ * </p><p>
+ * The client session cache of each {@code SSLContext} may be configured with
+ * the following system properties. If a property is not set, the default of
+ * the JDK is used.
+ * </p><ul>
+ *   <li>{@code oracle.jdbc.provider.TLS_SESSION_CACHE_SIZE}: The maximum
+ *   number of sessions cached by a context, or 0 for no limit.</li>
+ *   <li>{@code oracle.jdbc.provider.TLS_SESSION_TIMEOUT}: The number of
+ *   seconds that a cached session may be resumed, or 0 for no limit.</li>
+ * </ul>
+ */
+public final class SSLContextCache {
+
+  /** Maximum number of sessions cached by an SSLContext, or null */
+  private static final Integer SESSION_CACHE_SIZE =
+    Integer.getInteger("oracle.jdbc.provider.TLS_SESSION_CACHE_SIZE");
+
+  /** Seconds that a session may be resumed, or null */
+  private static final Integer SESSION_TIMEOUT =
+    Integer.getInteger("oracle.jdbc.provider.TLS_SESSION_TIMEOUT");
+
+  /**
+   * The TLS file that an SSLContext is created from. The type of the file is
+   * the attribute of the key, in upper case.
+   */
+  private static final Parameter<DigestKey> TLS_FILE = Parameter.create();
+
+  /** The cache of SSLContext objects, keyed by a {@link #TLS_FILE} */
+  private static final ResourceFactory<SSLContext> CACHE =
+    CachedResourceFactory.create(SSLContextCache::createSSLContext);
+
+  private SSLContextCache() { }
+
+  /**
+   * Returns an {@code SSLContext} initialized with the key and trust material
+   * of a file. The {@code SSLContext} is created by
+   * {@link TlsUtils#createSSLContext(byte[], char[], String)}, unless one has
+   * already been created for the same file content, type, and password.
+   *
+   * @param fileBytes The bytes of the file, decoded from base64. Not null.
+   * @param password The password of the file, or {@code null} if the file
+   * does not require a password.
+   * @param type The type of the file (PEM, PKCS12, or SSO). Not null.
+   * @return An initialized SSLContext. Not null.
+   * @throws IllegalStateException If the SSLContext can not be created.
+   */
+  public static SSLContext getSSLContext(
+    byte[] fileBytes, char[] password, String type) {
+    ParameterSet parameterSet = ParameterSet.builder()
+      .add("tlsFile", TLS_FILE,
+        new DigestKey(fileBytes, password, type.toUpperCase()))
+      .build();
+    return CACHE.request(parameterSet).getContent();
+  }
+
+  private static Resource<SSLContext> createSSLContext(
+    ParameterSet parameterSet) {
+    DigestKey tlsFile = parameterSet.getRequired(TLS_FILE);
+    try {
+      SSLContext sslContext = TlsUtils.createSSLContext(
+        tlsFile.getContent(), tlsFile.getPassword(), tlsFile.getAttribute(0));
+
+      SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+      if (SESSION_CACHE_SIZE != null)
+        sessionContext.setSessionCacheSize(SESSION_CACHE_SIZE);
+      if (SESSION_TIMEOUT != null)
+        sessionContext.setSessionTimeout(SESSION_TIMEOUT);
+
+      return Resource.createPermanentResource(sslContext, true);
+    }
+    catch (IllegalStateException illegalStateException) {
+      throw illegalStateException;
+    }
+    catch (Exception exception) {
+      throw new IllegalStateException(
+        "Failed to create SSLContext from the file", exception);
+    }
+    finally {
+      tlsFile.release();
+    }
+  }
+}
@@ -124,4 +124,23 @@ public interface Resource<T> {
     return new PermanentResource<>(value, isSensitive);
   }
 
+  /**
+   * Creates a resource for a failure to request a resource. The resource is
+   * never valid, and its {@link #getContent()} method throws the
+   * {@code failure}.
+   *
+   * @param failure The failure to request the resource. Not null.
+   * @param isSensitive {@code true} if the failure may contain security
+   * sensitive information, or {@code false} if not.
+   * @return A resource for the {@code failure}. Not null.
+   * @param <T> Specific type of object used to represent the content of the
+   * resource that failed.
+   */
+  static <T> FailedResource<T> createFailedResource(
+      RuntimeException failure, boolean isSensitive) {
+    Objects.requireNonNull(failure, "failure is null");
+
+    return new FailedResource<>(failure, isSensitive);
+  }
+
 }
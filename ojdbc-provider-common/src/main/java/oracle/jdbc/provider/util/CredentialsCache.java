@@ -0,0 +1,141 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.util;
+
+import oracle.jdbc.provider.cache.CacheController;
+import oracle.jdbc.provider.cache.CachedResourceFactory;
+import oracle.jdbc.provider.cache.DigestKey;
+import oracle.jdbc.provider.factory.Resource;
+import oracle.jdbc.provider.factory.ResourceFactory;
+import oracle.jdbc.provider.parameter.Parameter;
+import oracle.jdbc.provider.parameter.ParameterSet;
+
+import java.time.OffsetDateTime;
+
+/**
+ * <p>
+ * A short-lived cache of credentials extracted from a SEPS wallet by
+ * {@link WalletUtils#getCredentials(byte[], char[], String)}. The SEPS
+ * providers are called by Oracle JDBC for a username and then for a password,
+ * each time a connection is created. With this cache, the wallet is opened
+ * once, and its credentials are returned by both calls, and by later calls for
+ * other connections.
+ * </p><p>
+ * Credentials are identified by a SHA-256 digest of the wallet, the wallet
+ * password, and the connection string index. When a secret is rotated, its new
+ * version has a different digest, and the new wallet is opened. The wallet and
+ * its password are not retained by the cache.
+ * </p><p>
+ * Cached credentials expire after the number of seconds configured by the
+ * {@code oracle.jdbc.provider.CREDENTIALS_TIME_TO_LIVE} system property, or 5
+ * minutes by default. The cache is also cleared by
+ * {@link CacheController#clearAllCaches()}.
+ * </p>
+ */
+public final class CredentialsCache {
+
+  /** Seconds that credentials are cached */
+  private static final long TIME_TO_LIVE =
+    Long.getLong("oracle.jdbc.provider.CREDENTIALS_TIME_TO_LIVE", 300L);
+
+  /**
+   * The wallet that credentials are extracted from. The connection string
+   * index is the attribute of the key, or null if it is blank.
+   */
+  private static final Parameter<DigestKey> SEPS_WALLET = Parameter.create();
+
+  /** The cache of credentials, keyed by a {@link #SEPS_WALLET} */
+  private static final ResourceFactory<WalletUtils.Credentials> CACHE =
+    CachedResourceFactory.create(CredentialsCache::extractCredentials);
+
+  private CredentialsCache() { }
+
+  /**
+   * Returns credentials extracted from an Oracle wallet, as specified by
+   * {@link WalletUtils#getCredentials(byte[], char[], String)}. The wallet is
+   * only opened if the credentials are not cached.
+   *
+   * @param walletBytes The binary encoding of an SSO or PKCS12 wallet. Not
+   *                    {@code null}.
+   * @param walletPassword The password for the wallet, or {@code null} for
+   *                       SSO wallets.
+   * @param connectionStringIndex The index of the connection string to use,
+   *                              or {@code null} to use the default behavior.
+   * @return Credentials extracted from the wallet. The password is a copy
+   * that may be modified by the caller. Not null.
+   * @throws IllegalStateException If the wallet can not be opened, or does
+   * not contain the credentials.
+   */
+  public static WalletUtils.Credentials getCredentials(
+    byte[] walletBytes, char[] walletPassword, String connectionStringIndex) {
+    // A blank index is treated as if no index was given
+    if (connectionStringIndex != null
+      && connectionStringIndex.trim().isEmpty())
+      connectionStringIndex = null;
+
+    ParameterSet parameterSet = ParameterSet.builder()
+      .add("sepsWallet", SEPS_WALLET,
+        new DigestKey(walletBytes, walletPassword, connectionStringIndex))
+      .build();
+
+    WalletUtils.Credentials credentials =
+      CACHE.request(parameterSet).getContent();
+
+    return new WalletUtils.Credentials(
+      credentials.username,
+      credentials.password == null ? null : credentials.password.clone());
+  }
+
+  private static Resource<WalletUtils.Credentials> extractCredentials(
+    ParameterSet parameterSet) {
+    DigestKey sepsWallet = parameterSet.getRequired(SEPS_WALLET);
+    try {
+      return Resource.createExpiringResource(
+        WalletUtils.getCredentials(
+          sepsWallet.getContent(),
+          sepsWallet.getPassword(),
+          sepsWallet.getAttribute(0)),
+        OffsetDateTime.now().plusSeconds(TIME_TO_LIVE),
+        true);
+    }
+    finally {
+      sepsWallet.release();
+    }
+  }
+}
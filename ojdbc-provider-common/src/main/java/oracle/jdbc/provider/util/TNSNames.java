@@ -42,9 +42,11 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static java.lang.String.format;
@@ -130,39 +132,54 @@ public final class TNSNames {
    */
   public static TNSNames read(InputStream inputStream) {
 
-    BufferedReader reader =
-        new BufferedReader(new InputStreamReader(inputStream, UTF_8));
+    List<String> lines = new ArrayList<>();
+    try {
+      BufferedReader reader =
+          new BufferedReader(new InputStreamReader(inputStream, UTF_8));
 
-    EnumMap<ConsumerGroup, String> connectionStrings =
-        new EnumMap<>(ConsumerGroup.class);
-    Map<String, String> aliasConnectionStrings = new HashMap<>();
-      try {
-        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
-
-        // Search for a line that starts a new parameter, which is assumed to be
-        // an alias for a descriptor, like this:
-        // alias = (DESCRIPTION...
-        if (!isParameterStart(line))
-          continue;
-
-        // The service name is terminated by a space
-        int serviceNameEnd = line.indexOf(' ');
-        String serviceName = line.substring(0, serviceNameEnd);
-        ConsumerGroup consumerGroup = ConsumerGroup.fromServiceName(serviceName);
-
-        // The connection string may span multiple lines
-        String descriptor = parseDescriptor(line, reader);
-
-        connectionStrings.put(consumerGroup, descriptor);
-        // Add to alias mapping
-        aliasConnectionStrings.put(serviceName, descriptor);
-      }
+      for (String line = reader.readLine(); line != null; line = reader.readLine())
+        lines.add(line);
     }
     catch (IOException ioException) {
       throw new IllegalStateException(
           "Failed to read tnsnames.ora", ioException);
     }
 
+    EnumMap<ConsumerGroup, String> connectionStrings =
+        new EnumMap<>(ConsumerGroup.class);
+    Map<String, String> aliasConnectionStrings = new HashMap<>();
+
+    int lineIndex = 0;
+    while (lineIndex < lines.size()) {
+      String line = lines.get(lineIndex++);
+
+      // Search for a line that starts a new parameter, which is assumed to be
+      // an alias for a descriptor, like this:
+      // alias = (DESCRIPTION...
+      if (!isParameterStart(line))
+        continue;
+
+      // The service name is terminated by a space
+      int serviceNameEnd = line.indexOf(' ');
+      String serviceName = line.substring(0, serviceNameEnd);
+      ConsumerGroup consumerGroup = ConsumerGroup.fromServiceName(serviceName);
+
+      // The connection string may span multiple lines, up to the start of the
+      // next parameter
+      int descriptorEnd = lineIndex;
+      while (descriptorEnd < lines.size()
+          && !isParameterStart(lines.get(descriptorEnd)))
+        descriptorEnd++;
+
+      String descriptor =
+          parseDescriptor(line, lines.subList(lineIndex, descriptorEnd));
+      lineIndex = descriptorEnd;
+
+      connectionStrings.put(consumerGroup, descriptor);
+      // Add to alias mapping
+      aliasConnectionStrings.put(serviceName, descriptor);
+    }
+
     return new TNSNames(connectionStrings, aliasConnectionStrings);
   }
 
@@ -188,18 +205,16 @@ public final class TNSNames {
 
   /**
    * Returns a descriptor from a tnsnames.ora file, beginning from the
-   * {@code firstLine} and continuing into the next lines from a {@code reader}.
-   * The first line is expected to have the form:
+   * {@code firstLine} and continuing into the {@code nextLines}. The first line
+   * is expected to have the form:
    * <pre>
    *   alias = (DESCRIPTION=...
    * </pre>
-   * @implNote When this method returns, the reader is positioned after the
-   * line which followed after the description. If that line needs to be
-   * retained, this method should be modified to call
-   * {@link BufferedReader#mark(int)} and {@link BufferedReader#reset()}.
+   * The next lines are the lines which follow the first line, up to the start
+   * of a new parameter.
    */
   private static String parseDescriptor(
-      String firstLine, BufferedReader reader) throws IOException {
+      String firstLine, List<String> nextLines) {
 
     StringBuilder builder = new StringBuilder();
 
@@ -209,21 +224,7 @@ public final class TNSNames {
     if (descriptorStart < firstLine.length())
       builder.append(firstLine.substring(descriptorStart));
 
-    // Capture every line until a new parameter begins
-    while(true) {
-      // Place a mark in case the next line is the start of a new parameter
-      reader.mark(MAX_CONNECTION_STRING_SIZE);
-
-      String line = reader.readLine();
-
-      if (line == null)
-        break;
-
-      if (isParameterStart(line)) {
-        reader.reset();
-        break;
-      }
-
+    for (String line : nextLines) {
       int size = builder.length() + line.length();
       if (size > MAX_CONNECTION_STRING_SIZE) {
         throw new IllegalStateException(format(
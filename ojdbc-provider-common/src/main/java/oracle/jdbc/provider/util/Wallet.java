@@ -43,7 +43,6 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.security.KeyStore;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
@@ -52,7 +51,6 @@ import java.time.temporal.ChronoField;
 import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -80,21 +78,6 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  */
 public final class Wallet {
 
-  /** Name of the tnsnames.ora file in a wallet zip */
-  private static final String TNS_NAMES_FILE = "tnsnames.ora";
-
-  /** Name of the keystore file in a wallet zip */
-  private static final String KEY_STORE_FILE = "keystore.jks";
-
-  /** Name of the truststore file in a wallet zip */
-  private static final String TRUST_STORE_FILE = "truststore.jks";
-
-  /** Type of the keystore file in a wallet zip */
-  private static final String KEY_STORE_TYPE = "JKS";
-
-  /** Name of the README file in a wallet zip */
-  private static final String README_FILE = "README";
-
   /** Pattern to match the expiration date line in the README file */
   private static final Pattern EXPIRY_PATTERN = Pattern.compile(
     "The SSL certificates provided in this wallet will expire on ([\\d\\-\\.: ]+ UTC)\\.");
@@ -124,7 +107,7 @@ public final class Wallet {
       .appendPattern("X") // Accept 'Z' as offset
       .toFormatter(Locale.ENGLISH);
 
-  private Wallet(TNSNames tnsNames, SSLContext sslContext, OffsetDateTime expirationDate) {
+  Wallet(TNSNames tnsNames, SSLContext sslContext, OffsetDateTime expirationDate) {
     this.tnsNames = tnsNames;
     this.sslContext = sslContext;
     this.expirationDate = expirationDate;
@@ -210,7 +193,9 @@ public final class Wallet {
 
   /**
    * Unzips the stream of a wallet directory, returning a {@code Wallet} that
-   * retains the contents of any files relevant to Oracle JDBC.
+   * retains the contents of any files relevant to Oracle JDBC. The files are
+   * parsed concurrently, and the components parsed from them are cached by a
+   * digest of their content.
    * @param zipStream The input stream of the wallet zip file.
    * @param password The password used to decrypt the keystore.
    * @return A new {@code Wallet} instance containing the parsed wallet data.
@@ -218,56 +203,7 @@ public final class Wallet {
    * decoded.
    */
   public static Wallet unzip(ZipInputStream zipStream, char[] password) {
-
-    TNSNames tnsNames = null;
-    KeyStore keyStore = null;
-    KeyStore trustStore = null;
-    OffsetDateTime expirationDate = null;
-
-    try {
-      for (ZipEntry entry = zipStream.getNextEntry(); entry != null; entry = zipStream.getNextEntry()) {
-        switch (entry.getName()) {
-          case TNS_NAMES_FILE:
-            tnsNames = TNSNames.read(zipStream);
-            break;
-          case KEY_STORE_FILE:
-            keyStore =
-              TlsUtils.loadKeyStore(zipStream, password, KEY_STORE_TYPE, null);
-            break;
-          case TRUST_STORE_FILE:
-            trustStore =
-              TlsUtils.loadKeyStore(zipStream, null, KEY_STORE_TYPE, null);
-            break;
-          case README_FILE:
-            expirationDate = parseExpirationDateFromReadme(zipStream);
-            break;
-          default:
-            // Ignore other files
-        }
-      }
-    }
-    catch (IOException ioException) {
-      throw new IllegalStateException("Failed to read wallet ZIP", ioException);
-    }
-
-    if (tnsNames == null)
-      throw missingFile(TNS_NAMES_FILE);
-
-    if (keyStore == null)
-      throw missingFile(KEY_STORE_FILE);
-
-    if (trustStore == null)
-      throw missingFile(TRUST_STORE_FILE);
-
-    return new Wallet(
-      tnsNames,
-      TlsUtils.createSSLContext(keyStore, trustStore, password),
-      expirationDate);
-  }
-
-  /** Returns an exception for a missing file in the wallet ZIP */
-  private static IllegalStateException missingFile(String fileName) {
-    return new IllegalStateException("Wallet ZIP did not contain: " + fileName);
+    return WalletLoader.load(zipStream, password);
   }
 
   /**
@@ -0,0 +1,335 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.util;
+
+import oracle.jdbc.provider.cache.CachedResourceFactory;
+import oracle.jdbc.provider.cache.DigestKey;
+import oracle.jdbc.provider.factory.Resource;
+import oracle.jdbc.provider.factory.ResourceFactory;
+import oracle.jdbc.provider.parameter.Parameter;
+import oracle.jdbc.provider.parameter.ParameterSet;
+
+import javax.net.ssl.SSLContext;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.KeyStore;
+import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * <p>
+ * Loads the files of a wallet zip for {@link Wallet#unzip(ZipInputStream, char[])}.
+ * The zip is read once, and the files relevant to Oracle JDBC are retained in
+ * memory. The keystore and truststore are then loaded concurrently with the
+ * parsing of tnsnames.ora and the README file.
+ * </p><p>
+ * The components parsed from the files are cached by a SHA-256 digest of the
+ * file content. When many wallets are loaded, a truststore or tnsnames.ora
+ * that is shared by these wallets is only parsed once, and wallets with the
+ * same keystore and truststore share an {@code SSLContext}. The digest of a
+ * keystore includes its password. A failure to parse a file is not cached,
+ * so that it is parsed again for the next wallet that has the same file.
+ * </p>
+ */
+final class WalletLoader {
+
+  /** Name of the tnsnames.ora file in a wallet zip */
+  private static final String TNS_NAMES_FILE = "tnsnames.ora";
+
+  /** Name of the keystore file in a wallet zip */
+  private static final String KEY_STORE_FILE = "keystore.jks";
+
+  /** Name of the truststore file in a wallet zip */
+  private static final String TRUST_STORE_FILE = "truststore.jks";
+
+  /** Type of the keystore file in a wallet zip */
+  private static final String KEY_STORE_TYPE = "JKS";
+
+  /** Name of the README file in a wallet zip */
+  private static final String README_FILE = "README";
+
+  /** A keystore file */
+  private static final Parameter<DigestKey> KEY_STORE = Parameter.create();
+
+  /** A truststore file */
+  private static final Parameter<DigestKey> TRUST_STORE = Parameter.create();
+
+  /** A tnsnames.ora file */
+  private static final Parameter<DigestKey> TNS_NAMES = Parameter.create();
+
+  /** Cache of key and trust stores, keyed by a {@link #KEY_STORE} */
+  private static final ResourceFactory<KeyStore> KEY_STORE_CACHE =
+    CachedResourceFactory.create(WalletLoader::loadKeyStore);
+
+  /**
+   * Cache of SSLContext objects, keyed by a {@link #KEY_STORE} and a
+   * {@link #TRUST_STORE}
+   */
+  private static final ResourceFactory<SSLContext> SSL_CONTEXT_CACHE =
+    CachedResourceFactory.create(WalletLoader::createSSLContext);
+
+  /** Cache of tnsnames.ora files, keyed by a {@link #TNS_NAMES} */
+  private static final ResourceFactory<TNSNames> TNS_NAMES_CACHE =
+    CachedResourceFactory.create(WalletLoader::readTNSNames);
+
+  /**
+   * Executor that parses files concurrently with the thread that loads a
+   * wallet. Threads are created as needed, up to the number of available
+   * processors, and terminate when idle.
+   */
+  private static final ExecutorService EXECUTOR;
+  static {
+    int threads = Runtime.getRuntime().availableProcessors();
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+      threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+      runnable -> {
+        Thread thread =
+          new Thread(runnable, "ojdbc-provider-common: Wallet Loader");
+        thread.setDaemon(true);
+        return thread;
+      });
+    executor.allowCoreThreadTimeOut(true);
+    EXECUTOR = executor;
+  }
+
+  private WalletLoader() { }
+
+  /**
+   * Loads the files of a wallet zip.
+   *
+   * @param zipStream The input stream of the wallet zip file. Not null.
+   * @param password The password used to decrypt the keystore.
+   * @return A new {@code Wallet} instance containing the parsed wallet data.
+   * Not null.
+   * @throws IllegalStateException If the files are not found or can not be
+   * decoded.
+   */
+  static Wallet load(ZipInputStream zipStream, char[] password) {
+    byte[] tnsNamesBytes = null;
+    byte[] keyStoreBytes = null;
+    byte[] trustStoreBytes = null;
+    byte[] readmeBytes = null;
+
+    try {
+      for (ZipEntry entry = zipStream.getNextEntry();
+           entry != null;
+           entry = zipStream.getNextEntry()) {
+        switch (entry.getName()) {
+          case TNS_NAMES_FILE:
+            tnsNamesBytes = readEntry(zipStream, entry);
+            break;
+          case KEY_STORE_FILE:
+            keyStoreBytes = readEntry(zipStream, entry);
+            break;
+          case TRUST_STORE_FILE:
+            trustStoreBytes = readEntry(zipStream, entry);
+            break;
+          case README_FILE:
+            readmeBytes = readEntry(zipStream, entry);
+            break;
+          default:
+            // Ignore other files
+        }
+      }
+    }
+    catch (IOException ioException) {
+      throw new IllegalStateException("Failed to read wallet ZIP", ioException);
+    }
+
+    if (tnsNamesBytes == null)
+      throw missingFile(TNS_NAMES_FILE);
+
+    if (keyStoreBytes == null)
+      throw missingFile(KEY_STORE_FILE);
+
+    if (trustStoreBytes == null)
+      throw missingFile(TRUST_STORE_FILE);
+
+    ParameterSet tnsNamesParameters = ParameterSet.builder()
+      .add(TNS_NAMES_FILE, TNS_NAMES, new DigestKey(tnsNamesBytes, null))
+      .build();
+    CompletableFuture<TNSNames> tnsNamesFuture = CompletableFuture.supplyAsync(
+      () -> TNS_NAMES_CACHE.request(tnsNamesParameters).getContent(),
+      EXECUTOR);
+
+    ParameterSet sslContextParameters = ParameterSet.builder()
+      .add(KEY_STORE_FILE, KEY_STORE, new DigestKey(keyStoreBytes, password))
+      .add(TRUST_STORE_FILE, TRUST_STORE, new DigestKey(trustStoreBytes, null))
+      .build();
+    SSLContext sslContext =
+      SSL_CONTEXT_CACHE.request(sslContextParameters).getContent();
+
+    OffsetDateTime expirationDate;
+    try {
+      expirationDate = readmeBytes == null
+        ? null
+        : Wallet.parseExpirationDateFromReadme(
+            new ByteArrayInputStream(readmeBytes));
+    }
+    catch (IOException ioException) {
+      // Not expected from a ByteArrayInputStream
+      throw new IllegalStateException("Failed to read README", ioException);
+    }
+
+    return new Wallet(await(tnsNamesFuture), sslContext, expirationDate);
+  }
+
+  /**
+   * Reads the content of the current entry of a zip stream, into an array
+   * sized by the uncompressed size of the entry if it is known.
+   */
+  private static byte[] readEntry(ZipInputStream zipStream, ZipEntry entry)
+    throws IOException {
+    long size = entry.getSize();
+    ByteArrayOutputStream content = new ByteArrayOutputStream(
+      size > 0 && size < Integer.MAX_VALUE ? (int) size : 8192);
+    byte[] buffer = new byte[8192];
+    for (int length = zipStream.read(buffer);
+         length != -1;
+         length = zipStream.read(buffer)) {
+      content.write(buffer, 0, length);
+    }
+    return content.toByteArray();
+  }
+
+  /** Returns an exception for a missing file in the wallet ZIP */
+  private static IllegalStateException missingFile(String fileName) {
+    return new IllegalStateException("Wallet ZIP did not contain: " + fileName);
+  }
+
+  /**
+   * Creates an {@code SSLContext} from a keystore and truststore. The
+   * truststore is loaded by another thread while this thread loads the
+   * keystore.
+   */
+  private static Resource<SSLContext> createSSLContext(
+    ParameterSet parameterSet) {
+    DigestKey keyStoreFile = parameterSet.getRequired(KEY_STORE);
+    DigestKey trustStoreFile = parameterSet.getRequired(TRUST_STORE);
+    CompletableFuture<KeyStore> trustStoreFuture =
+      CompletableFuture.supplyAsync(
+        () -> requestKeyStore(trustStoreFile), EXECUTOR);
+    try {
+      KeyStore keyStore = requestKeyStore(keyStoreFile);
+
+      return Resource.createPermanentResource(
+        TlsUtils.createSSLContext(
+          keyStore, await(trustStoreFuture), keyStoreFile.getPassword()),
+        true);
+    }
+    catch (RuntimeException exception) {
+      return Resource.createFailedResource(exception, false);
+    }
+    finally {
+      // If the keystore failed to load, the truststore may still be loading
+      // from the content of its file. Wait for it before releasing the file.
+      trustStoreFuture.handle((trustStore, failure) -> null).join();
+      keyStoreFile.release();
+      trustStoreFile.release();
+    }
+  }
+
+  private static KeyStore requestKeyStore(DigestKey walletFile) {
+    ParameterSet parameterSet = ParameterSet.builder()
+      .add(KEY_STORE_FILE, KEY_STORE, walletFile)
+      .build();
+    return KEY_STORE_CACHE.request(parameterSet).getContent();
+  }
+
+  private static Resource<KeyStore> loadKeyStore(ParameterSet parameterSet) {
+    DigestKey walletFile = parameterSet.getRequired(KEY_STORE);
+    try {
+      return Resource.createPermanentResource(
+        TlsUtils.loadKeyStore(
+          new ByteArrayInputStream(walletFile.getContent()),
+          walletFile.getPassword(),
+          KEY_STORE_TYPE,
+          null),
+        true);
+    }
+    catch (RuntimeException exception) {
+      return Resource.createFailedResource(exception, false);
+    }
+  }
+
+  private static Resource<TNSNames> readTNSNames(ParameterSet parameterSet) {
+    DigestKey walletFile = parameterSet.getRequired(TNS_NAMES);
+    try {
+      return Resource.createPermanentResource(
+        TNSNames.read(new ByteArrayInputStream(walletFile.getContent())),
+        false);
+    }
+    catch (RuntimeException exception) {
+      return Resource.createFailedResource(exception, false);
+    }
+    finally {
+      walletFile.release();
+    }
+  }
+
+  /**
+   * Returns the result of a future, rethrowing any exception that completed
+   * it exceptionally.
+   */
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    }
+    catch (CompletionException completionException) {
+      Throwable cause = completionException.getCause();
+
+      if (cause instanceof RuntimeException)
+        throw (RuntimeException) cause;
+
+      if (cause instanceof Error)
+        throw (Error) cause;
+
+      throw completionException;
+    }
+  }
+}
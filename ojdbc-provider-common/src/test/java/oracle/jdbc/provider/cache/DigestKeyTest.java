@@ -0,0 +1,94 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Verifies {@link DigestKey} */
+public class DigestKeyTest {
+
+  private static final byte[] CONTENT = "content".getBytes(UTF_8);
+
+  /**
+   * Verifies that keys are equal if they have the same content, password, and
+   * attributes, and that they remain equal once released.
+   */
+  @Test
+  public void testEquals() {
+    DigestKey key = new DigestKey(CONTENT, "password".toCharArray(), "A");
+    DigestKey same = new DigestKey(CONTENT.clone(), "password".toCharArray(), "A");
+    assertEquals(key, same);
+    assertEquals(key.hashCode(), same.hashCode());
+
+    assertNotEquals(key, new DigestKey(CONTENT, "other".toCharArray(), "A"));
+    assertNotEquals(key, new DigestKey(CONTENT, null, "A"));
+    assertNotEquals(key, new DigestKey(CONTENT, "password".toCharArray(), "B"));
+    assertNotEquals(key, new DigestKey(CONTENT, "password".toCharArray()));
+    assertNotEquals(
+      new DigestKey(CONTENT, null, null, "A"),
+      new DigestKey(CONTENT, null, "A", null));
+
+    key.release();
+    assertEquals(key, same);
+  }
+
+  /**
+   * Verifies that the content and a copy of the password are retained until
+   * the key is released, and that the password is cleared.
+   */
+  @Test
+  public void testRelease() {
+    char[] password = "password".toCharArray();
+    DigestKey key = new DigestKey(CONTENT, password, "PEM");
+    assertSame(CONTENT, key.getContent());
+    assertArrayEquals(password, key.getPassword());
+    assertNotSame(password, key.getPassword());
+
+    char[] retained = key.getPassword();
+    key.release();
+    assertArrayEquals(new char[password.length], retained);
+    assertArrayEquals("password".toCharArray(), password);
+    assertThrows(IllegalStateException.class, key::getContent);
+    assertThrows(IllegalStateException.class, key::getPassword);
+    assertEquals("PEM", key.getAttribute(0));
+  }
+}
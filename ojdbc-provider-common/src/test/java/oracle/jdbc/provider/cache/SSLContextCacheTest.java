@@ -0,0 +1,222 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.cache;
+
+import oracle.jdbc.provider.util.TlsUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLServerSocket;
+import javax.net.ssl.SSLSocket;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Verifies {@link SSLContextCache} */
+public class SSLContextCacheTest {
+
+  /** Number of connections established by the benchmark */
+  private static final int CONNECTIONS = 200;
+
+  /**
+   * Verifies that the same {@code SSLContext} is returned for the same file,
+   * and that a new one is created when the file or password changes.
+   */
+  @Test
+  public void testCache() throws Exception {
+    byte[] pem = readTestFile();
+
+    SSLContext sslContext = SSLContextCache.getSSLContext(pem, password(), "PEM");
+    assertSame(sslContext,
+      SSLContextCache.getSSLContext(pem.clone(), password(), "pem"));
+    assertNotSame(sslContext,
+      SSLContextCache.getSSLContext(pem, "other".toCharArray(), "PEM"));
+
+    byte[] newVersion = new byte[pem.length + 1];
+    System.arraycopy(pem, 0, newVersion, 0, pem.length);
+    newVersion[pem.length] = '\n';
+    assertNotSame(sslContext,
+      SSLContextCache.getSSLContext(newVersion, password(), "PEM"));
+
+    CacheController.clearAllCaches();
+    assertNotSame(sslContext, SSLContextCache.getSSLContext(pem, password(), "PEM"));
+
+    assertThrows(IllegalStateException.class,
+      () -> SSLContextCache.getSSLContext(new byte[10], password(), "PEM"));
+  }
+
+  /**
+   * Verifies that a connection with a cached {@code SSLContext} resumes the
+   * session of the previous connection, and that a connection with a new
+   * {@code SSLContext} does not.
+   */
+  @Test
+  public void testResumption() throws Exception {
+    byte[] pem = readTestFile();
+    try (TlsServer server = new TlsServer(pem)) {
+      byte[] sessionId =
+        server.connect(SSLContextCache.getSSLContext(pem, password(), "PEM"));
+      assertArrayEquals(sessionId,
+        server.connect(SSLContextCache.getSSLContext(pem, password(), "PEM")));
+      assertFalse(Arrays.equals(sessionId,
+        server.connect(TlsUtils.createSSLContext(pem, password(), "PEM"))));
+    }
+  }
+
+  /**
+   * Measures the time to establish TLS connections when each connection
+   * creates a new {@code SSLContext}, and when each connection gets the
+   * {@code SSLContext} from the cache, which allows sessions to be resumed.
+   * This benchmark only runs when the {@code oracle.jdbc.provider.benchmark}
+   * system property is {@code true}.
+   */
+  @Test
+  @EnabledIfSystemProperty(named = "oracle.jdbc.provider.benchmark", matches = "true")
+  public void benchmarkResumption() throws Exception {
+    byte[] pem = readTestFile();
+
+    try (TlsServer server = new TlsServer(pem)) {
+      // Warm up both paths
+      for (int i = 0; i < 20; i++) {
+        server.connect(TlsUtils.createSSLContext(pem, password(), "PEM"));
+        server.connect(SSLContextCache.getSSLContext(pem, password(), "PEM"));
+      }
+
+      long start = System.nanoTime();
+      for (int i = 0; i < CONNECTIONS; i++) {
+        server.connect(TlsUtils.createSSLContext(pem, password(), "PEM"));
+      }
+      long uncached = (System.nanoTime() - start) / 1_000_000;
+
+      byte[] sessionId =
+        server.connect(SSLContextCache.getSSLContext(pem, password(), "PEM"));
+      start = System.nanoTime();
+      for (int i = 0; i < CONNECTIONS; i++) {
+        assertArrayEquals(sessionId, server.connect(
+          SSLContextCache.getSSLContext(pem, password(), "PEM")));
+      }
+      long cached = (System.nanoTime() - start) / 1_000_000;
+
+      System.out.println(CONNECTIONS + " TLS connections, new SSLContext: "
+        + uncached + " ms, cached SSLContext: " + cached + " ms");
+    }
+  }
+
+  /**
+   * A server on the loopback address, which completes a TLS handshake with
+   * each connection and writes one byte.
+   */
+  private static final class TlsServer implements AutoCloseable {
+
+    private final SSLServerSocket serverSocket;
+
+    private final CompletableFuture<Void> server;
+
+    TlsServer(byte[] pem) throws Exception {
+      SSLContext serverContext =
+        TlsUtils.createSSLContext(pem, password(), "PEM");
+      serverSocket = (SSLServerSocket) serverContext.getServerSocketFactory()
+        .createServerSocket(0, 50, InetAddress.getLoopbackAddress());
+
+      server = CompletableFuture.runAsync(() -> {
+        while (true) {
+          try (SSLSocket socket = (SSLSocket) serverSocket.accept()) {
+            socket.setTcpNoDelay(true);
+            socket.startHandshake();
+            socket.getOutputStream().write(1);
+            socket.getOutputStream().flush();
+          }
+          catch (SocketException closed) {
+            return;
+          }
+          catch (Exception exception) {
+            throw new IllegalStateException(exception);
+          }
+        }
+      });
+    }
+
+    /**
+     * Connects with an {@code SSLContext}, and returns the ID of the session.
+     */
+    byte[] connect(SSLContext sslContext) throws Exception {
+      try (SSLSocket socket = (SSLSocket) sslContext.getSocketFactory()
+             .createSocket(InetAddress.getLoopbackAddress(),
+               serverSocket.getLocalPort())) {
+        socket.setTcpNoDelay(true);
+        socket.startHandshake();
+        assertEquals(1, socket.getInputStream().read());
+        return socket.getSession().getId();
+      }
+    }
+
+    @Override
+    public void close() throws Exception {
+      serverSocket.close();
+      server.join();
+    }
+  }
+
+  /**
+   * Returns the password of the key entry. The private key of the test file
+   * is not encrypted, but a key entry of a JKS requires a password.
+   */
+  private static char[] password() {
+    return "password".toCharArray();
+  }
+
+  private static byte[] readTestFile() throws Exception {
+    try (InputStream inputStream =
+           SSLContextCacheTest.class.getResourceAsStream("test-tls.pem")) {
+      assertNotNull(inputStream);
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      byte[] buffer = new byte[1024];
+      int length;
+      while ((length = inputStream.read(buffer)) > -1)
+        output.write(buffer, 0, length);
+      return output.toByteArray();
+    }
+  }
+}
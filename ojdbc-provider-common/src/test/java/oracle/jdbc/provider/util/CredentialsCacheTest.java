@@ -0,0 +1,156 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.util;
+
+import oracle.security.pki.OracleSecretStore;
+import oracle.security.pki.OracleWallet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Verifies {@link CredentialsCache} */
+public class CredentialsCacheTest {
+
+  /** Number of times that credentials are requested by the benchmark */
+  private static final int REQUESTS = 200;
+
+  private static final char[] WALLET_PASSWORD = "Wallet#Pa55word".toCharArray();
+
+  /**
+   * Verifies that cached credentials are returned for the same wallet, and
+   * that a new version of the wallet is opened.
+   */
+  @Test
+  public void testCache() throws Exception {
+    byte[] wallet = createWallet("scott", "tiger");
+
+    WalletUtils.Credentials credentials =
+      CredentialsCache.getCredentials(wallet, WALLET_PASSWORD.clone(), null);
+    assertEquals("scott", credentials.username());
+    assertArrayEquals("tiger".toCharArray(), credentials.password());
+
+    // The password returned to a caller is a copy, which the caller may clear
+    Arrays.fill(credentials.password(), '\0');
+    WalletUtils.Credentials cached =
+      CredentialsCache.getCredentials(wallet.clone(), WALLET_PASSWORD.clone(), " ");
+    assertEquals("scott", cached.username());
+    assertArrayEquals("tiger".toCharArray(), cached.password());
+    assertNotSame(credentials.password(), cached.password());
+
+    // A rotated secret is a different wallet
+    byte[] rotated = createWallet("scott", "lion");
+    assertArrayEquals("lion".toCharArray(),
+      CredentialsCache.getCredentials(rotated, WALLET_PASSWORD.clone(), null)
+        .password());
+
+    assertThrows(IllegalStateException.class, () ->
+      CredentialsCache.getCredentials(
+        wallet, "wrong".toCharArray(), null));
+    assertThrows(IllegalStateException.class, () ->
+      CredentialsCache.getCredentials(wallet, WALLET_PASSWORD.clone(), "1"));
+  }
+
+  /**
+   * Compares the time to request a username and password, for a number of
+   * connections, with and without the cache. This benchmark only runs when
+   * the {@code oracle.jdbc.provider.benchmark} system property is
+   * {@code true}.
+   */
+  @Test
+  @EnabledIfSystemProperty(named = "oracle.jdbc.provider.benchmark", matches = "true")
+  public void benchmarkCache() throws Exception {
+    byte[] wallet = createWallet("benchmark", "password");
+
+    long start = System.nanoTime();
+    for (int i = 0; i < REQUESTS; i++) {
+      assertEquals("benchmark",
+        WalletUtils.getCredentials(wallet, WALLET_PASSWORD, null).username());
+      assertArrayEquals("password".toCharArray(),
+        WalletUtils.getCredentials(wallet, WALLET_PASSWORD, null).password());
+    }
+    long uncached = (System.nanoTime() - start) / 1_000_000;
+
+    start = System.nanoTime();
+    for (int i = 0; i < REQUESTS; i++) {
+      assertEquals("benchmark",
+        CredentialsCache.getCredentials(wallet, WALLET_PASSWORD, null).username());
+      assertArrayEquals("password".toCharArray(),
+        CredentialsCache.getCredentials(wallet, WALLET_PASSWORD, null).password());
+    }
+    long cached = (System.nanoTime() - start) / 1_000_000;
+
+    System.out.println(
+      REQUESTS + " connections, uncached: " + uncached + " ms, cached: "
+        + cached + " ms");
+  }
+
+  /**
+   * Returns the bytes of a PKCS12 wallet holding a default username and
+   * password.
+   */
+  private static byte[] createWallet(String username, String password)
+    throws Exception {
+    Path directory = Files.createTempDirectory("credentials-cache-test");
+    try {
+      OracleWallet wallet = new OracleWallet();
+      wallet.create(WALLET_PASSWORD.clone());
+      OracleSecretStore secretStore = wallet.getSecretStore();
+      secretStore.setSecret(
+        "oracle.security.client.default_username", username.toCharArray());
+      secretStore.setSecret(
+        "oracle.security.client.default_password", password.toCharArray());
+      wallet.setSecretStore(secretStore);
+      wallet.saveAs(directory.toString());
+      return Files.readAllBytes(directory.resolve("ewallet.p12"));
+    }
+    finally {
+      try (Stream<Path> files = Files.list(directory)) {
+        for (Path file : (Iterable<Path>) files::iterator)
+          Files.delete(file);
+      }
+      Files.delete(directory);
+    }
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.security.KeyStore;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Verifies {@link Wallet} and {@link TNSNames} */
+public class WalletTest {
+
+  private static final String HIGH_CONNECTION_STRING =
+    "(description=(address=(protocol=tcps)(port=1522)(host=example.com))"
+      + "(connect_data=(service_name=test_high.adb.oraclecloud.com)))";
+
+  private static final String LOW_CONNECTION_STRING =
+    "(description=(address=(protocol=tcps)(port=1522)(host=example.com))"
+      + "(connect_data=(service_name=test_low.adb.oraclecloud.com)))";
+
+  private static final String TNS_NAMES =
+    "# Generated by the ADB service\n"
+      + "test_high = (description=\n"
+      + "  (address=(protocol=tcps)(port=1522)(host=example.com))\n"
+      + "  (connect_data=(service_name=test_high.adb.oraclecloud.com)))\n"
+      + "\n"
+      + "test_low = " + LOW_CONNECTION_STRING + "\n";
+
+  private static final String README =
+    "Wallet README\n"
+      + "The SSL certificates provided in this wallet will expire on"
+      + " 2031-02-03 04:05:06.789 UTC.\n";
+
+  /**
+   * Verifies that the files of a wallet zip are parsed, and that wallets with
+   * the same keystore and truststore share an {@code SSLContext}.
+   */
+  @Test
+  public void testUnzip() throws Exception {
+    char[] password = "Wallet#Pa55word".toCharArray();
+    byte[] keyStore = createKeyStore(password);
+    byte[] trustStore = createKeyStore(password);
+
+    Wallet wallet = unzip(
+      createWalletZip(TNS_NAMES, keyStore, trustStore, README), password);
+    assertEquals(HIGH_CONNECTION_STRING,
+      wallet.getHighConnectionString().replaceAll("\\s", ""));
+    assertEquals(LOW_CONNECTION_STRING, wallet.getLowConnectionString().trim());
+    assertThrows(IllegalStateException.class, wallet::getMediumConnectionString);
+    assertEquals(
+      OffsetDateTime.of(2031, 2, 3, 4, 5, 6, 789_000_000, ZoneOffset.UTC),
+      wallet.getExpirationDate());
+
+    Wallet sameStores = unzip(
+      createWalletZip(
+        "test_tp = " + HIGH_CONNECTION_STRING, keyStore, trustStore, null),
+      password);
+    assertSame(wallet.getSSLContext(), sameStores.getSSLContext());
+    assertEquals(HIGH_CONNECTION_STRING,
+      sameStores.getTransactionProcessingConnectionString().trim());
+    assertNull(sameStores.getExpirationDate());
+
+    char[] otherPassword = "Other#Pa55word".toCharArray();
+    Wallet otherKeyStore = unzip(
+      createWalletZip(
+        TNS_NAMES, createKeyStore(otherPassword), trustStore, README),
+      otherPassword);
+    assertNotSame(wallet.getSSLContext(), otherKeyStore.getSSLContext());
+
+    assertThrows(IllegalStateException.class, () ->
+      unzip(createWalletZip(TNS_NAMES, keyStore, trustStore, README),
+        "wrong".toCharArray()));
+    assertThrows(IllegalStateException.class, () ->
+      unzip(createWalletZip(TNS_NAMES, keyStore, null, README), password));
+  }
+
+  /**
+   * Verifies that a wallet with a keystore that can not be loaded does not
+   * cause a failure for another wallet with the same truststore.
+   */
+  @Test
+  public void testInvalidKeyStore() throws Exception {
+    char[] password = "Wallet#Pa55word".toCharArray();
+    byte[] keyStore = createKeyStore(password);
+    byte[] invalidKeyStore = "not a keystore".getBytes(UTF_8);
+
+    for (int i = 0; i < 20; i++) {
+      // A distinct truststore for each iteration, so it is not yet cached
+      char[] trustStorePassword = ("Trust#Pa55word" + i).toCharArray();
+      byte[] trustStore = createKeyStore(trustStorePassword);
+
+      assertThrows(IllegalStateException.class, () ->
+        unzip(createWalletZip(TNS_NAMES, invalidKeyStore, trustStore, README),
+          password));
+
+      Wallet wallet = unzip(
+        createWalletZip(TNS_NAMES, keyStore, trustStore, README), password);
+      assertNotNull(wallet.getSSLContext());
+    }
+  }
+
+  /**
+   * Verifies that each connection string ends where the next parameter starts,
+   * including a parameter of nearly the maximum size, and that a connection
+   * string which exceeds the maximum size is rejected.
+   */
+  @Test
+  public void testTNSNames() {
+    StringBuilder addresses = new StringBuilder();
+    while (addresses.length() < 3_900)
+      addresses.append("(address=(protocol=tcps)(port=1522)(host=example.com))");
+    String longConnectionString =
+      "(description=(address_list=" + addresses + ")"
+        + "(connect_data=(service_name=test_low.adb.oraclecloud.com)))";
+
+    TNSNames tnsNames = readTNSNames(
+      "test_high = " + HIGH_CONNECTION_STRING + "\n"
+        + "test_low = " + longConnectionString + "\n"
+        + "test_tp = " + HIGH_CONNECTION_STRING);
+    assertEquals(HIGH_CONNECTION_STRING,
+      tnsNames.getConnectionString(TNSNames.ConsumerGroup.HIGH).trim());
+    assertEquals(longConnectionString,
+      tnsNames.getConnectionStringByAlias("test_low").trim());
+    assertEquals(HIGH_CONNECTION_STRING,
+      tnsNames.getConnectionString(
+        TNSNames.ConsumerGroup.TRANSACTION_PROCESSING).trim());
+
+    assertThrows(IllegalStateException.class, () -> readTNSNames(
+      "test_high = (description=\n"
+        + "  (address_list=" + addresses + addresses + ")\n"
+        + "  (connect_data=(service_name=test_high.adb.oraclecloud.com)))"));
+  }
+
+  private static TNSNames readTNSNames(String content) {
+    return TNSNames.read(new ByteArrayInputStream(content.getBytes(UTF_8)));
+  }
+
+  private static Wallet unzip(byte[] zip, char[] password) {
+    return Wallet.unzip(
+      new ZipInputStream(new ByteArrayInputStream(zip)), password);
+  }
+
+  private static byte[] createWalletZip(
+    String tnsNames, byte[] keyStore, byte[] trustStore, String readme)
+    throws Exception {
+    ByteArrayOutputStream zip = new ByteArrayOutputStream();
+    try (ZipOutputStream zipStream = new ZipOutputStream(zip)) {
+      zipStream.putNextEntry(new ZipEntry("tnsnames.ora"));
+      zipStream.write(tnsNames.getBytes(UTF_8));
+
+      zipStream.putNextEntry(new ZipEntry("keystore.jks"));
+      zipStream.write(keyStore);
+
+      if (trustStore != null) {
+        zipStream.putNextEntry(new ZipEntry("truststore.jks"));
+        zipStream.write(trustStore);
+      }
+
+      if (readme != null) {
+        zipStream.putNextEntry(new ZipEntry("README"));
+        zipStream.write(readme.getBytes(UTF_8));
+      }
+    }
+    return zip.toByteArray();
+  }
+
+  private static byte[] createKeyStore(char[] password) throws Exception {
+    KeyStore keyStore = KeyStore.getInstance("JKS");
+    keyStore.load(null, null);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    keyStore.store(output, password);
+    return output.toByteArray();
+  }
+}
@@ -40,6 +40,7 @@ package oracle.jdbc.provider.gcp.resource;
 
 import oracle.jdbc.provider.parameter.ParameterSet;
 import oracle.jdbc.provider.resource.ResourceParameter;
+import oracle.jdbc.provider.util.CredentialsCache;
 import oracle.jdbc.provider.util.WalletUtils;
 import oracle.jdbc.spi.PasswordProvider;
 import oracle.jdbc.spi.UsernameProvider;
@@ -118,6 +119,6 @@ public class GcpSecretManagerSEPSProvider
             : null;
 
     String connectionStringIndex = parameterSet.getOptional(CONNECTION_STRING_INDEX);
-    return WalletUtils.getCredentials(walletBytes, walletPassword, connectionStringIndex);
+    return CredentialsCache.getCredentials(walletBytes, walletPassword, connectionStringIndex);
   }
 }
@@ -41,6 +41,7 @@ package oracle.jdbc.provider.hashicorp.hcpvaultdedicated.resource;
 import oracle.jdbc.provider.parameter.ParameterSet;
 import oracle.jdbc.provider.resource.ResourceParameter;
 import oracle.jdbc.provider.util.FileUtils;
+import oracle.jdbc.provider.util.CredentialsCache;
 import oracle.jdbc.provider.util.WalletUtils;
 import oracle.jdbc.spi.OracleResourceProvider;
 import oracle.jdbc.spi.PasswordProvider;
@@ -118,7 +119,7 @@ public class HcpVaultDedicatedSEPSProvider
       ? parameterSet.getOptional(PASSWORD).toCharArray() : null;
 
     String connectionStringIndex = parameterSet.getOptional(CONNECTION_STRING_INDEX);
-    return WalletUtils.getCredentials(walletBytes, walletPassword, connectionStringIndex);
+    return CredentialsCache.getCredentials(walletBytes, walletPassword, connectionStringIndex);
   }
 
 }
@@ -40,7 +40,7 @@ package oracle.jdbc.provider.hashicorp.hcpvaultdedicated.resource;
 
 import oracle.jdbc.provider.parameter.ParameterSet;
 import oracle.jdbc.provider.resource.ResourceParameter;
-import oracle.jdbc.provider.util.TlsUtils;
+import oracle.jdbc.provider.cache.SSLContextCache;
 import oracle.jdbc.spi.TlsConfigurationProvider;
 
 import javax.net.ssl.SSLContext;
@@ -115,7 +115,7 @@ public class HcpVaultDedicatedTCPSProvider
         ? parameterSet.getOptional(PASSWORD).toCharArray() : null;
 
       String type = parameterSet.getRequired(TYPE);
-      return TlsUtils.createSSLContext(fileBytes, password, type);
+      return SSLContextCache.getSSLContext(fileBytes, password, type);
     } catch (Exception e) {
       throw new IllegalStateException
               ("Failed to create SSLContext from the file", e);
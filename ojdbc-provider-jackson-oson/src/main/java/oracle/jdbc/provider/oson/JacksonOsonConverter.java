@@ -38,15 +38,29 @@
 
 package oracle.jdbc.provider.oson;
 
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import com.fasterxml.jackson.databind.util.LRUMap;
 import oracle.jdbc.spi.OsonConverter;
+import oracle.sql.json.OracleJsonFactory;
 import oracle.sql.json.OracleJsonGenerator;
 import oracle.sql.json.OracleJsonParser;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -89,7 +103,34 @@ public class JacksonOsonConverter implements OsonConverter{
   private static final OsonFactory osonFactory = new OsonFactory();
   private static final ObjectMapper om = new ObjectMapper(osonFactory);
   private static final Logger logger = Logger.getLogger(JacksonOsonConverter.class.getName());
-  
+
+  /**
+   * Generators and parsers that are reused for each value the driver converts.
+   */
+  private static final OsonRecyclerPool recyclerPool = new OsonRecyclerPool(osonFactory);
+
+  /**
+   * Factory for the OracleJsonGenerators that write the OSON images of
+   * {@link #serializeAll(List, Class, ForkJoinPool)}.
+   */
+  private static final OracleJsonFactory oracleJsonFactory = new OracleJsonFactory();
+
+  /**
+   * Minimum number of values for which {@link #serializeAll(List, Class, ForkJoinPool)}
+   * splits the work across a pool.
+   */
+  private static final int PARALLEL_THRESHOLD = 1024;
+
+  /**
+   * Maximum number of types for which a reader and a writer are cached.
+   */
+  private static final int MAX_CACHED_TYPES = 1000;
+
+  /**
+   * Readers and writers created from the current configuration of the mapper.
+   */
+  private static volatile TypeCache typeCache;
+
   static {
     om.findAndRegisterModules();
     om.registerModule(new OsonModule());
@@ -111,12 +152,20 @@ public class JacksonOsonConverter implements OsonConverter{
   @Override
   public void serialize(OracleJsonGenerator oGen, Object object) throws IllegalStateException {
     logger.log(Level.FINEST, "Serializing to OSON");
+    OsonGenerator generator = recyclerPool.acquireGenerator(oGen);
     try {
-      om.writeValue(osonFactory.createGenerator(oGen), object);
+      if (object == null) {
+        om.writeValue(generator, null);
+      } else {
+        writerFor(object.getClass()).writeValue(generator, object);
+      }
     } 
     catch (IOException e) {
       throw new IllegalStateException("Oson conversion failed", e);
     }
+    finally {
+      recyclerPool.release(generator);
+    }
   }
 
   /**
@@ -131,12 +180,170 @@ public class JacksonOsonConverter implements OsonConverter{
   public Object deserialize(OracleJsonParser oParser, Class<?> type) throws IllegalStateException {
     logger.log(Level.FINEST, "Deserializing OSON");
     if(!oParser.hasNext()) return null;
+    OsonParser parser = recyclerPool.acquireParser(oParser);
     try {
-      return om.readValue(osonFactory.createParser(oParser), type);
+      return readerFor(type).readValue(parser);
     } 
     catch (IOException e) {
       throw new IllegalArgumentException("Object parsing from oson failed", e);
     }
+    finally {
+      recyclerPool.release(parser);
+    }
+  }
+
+  /**
+   * Serializes a list of objects into one OSON image per object. This is
+   * intended for batch inserts of JSON columns, where each image can be bound
+   * with {@link java.sql.PreparedStatement#setBytes(int, byte[])}. The root
+   * serializer for {@code type} is resolved once, and a single output buffer
+   * is reused for all of the values.
+   *
+   * @param values the objects to serialize. Elements may be null.
+   * @param type the type that every object is serialized as
+   * @param <T> the type of the objects
+   * @return the OSON images, in the same order as {@code values}
+   * @throws IllegalStateException if serialization fails
+   */
+  public static <T> List<byte[]> serializeAll(List<? extends T> values, Class<T> type)
+    throws IllegalStateException {
+    return serializeAll(values, type, null);
+  }
+
+  /**
+   * Serializes a list of objects into one OSON image per object, as
+   * {@link #serializeAll(List, Class)} does. When a {@code pool} is given and
+   * the list is large, the list is split into one contiguous range per thread
+   * of the pool and the ranges are serialized concurrently.
+   *
+   * @param values the objects to serialize. Elements may be null.
+   * @param type the type that every object is serialized as
+   * @param pool the pool used to serialize large lists, or null to serialize
+   *             all values on the calling thread
+   * @param <T> the type of the objects
+   * @return the OSON images, in the same order as {@code values}
+   * @throws IllegalStateException if serialization fails
+   */
+  public static <T> List<byte[]> serializeAll(
+    List<? extends T> values, Class<T> type, ForkJoinPool pool)
+    throws IllegalStateException {
+    logger.log(Level.FINEST, "Serializing batch to OSON");
+    ObjectWriter writer = writerFor(type);
+    int size = values.size();
+    if (pool == null || size < PARALLEL_THRESHOLD) {
+      return serializeRange(writer, values, 0, size);
+    }
+
+    int chunkSize = (size + pool.getParallelism() - 1) / pool.getParallelism();
+    List<ForkJoinTask<List<byte[]>>> tasks = new ArrayList<>();
+    for (int from = 0; from < size; from += chunkSize) {
+      int start = from;
+      int end = Math.min(size, from + chunkSize);
+      tasks.add(pool.submit(() -> serializeRange(writer, values, start, end)));
+    }
+
+    List<byte[]> images = new ArrayList<>(size);
+    for (ForkJoinTask<List<byte[]>> task : tasks) {
+      images.addAll(task.join());
+    }
+    return images;
+  }
+
+  /**
+   * Serializes the values between {@code from}, inclusive, and {@code to},
+   * exclusive, reusing one output buffer for all of them.
+   */
+  private static List<byte[]> serializeRange(
+    ObjectWriter writer, List<?> values, int from, int to) {
+    List<byte[]> images = new ArrayList<>(to - from);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (int i = from; i < to; i++) {
+      out.reset();
+      try (OracleJsonGenerator oGen = oracleJsonFactory.createJsonBinaryGenerator(out)) {
+        OsonGenerator generator = recyclerPool.acquireGenerator(oGen);
+        try {
+          writer.writeValue(generator, values.get(i));
+        }
+        finally {
+          recyclerPool.release(generator);
+        }
+      }
+      catch (IOException e) {
+        throw new IllegalStateException("Oson conversion failed", e);
+      }
+      images.add(out.toByteArray());
+    }
+    return images;
+  }
+
+  /**
+   * Resolves the serializers and deserializers of the given types, so that the
+   * first value of each type that is converted does not pay for introspecting
+   * the class. Applications may call this method at startup with the types
+   * that are mapped to JSON columns.
+   *
+   * @param types the types to register
+   */
+  public static void registerTypes(Class<?>... types) {
+    for (Class<?> type : types) {
+      logger.log(Level.FINEST, "Registering type {0}", type.getName());
+      readerFor(type);
+      writerFor(type);
+    }
+  }
+
+  /**
+   * Returns a reader for the given type. The reader is created on first use,
+   * and the same reader is returned until the mapper is reconfigured.
+   *
+   * @param type the type of the values read
+   * @return the reader for the type
+   */
+  public static ObjectReader readerFor(Class<?> type) {
+    LRUMap<Class<?>, ObjectReader> readers = typeCache().readers;
+    ObjectReader reader = readers.get(type);
+    if (reader == null) {
+      reader = om.readerFor(type);
+      ObjectReader existing = readers.putIfAbsent(type, reader);
+      if (existing != null) {
+        reader = existing;
+      }
+    }
+    return reader;
+  }
+
+  /**
+   * Returns a writer for the given type. The writer is created on first use,
+   * and the same writer is returned until the mapper is reconfigured.
+   *
+   * @param type the type of the values written
+   * @return the writer for the type
+   */
+  public static ObjectWriter writerFor(Class<?> type) {
+    LRUMap<Class<?>, ObjectWriter> writers = typeCache().writers;
+    ObjectWriter writer = writers.get(type);
+    if (writer == null) {
+      writer = om.writerFor(type);
+      ObjectWriter existing = writers.putIfAbsent(type, writer);
+      if (existing != null) {
+        writer = existing;
+      }
+    }
+    return writer;
+  }
+
+  /**
+   * Returns the readers and writers of the current configuration of the
+   * mapper, replacing them if the mapper has been reconfigured since they
+   * were created.
+   */
+  private static TypeCache typeCache() {
+    TypeCache cache = typeCache;
+    if (cache == null || !cache.isCurrent()) {
+      cache = new TypeCache();
+      typeCache = cache;
+    }
+    return cache;
   }
 
   /**
@@ -153,6 +360,12 @@ public class JacksonOsonConverter implements OsonConverter{
 
   /**
    * Get the object mapper instances with registered custom modules.
+   * <p>
+   * Readers and writers used by the converter are created from this mapper
+   * and cached per type. The cached readers and writers are discarded when
+   * the mapper is reconfigured, so the mapper should be configured before
+   * any value is converted.
+   * </p>
    * @return the Object mapper with registered modules
    */
   public static ObjectMapper getObjectMapper() {
@@ -166,4 +379,45 @@ public class JacksonOsonConverter implements OsonConverter{
   public static OsonFactory getOsonFactory() {
     return osonFactory;
   }
+
+  /**
+   * Readers and writers cached per type, along with the configuration of the
+   * mapper they were created from. ObjectMapper replaces its configuration
+   * objects, rather than modifying them, when a feature is changed or a
+   * module is registered, so the cache is current for as long as the mapper
+   * returns the same objects.
+   */
+  private static final class TypeCache {
+
+    private final DeserializationConfig deserializationConfig =
+      om.getDeserializationConfig();
+
+    private final DeserializationContext deserializationContext =
+      om.getDeserializationContext();
+
+    private final SerializationConfig serializationConfig =
+      om.getSerializationConfig();
+
+    private final SerializerFactory serializerFactory =
+      om.getSerializerFactory();
+
+    private final SerializerProvider serializerProvider =
+      om.getSerializerProvider();
+
+    /** Readers that have the root deserializer of a type already resolved. */
+    private final LRUMap<Class<?>, ObjectReader> readers =
+      new LRUMap<>(16, MAX_CACHED_TYPES);
+
+    /** Writers that have the root serializer of a type already resolved. */
+    private final LRUMap<Class<?>, ObjectWriter> writers =
+      new LRUMap<>(16, MAX_CACHED_TYPES);
+
+    boolean isCurrent() {
+      return deserializationConfig == om.getDeserializationConfig()
+        && deserializationContext == om.getDeserializationContext()
+        && serializationConfig == om.getSerializationConfig()
+        && serializerFactory == om.getSerializerFactory()
+        && serializerProvider == om.getSerializerProvider();
+    }
+  }
 }
@@ -41,7 +41,10 @@ package oracle.jdbc.provider.oson;
 import oracle.jdbc.spi.JsonProvider;
 import oracle.jdbc.spi.OsonConverter;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -65,6 +68,30 @@ public class JacksonOsonProvider implements JsonProvider{
    */
   public static final String PROVIDER_NAME = "jackson-json-provider";
 
+  /**
+   * Parameter configuring a comma separated list of fully qualified class
+   * names. The classes are registered with
+   * {@link JacksonOsonConverter#registerTypes(Class[])} when a converter is
+   * created, so that the first row of each type is not slowed down by
+   * introspection of the class.
+   */
+  public static final Parameter TYPES_PARAMETER = new Parameter() {
+    @Override
+    public String name() {
+      return "types";
+    }
+
+    @Override
+    public boolean isSensitive() {
+      return false;
+    }
+
+    @Override
+    public String description() {
+      return "Comma separated list of classes to register at startup";
+    }
+  };
+
   private final Logger logger = Logger.getLogger(JacksonOsonProvider.class.getName());
 
   /**
@@ -82,16 +109,58 @@ public class JacksonOsonProvider implements JsonProvider{
     return PROVIDER_NAME;
   }
 
+  /**
+   * Returns the parameters of this provider.
+   *
+   * @return a collection containing {@link #TYPES_PARAMETER}
+   */
+  @Override
+  public Collection<? extends Parameter> getParameters() {
+    return Collections.singletonList(TYPES_PARAMETER);
+  }
+
   /**
    * Provides an instance of {@link OsonConverter} that uses Jackson for JSON processing.
+   * The classes configured by {@link #TYPES_PARAMETER}, if any, are registered
+   * with the converter.
    *
    * @param parameterValues a map of parameters and their values for the converter (can be null)
    * @return an instance of {@link JacksonOsonConverter}
+   * @throws IllegalArgumentException if a configured class can not be loaded
    */
   @Override
   public OsonConverter getOsonConverter(Map<Parameter, CharSequence> parameterValues) {
     logger.fine("JacksonOsonProvider getOsonConverter");
+    CharSequence types = parameterValues == null
+      ? null
+      : parameterValues.get(TYPES_PARAMETER);
+    if (types != null) {
+      registerTypes(types.toString());
+    }
     return new JacksonOsonConverter();
   }
 
+  /**
+   * Loads and registers each class named in a comma separated list.
+   */
+  private void registerTypes(String types) {
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    if (classLoader == null) {
+      classLoader = JacksonOsonProvider.class.getClassLoader();
+    }
+    for (String typeName : types.split(",")) {
+      String name = typeName.trim();
+      if (name.isEmpty()) {
+        continue;
+      }
+      try {
+        JacksonOsonConverter.registerTypes(Class.forName(name, false, classLoader));
+      }
+      catch (ClassNotFoundException e) {
+        throw new IllegalArgumentException("Class not found: " + name, e);
+      }
+    }
+    logger.log(Level.FINE, "Registered types: {0}", types);
+  }
+
 }
@@ -0,0 +1,106 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * The default {@link OsonSerializableCodec}. A value is written with
+ * {@link ObjectOutputStream}, and the result is stored as an OSON binary value.
+ * This is the format that was used by earlier releases. It preserves any
+ * {@code Serializable} class, but every value carries the class descriptors of
+ * Java serialization, and the data can only be read by Java.
+ * <p>
+ * Values that were written as OSON objects by {@link NativeSerializableCodec}
+ * are still read, so that switching between the codecs does not make
+ * existing data unreadable.
+ * </p>
+ */
+public final class JavaSerializableCodec implements OsonSerializableCodec {
+
+  /**
+   * Singleton instance for reuse.
+   */
+  public static final JavaSerializableCodec INSTANCE = new JavaSerializableCodec();
+
+  /**
+   * Default constructor, used by {@link java.util.ServiceLoader}.
+   */
+  public JavaSerializableCodec() {}
+
+  @Override
+  public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers)
+    throws IOException {
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectStream = new ObjectOutputStream(byteStream)) {
+      objectStream.writeObject(value);
+    }
+    gen.writeBinary(byteStream.toByteArray());
+  }
+
+  @Override
+  public Object deserialize(JsonParser p, DeserializationContext ctxt, JavaType type)
+    throws IOException {
+    if (p.currentToken() != JsonToken.VALUE_EMBEDDED_OBJECT) {
+      return NativeSerializableCodec.INSTANCE.deserialize(p, ctxt, type);
+    }
+    byte[] data = p.getBinaryValue();
+    if (data == null) {
+      return null;
+    }
+    try (ObjectInputStream objectStream =
+           new ObjectInputStream(new ByteArrayInputStream(data))) {
+      return objectStream.readObject();
+    }
+    catch (ClassNotFoundException e) {
+      throw new IOException("Class not found during deserialization", e);
+    }
+  }
+}
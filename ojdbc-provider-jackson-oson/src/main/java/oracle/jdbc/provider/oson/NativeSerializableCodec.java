@@ -0,0 +1,109 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.impl.UnknownSerializer;
+
+import java.io.IOException;
+
+/**
+ * An {@link OsonSerializableCodec} that writes a value with the serializer
+ * that Jackson uses for its class, so a {@code Serializable} bean is stored as
+ * a native OSON object. The field names of the object are encoded in the OSON
+ * dictionary, and no Java class descriptors are stored.
+ * <p>
+ * This codec is not the default, as it only retains what Jackson retains: the
+ * state of a value that is not a Jackson property is not stored, and the
+ * subtype of a value is lost when the property is declared with a base or
+ * abstract type, unless the type is annotated with {@code @JsonTypeInfo}.
+ * It may be selected with a {@code ServiceLoader} file or with
+ * {@link OsonModule#OsonModule(OsonSerializableCodec)}.
+ * </p>
+ * <p>
+ * A value whose class has no properties that Jackson can write falls back to
+ * {@link JavaSerializableCodec}. When reading, a binary value is always
+ * decoded with {@link JavaSerializableCodec}, so that data which was written by
+ * earlier releases can still be read.
+ * </p>
+ * <p>
+ * As with any other POJO, the class of the value must be readable by Jackson,
+ * for instance by having a default constructor or a {@code @JsonCreator}.
+ * </p>
+ */
+public final class NativeSerializableCodec implements OsonSerializableCodec {
+
+  /**
+   * Singleton instance for reuse.
+   */
+  public static final NativeSerializableCodec INSTANCE = new NativeSerializableCodec();
+
+  /**
+   * Default constructor, used by {@link java.util.ServiceLoader}.
+   */
+  public NativeSerializableCodec() {}
+
+  @Override
+  public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers)
+    throws IOException {
+    JsonSerializer<Object> serializer =
+      serializers.findValueSerializer(value.getClass());
+    if (serializer instanceof UnknownSerializer) {
+      JavaSerializableCodec.INSTANCE.serialize(value, gen, serializers);
+      return;
+    }
+    serializer.serialize(value, gen, serializers);
+  }
+
+  @Override
+  public Object deserialize(JsonParser p, DeserializationContext ctxt, JavaType type)
+    throws IOException {
+    if (p.currentToken() == JsonToken.VALUE_EMBEDDED_OBJECT) {
+      return JavaSerializableCodec.INSTANCE.deserialize(p, ctxt, type);
+    }
+    JavaType valueType = type == null ? ctxt.constructType(Object.class) : type;
+    return ctxt.findRootValueDeserializer(valueType).deserialize(p, ctxt);
+  }
+}
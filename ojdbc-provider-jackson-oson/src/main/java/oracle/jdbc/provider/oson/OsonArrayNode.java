@@ -0,0 +1,166 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import oracle.jdbc.provider.oson.deser.OsonJsonNodeDeserializer;
+import oracle.sql.json.OracleJsonArray;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An {@link ArrayNode} backed by an {@link OracleJsonArray}. The node of an
+ * element is created the first time the element is accessed, so reading a
+ * few elements of a large OSON array only decodes those elements. The first
+ * modification copies the remaining elements into a regular list, after
+ * which the {@code OracleJsonArray} is no longer referenced.
+ * <p>
+ * As with other nodes, the node may be read by several threads, and must not
+ * be modified while it is read.
+ */
+public class OsonArrayNode extends ArrayNode {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates a node backed by the given array.
+   *
+   * @param nodeFactory the factory for the element nodes. Not null.
+   * @param array the OSON array. Not null.
+   */
+  public OsonArrayNode(JsonNodeFactory nodeFactory, OracleJsonArray array) {
+    super(nodeFactory, new LazyElements(nodeFactory, array));
+  }
+
+  /**
+   * The elements of an {@link OsonArrayNode}. Element nodes are cached once
+   * created, so that repeated access returns the same (possibly modified)
+   * node. The cache is an atomic array, so that reads from several threads
+   * return the same node.
+   */
+  private static final class LazyElements extends AbstractList<JsonNode>
+    implements RandomAccess {
+
+    private final JsonNodeFactory nodeFactory;
+
+    /** The OSON array, or null once the elements have been materialized. */
+    private OracleJsonArray array;
+
+    /** The nodes created so far, indexed like the OSON array. */
+    private AtomicReferenceArray<JsonNode> nodes;
+
+    /** All the elements, once materialized. */
+    private List<JsonNode> elements;
+
+    LazyElements(JsonNodeFactory nodeFactory, OracleJsonArray array) {
+      this.nodeFactory = nodeFactory;
+      this.array = array;
+      this.nodes = new AtomicReferenceArray<>(array.size());
+    }
+
+    @Override
+    public JsonNode get(int index) {
+      if (array == null)
+        return elements.get(index);
+
+      JsonNode node = nodes.get(index);
+      if (node == null) {
+        node = OsonJsonNodeDeserializer.toJsonNode(
+          array.get(index), nodeFactory);
+        if (!nodes.compareAndSet(index, null, node))
+          node = nodes.get(index);
+      }
+      return node;
+    }
+
+    @Override
+    public int size() {
+      return array == null ? elements.size() : nodes.length();
+    }
+
+    @Override
+    public JsonNode set(int index, JsonNode element) {
+      return materialize().set(index, element);
+    }
+
+    @Override
+    public void add(int index, JsonNode element) {
+      materialize().add(index, element);
+      modCount++;
+    }
+
+    @Override
+    public JsonNode remove(int index) {
+      JsonNode removed = materialize().remove(index);
+      modCount++;
+      return removed;
+    }
+
+    @Override
+    public void clear() {
+      array = null;
+      nodes = null;
+      elements = new ArrayList<>();
+      modCount++;
+    }
+
+    /**
+     * Copies all the elements into a modifiable list and releases the OSON
+     * array.
+     */
+    private List<JsonNode> materialize() {
+      if (array != null) {
+        List<JsonNode> list = new ArrayList<>(nodes.length());
+        for (int i = 0; i < nodes.length(); i++) {
+          list.add(get(i));
+        }
+        elements = list;
+        array = null;
+        nodes = null;
+      }
+      return elements;
+    }
+  }
+}
@@ -47,6 +47,10 @@ import oracle.sql.json.OracleJsonParser;
 import java.io.*;
 import java.net.URL;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -231,7 +235,8 @@ public class OsonFactory extends JsonFactory {
   }
 
   /**
-   * Creates a JSON parser from a File.
+   * Creates a JSON parser from a File. Unless an input decorator is
+   * configured, the file is read as by {@link #createParser(Path)}.
    *
    * @param f The file containing JSON content.
    * @return A custom OsonParser instance.
@@ -240,6 +245,9 @@ public class OsonFactory extends JsonFactory {
   @Override
   public JsonParser createParser(File f) throws IOException {
     logger.log(Level.FINEST, "createParser(File)");
+    if (_inputDecorator == null) {
+      return createParser(f.toPath());
+    }
     IOContext ctxt = _createContext(f, true);
     InputStream in = new FileInputStream(f);
     if (_inputDecorator != null) {
@@ -248,6 +256,64 @@ public class OsonFactory extends JsonFactory {
     return _createParser(in, ctxt);
   }
 
+  /**
+   * Creates a JSON parser from an OSON file. The file is mapped into memory
+   * and copied to the heap with a single bulk copy, as the OSON decoder reads
+   * from an array.
+   *
+   * @param path The file containing OSON content.
+   * @return A custom OsonParser instance.
+   * @throws IOException If the file can not be read, or is larger than
+   * {@link Integer#MAX_VALUE} bytes.
+   */
+  public JsonParser createParser(Path path) throws IOException {
+    logger.log(Level.FINEST, "createParser(Path)");
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("File is too large for OSON: " + path);
+      }
+      return createParser(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+    }
+  }
+
+  /**
+   * Creates a JSON parser from the OSON content between the position and the
+   * limit of a buffer. The position of the buffer is not changed. A heap
+   * buffer is parsed in place, while the content of a direct or mapped buffer
+   * is copied to the heap with a single bulk copy, as the OSON decoder reads
+   * from an array.
+   *
+   * @param buffer The buffer containing OSON content.
+   * @return A custom OsonParser instance.
+   */
+  public JsonParser createParser(ByteBuffer buffer) {
+    logger.log(Level.FINEST, "createParser(ByteBuffer)");
+    IOContext ctxt = _createContext(_createContentReference(buffer), true);
+    return new OsonParser(ctxt, _factoryFeatures,
+            factory.createJsonBinaryParser(toArrayBuffer(buffer)));
+  }
+
+  /**
+   * Returns a buffer over an array holding the content between the position
+   * and the limit of the given buffer, which is not changed. The content of a
+   * heap buffer is not copied.
+   *
+   * @param buffer The buffer containing OSON content.
+   * @return A buffer that the OSON decoder can read.
+   */
+  static ByteBuffer toArrayBuffer(ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      // The OSON decoder does not support buffers with an array offset, such
+      // as slices, so the array is wrapped with the offset as its position.
+      return ByteBuffer.wrap(buffer.array(),
+              buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+    byte[] data = new byte[buffer.remaining()];
+    buffer.duplicate().get(data);
+    return ByteBuffer.wrap(data);
+  }
+
   /**
    * Creates a JSON parser from a Reader.
    *
@@ -424,10 +490,11 @@ public class OsonFactory extends JsonFactory {
    * Creates a OSON parser from DataInput.
    *
    * Please note that creating OSON parser is not supported natively
-   * for DataInput. The DataInput in converted to InputStream and then
-   * parser is created using InputStream.
-   * The data is read one-byte at a time by the InputStream wrapper. So
-   * creating the parser with DataInput using this API may not be efficient.
+   * for DataInput. A DataInput that is an InputStream is read as such, and
+   * the remaining content of a RandomAccessFile is read with its channel.
+   * Any other DataInput is converted to an InputStream that can only read
+   * one byte at a time from the DataInput. So creating the parser with
+   * such a DataInput using this API may not be efficient.
    *
    * @param input DataInput to use for reading content to parse
    * @param ctxt I/O context to use for parsing
@@ -437,18 +504,49 @@ public class OsonFactory extends JsonFactory {
   @Override
   protected JsonParser _createParser(DataInput input, IOContext ctxt) {
     logger.log(Level.FINEST, "_createParser(DataInput, IOContext)");
-    InputStream stream = new InputStream() {
+    return new OsonParser(ctxt, _factoryFeatures,
+            factory.createJsonBinaryParser(toInputStream(input)));
+
+  }
+
+  /**
+   * Returns an InputStream that reads the remaining content of a DataInput.
+   */
+  private static InputStream toInputStream(DataInput input) {
+    if (input instanceof InputStream) {
+      return (InputStream) input;
+    }
+    if (input instanceof RandomAccessFile) {
+      return Channels.newInputStream(
+              ((RandomAccessFile) input).getChannel());
+    }
+    return new InputStream() {
       @Override
       public int read() throws IOException {
         try {
           return input.readUnsignedByte();
-        }catch (EOFException e) {
+        }
+        catch (EOFException e) {
           return -1;
         }
       }
-    };
-    return new OsonParser(ctxt, _factoryFeatures,
-            factory.createJsonBinaryParser(stream));
 
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        int count = 0;
+        try {
+          while (count < len) {
+            b[off + count] = input.readByte();
+            count++;
+          }
+        }
+        catch (EOFException e) {
+          if (count == 0 && len > 0) {
+            return -1;
+          }
+        }
+        return count;
+      }
+    };
   }
 }
@@ -40,17 +40,17 @@
 package oracle.jdbc.provider.oson;
 
 import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.core.base.GeneratorBase;
 import com.fasterxml.jackson.core.json.JsonWriteContext;
 import oracle.jdbc.driver.json.tree.OracleJsonDateImpl;
 import oracle.jdbc.driver.json.tree.OracleJsonTimestampImpl;
-import oracle.sql.DATE;
-import oracle.sql.TIMESTAMP;
-import oracle.sql.json.OracleJsonDate;
+import oracle.jdbc.driver.json.tree.OracleJsonTimestampTZImpl;
 import oracle.sql.json.OracleJsonFactory;
 import oracle.sql.json.OracleJsonGenerator;
-import oracle.sql.json.OracleJsonTimestamp;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -58,7 +58,6 @@ import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
-import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.*;
 import java.util.Arrays;
@@ -110,6 +109,25 @@ public class OsonGenerator extends GeneratorBase {
 
   }
 
+  /**
+   * Binds this generator to another OracleJsonGenerator so that the instance
+   * can be reused by {@link OsonRecyclerPool}. The write context is reset to the
+   * root context, which keeps the child contexts that were already allocated.
+   *
+   * @param gen The OracleJsonGenerator to write to, or null to release the
+   *            current one.
+   */
+  void reset(OracleJsonGenerator gen) {
+    JsonWriteContext root = _writeContext;
+    while (root.getParent() != null) {
+      root = root.getParent();
+    }
+    _writeContext = root.reset(JsonStreamContext.TYPE_ROOT);
+    this.gen = gen;
+    this.out = null;
+    this.closed = false;
+  }
+
   /**
    * Used to Enable Fields such as UUID to be written as byte[].
    * @return boolean to support writing Binary Natively
@@ -174,10 +192,6 @@ public class OsonGenerator extends GeneratorBase {
    */
   @Override
   public void writeEndArray() throws IOException {
-    int status = _writeContext.writeValue();
-    if(status != _writeContext.STATUS_OK_AFTER_COMMA) {
-      _reportError("error: expecting end array");
-    }
     if (!_writeContext.inArray()) {
       _reportError("Current context not an ARRAY but " + _writeContext.getTypeDesc());
     }
@@ -230,10 +244,42 @@ public class OsonGenerator extends GeneratorBase {
     if (status == JsonWriteContext.STATUS_EXPECT_VALUE) {
       _reportError("Can not write a field name, expecting a value");
     }
-    logger.log(Level.FINEST, "writeFieldName: " + name);
+    logger.log(Level.FINEST, "writeFieldName: {0}", name);
     gen.writeKey(name);
   }
 
+  /**
+   * Copies the value at the current token of a parser, including any field
+   * name before it. Objects and arrays are copied as a whole: an OSON object or
+   * array read by an {@link OsonParser} is written from its OSON image, and
+   * the tokens of any other parser are written directly to the
+   * {@link OracleJsonGenerator}, without going through the write context of
+   * this generator.
+   *
+   * @param p The parser to copy from.
+   * @throws IOException If an I/O error occurs.
+   */
+  @Override
+  public void copyCurrentStructure(JsonParser p) throws IOException {
+    JsonToken t = p.currentToken();
+    if (t == JsonToken.FIELD_NAME) {
+      writeFieldName(p.currentName());
+      t = p.nextToken();
+    }
+    if (t != JsonToken.START_OBJECT && t != JsonToken.START_ARRAY) {
+      super.copyCurrentStructure(p);
+      return;
+    }
+    _verifyValueWrite("copyCurrentStructure");
+    logger.log(Level.FINEST, "copyCurrentStructure");
+    if (p instanceof OsonParser) {
+      gen.write(((OsonParser) p).readOracleJsonValue());
+    }
+    else {
+      OsonTranscoder.copyStructure(p, gen);
+    }
+  }
+
   /**
    * Writes a string value.
    *
@@ -243,7 +289,7 @@ public class OsonGenerator extends GeneratorBase {
   @Override
   public void writeString(String text) throws IOException {
     _verifyValueWrite("write string");
-    logger.log(Level.FINEST, "writeString: " + text);
+    logger.log(Level.FINEST, "writeString");
     gen.write(text);
   }
 
@@ -259,7 +305,7 @@ public class OsonGenerator extends GeneratorBase {
   public void writeString(char[] buffer, int offset, int len) throws IOException {
     _verifyValueWrite("write string");
     logger.log(Level.FINEST, "writeString ");
-    gen.write(new String(buffer, offset, len));
+    gen.write(String.valueOf(buffer, offset, len));
   }
 
   /**
@@ -288,7 +334,7 @@ public class OsonGenerator extends GeneratorBase {
   @Override
   public void writeUTF8String(byte[] buffer, int offset, int len) throws IOException {
     _verifyValueWrite("writeUTF8String");
-   logger.log(Level.FINEST, "writeUTF8String ");
+    logger.log(Level.FINEST, "writeUTF8String ");
     gen.write(new String(buffer, offset, len, StandardCharsets.UTF_8));
   }
 
@@ -301,7 +347,7 @@ public class OsonGenerator extends GeneratorBase {
   @Override
   public void writeRaw(String text) throws IOException {
     _verifyValueWrite("writeRaw");
-    logger.log(Level.FINEST, "writeRaw: " + text);
+    logger.log(Level.FINEST, "writeRaw");
     gen.write(text);
   }
 
@@ -316,8 +362,12 @@ public class OsonGenerator extends GeneratorBase {
   @Override
   public void writeRaw(String text, int offset, int len) throws IOException {
     _verifyValueWrite("writeRaw");
-    logger.log(Level.FINEST, "writeRaw: " + text);
-    gen.write(text.substring(offset, offset+len));
+    logger.log(Level.FINEST, "writeRaw");
+    if (offset == 0 && len == text.length()) {
+      gen.write(text);
+    } else {
+      gen.write(text.substring(offset, offset + len));
+    }
   }
 
   /**
@@ -332,7 +382,7 @@ public class OsonGenerator extends GeneratorBase {
   public void writeRaw(char[] text, int offset, int len) throws IOException {
     _verifyValueWrite("writeRaw");
     logger.log(Level.FINEST, "writeRaw");
-    gen.write(new String(text, offset, offset+len));
+    gen.write(String.valueOf(text, offset, len));
   }
 
   /**
@@ -344,7 +394,7 @@ public class OsonGenerator extends GeneratorBase {
   @Override
   public void writeRaw(char c) throws IOException {
     _verifyValueWrite("writeRaw");
-    logger.log(Level.FINEST, "writeRaw: " + c);
+    logger.log(Level.FINEST, "writeRaw: {0}", c);
     gen.write(c);
   }
 
@@ -357,13 +407,17 @@ public class OsonGenerator extends GeneratorBase {
    * @param len The number of bytes to write.
    * @throws IOException If an I/O error occurs.
    */
-  // discuss
   @Override
   public void writeBinary(Base64Variant bv, byte[] data, int offset, int len) throws IOException {
     _verifyValueWrite("writeBinary");
-//    gen.write(bv.encode(Arrays.copyOfRange(data, offset, offset+len)));
     logger.log(Level.FINEST, "writeBinary");
-    gen.write(Arrays.copyOfRange(data, offset, offset+len));
+    // OracleJsonGenerator only accepts a whole array, so a copy is only
+    // made when the caller passes a sub-range.
+    if (offset == 0 && len == data.length) {
+      gen.write(data);
+    } else {
+      gen.write(Arrays.copyOfRange(data, offset, offset + len));
+    }
   }
 
   /**
@@ -375,7 +429,7 @@ public class OsonGenerator extends GeneratorBase {
   @Override
   public void writeNumber(int v) throws IOException {
     _verifyValueWrite("writeNumber");
-    logger.log(Level.FINEST, "writeNumber: " + v);
+    logger.log(Level.FINEST, "writeNumber: {0}", v);
     gen.write(v);
   }
 
@@ -388,7 +442,7 @@ public class OsonGenerator extends GeneratorBase {
   @Override
   public void writeNumber(long v) throws IOException {
     _verifyValueWrite("writeNumber");
-    logger.log(Level.FINEST, "writeNumber: " + v);
+    logger.log(Level.FINEST, "writeNumber: {0}", v);
     gen.write(v);
   }
 
@@ -401,7 +455,7 @@ public class OsonGenerator extends GeneratorBase {
   @Override
   public void writeNumber(BigInteger v) throws IOException {
     _verifyValueWrite("writeNumber");
-    logger.log(Level.FINEST, "writeNumber: " + v);
+    logger.log(Level.FINEST, "writeNumber: {0}", v);
     gen.write(v);
   }
 
@@ -414,7 +468,7 @@ public class OsonGenerator extends GeneratorBase {
   @Override
   public void writeNumber(double v) throws IOException {
     _verifyValueWrite("writeNumber");
-    logger.log(Level.FINEST, "writeNumber: " + v);
+    logger.log(Level.FINEST, "writeNumber: {0}", v);
     gen.write(v);
   }
 
@@ -427,7 +481,7 @@ public class OsonGenerator extends GeneratorBase {
   @Override
   public void writeNumber(float v) throws IOException {
     _verifyValueWrite("writeNumber");
-    logger.log(Level.FINEST, "writeNumber: " + v);
+    logger.log(Level.FINEST, "writeNumber: {0}", v);
     gen.write(v);
   }
 
@@ -453,8 +507,35 @@ public class OsonGenerator extends GeneratorBase {
   @Override
   public void writeNumber(String encodedValue) throws IOException {
     _verifyValueWrite("writeNumber");
-    logger.log(Level.FINEST, "writeNumber: " + encodedValue);
-    gen.write(new BigDecimal(encodedValue));
+    logger.log(Level.FINEST, "writeNumber");
+    if (isSmallInteger(encodedValue)) {
+      gen.write(Long.parseLong(encodedValue));
+    } else {
+      gen.write(new BigDecimal(encodedValue));
+    }
+  }
+
+  /**
+   * Checks whether a number string is a plain integer that fits in a long, so
+   * that it can be written without going through {@link BigDecimal} parsing.
+   * At most 18 digits are accepted, which can never overflow a long.
+   *
+   * @param value the string representation of the number.
+   * @return true if the value can be parsed with {@link Long#parseLong(String)}.
+   */
+  private static boolean isSmallInteger(String value) {
+    int length = value.length();
+    int start = length > 0 && value.charAt(0) == '-' ? 1 : 0;
+    if (length == start || length - start > 18) {
+      return false;
+    }
+    for (int i = start; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
@@ -466,7 +547,7 @@ public class OsonGenerator extends GeneratorBase {
   @Override
   public void writeBoolean(boolean state) throws IOException {
     _verifyValueWrite("writeBoolean");
-    logger.log(Level.FINEST, "writeBoolean: " + state);
+    logger.log(Level.FINEST, "writeBoolean: {0}", state);
     gen.write(state);
   }
 
@@ -553,33 +634,29 @@ public class OsonGenerator extends GeneratorBase {
   }
 
   /**
-   * Writes a `java.util.Date` object as an Oracle JSON `DATE`.
-   * If the input is a `java.sql.Date`, it is first converted to a `DATE` object.
+   * Writes a `java.util.Date` object as an Oracle JSON `DATE` if it is a
+   * `java.sql.Date`, or as an Oracle JSON `TIMESTAMP` otherwise. The date and
+   * time in the default time zone are written.
    *
    * @param value the `Date` to write
    * @throws IOException if an I/O error occurs during writing
    */
   public void writeDate(Date value) throws IOException {
     _verifyValueWrite("write date");
+    LocalDateTime dateTime = new Timestamp(value.getTime()).toLocalDateTime();
 
     if(value instanceof java.sql.Date) {
       logger.log(Level.FINEST, "writeDate: java.sql.Date");
-      DATE dd = new DATE((java.sql.Date)value);
-      OracleJsonDate jsonDate = new OracleJsonDateImpl(dd.shareBytes());
-      gen.write(jsonDate);
+      gen.write(new OracleJsonDateImpl(OsonTemporalCodec.encodeDate(dateTime)));
     }else {
       // java.util.Date
       logger.log(Level.FINEST, "writeDate: java.util.Date");
-      Timestamp ts = new Timestamp(value.getTime());
-      TIMESTAMP timestamp = new TIMESTAMP(ts);
-      OracleJsonTimestamp writeTimeStamp = new OracleJsonTimestampImpl(timestamp.shareBytes());
-      gen.write(writeTimeStamp);
+      gen.write(new OracleJsonTimestampImpl(OsonTemporalCodec.encodeTimestamp(dateTime)));
     }
   }
 
   /**
    * Writes a `LocalDate` object as an Oracle JSON `DATE`.
-   * Converts the `LocalDate` to a `DATE` object and serializes it.
    *
    * @param value the `LocalDate` to write
    * @throws IOException if an I/O error occurs during writing
@@ -587,18 +664,11 @@ public class OsonGenerator extends GeneratorBase {
   public void writeLocalDate(LocalDate value) throws IOException {
     _verifyValueWrite("write LocalDate");
     logger.log(Level.FINEST, "writeLocalDate");
-    try {
-      DATE dd = new DATE(value);
-      OracleJsonDate jsonDate = new OracleJsonDateImpl(dd.shareBytes());
-      gen.write(jsonDate);
-    } catch (SQLException e) {
-        throw new RuntimeException(e);
-    }
+    gen.write(new OracleJsonDateImpl(OsonTemporalCodec.encodeDate(value)));
   }
 
   /**
    * Writes a `Timestamp` object as an Oracle JSON `TIMESTAMP`.
-   * Converts the `Timestamp` to a `TIMESTAMP` object and serializes it.
    *
    * @param value the `Timestamp` to write
    * @throws IOException if an I/O error occurs during writing
@@ -606,8 +676,18 @@ public class OsonGenerator extends GeneratorBase {
   public void writeTimeStamp(Timestamp value) throws IOException {
     _verifyValueWrite("write TimeStamp");
     logger.log(Level.FINEST, "writeTimeStamp");
-    TIMESTAMP timestamp = new TIMESTAMP(value);
-    OracleJsonTimestamp writeTimeStamp = new OracleJsonTimestampImpl(timestamp.shareBytes());
-    gen.write(writeTimeStamp);
+    gen.write(new OracleJsonTimestampImpl(OsonTemporalCodec.encodeTimestamp(value.toLocalDateTime())));
+  }
+
+  /**
+   * Writes an `Instant` object as an Oracle JSON `TIMESTAMPTZ` in UTC.
+   *
+   * @param value the `Instant` to write
+   * @throws IOException if an I/O error occurs during writing
+   */
+  public void writeInstant(Instant value) throws IOException {
+    _verifyValueWrite("write Instant");
+    logger.log(Level.FINEST, "writeInstant");
+    gen.write(new OracleJsonTimestampTZImpl(OsonTemporalCodec.encodeTimestampTZ(value)));
   }
 }
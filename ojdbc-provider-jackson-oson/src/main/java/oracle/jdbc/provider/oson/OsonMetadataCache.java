@@ -0,0 +1,274 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import jakarta.persistence.AttributeConverter;
+import oracle.jdbc.provider.oson.deser.OsonConverterArrayDeserializer;
+import oracle.jdbc.provider.oson.deser.OsonConverterDeserializer;
+import oracle.jdbc.provider.oson.ser.OsonConverterArraySerializer;
+import oracle.jdbc.provider.oson.ser.OsonConverterSerializer;
+
+import java.io.Serializable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Metadata that {@link OsonModule} resolves for the properties of beans,
+ * cached per class so that it is resolved once for all of the properties,
+ * beans and mappers that use the class.
+ * <ul>
+ *   <li>For each {@link AttributeConverter} class: one instance of the
+ *   converter, the types of its database column and entity attribute, and
+ *   the serializers and deserializers that use it.</li>
+ *   <li>For each property type: whether it is written with the
+ *   {@link OsonSerializableCodec}.</li>
+ * </ul>
+ * Values are held in {@link ClassValue}s, which are safe for concurrent use
+ * and do not prevent the classes from being unloaded.
+ */
+public final class OsonMetadataCache {
+
+  private static final ClassValue<ConverterMetadata> converters =
+    new ClassValue<ConverterMetadata>() {
+      @Override
+      protected ConverterMetadata computeValue(Class<?> type) {
+        return new ConverterMetadata(type);
+      }
+    };
+
+  private static final ClassValue<JsonSerializer<Object>> converterSerializers =
+    new ClassValue<JsonSerializer<Object>>() {
+      @Override
+      protected JsonSerializer<Object> computeValue(Class<?> type) {
+        return new OsonConverterSerializer(type.asSubclass(AttributeConverter.class));
+      }
+    };
+
+  private static final ClassValue<JsonSerializer<?>> converterArraySerializers =
+    new ClassValue<JsonSerializer<?>>() {
+      @Override
+      protected JsonSerializer<?> computeValue(Class<?> type) {
+        return new OsonConverterArraySerializer(type.asSubclass(AttributeConverter.class));
+      }
+    };
+
+  private static final ClassValue<JsonDeserializer<Object>> converterDeserializers =
+    new ClassValue<JsonDeserializer<Object>>() {
+      @Override
+      protected JsonDeserializer<Object> computeValue(Class<?> type) {
+        return new OsonConverterDeserializer<>(type.asSubclass(AttributeConverter.class));
+      }
+    };
+
+  private static final ClassValue<JsonDeserializer<Object[]>> converterArrayDeserializers =
+    new ClassValue<JsonDeserializer<Object[]>>() {
+      @Override
+      protected JsonDeserializer<Object[]> computeValue(Class<?> type) {
+        return new OsonConverterArrayDeserializer<>(type.asSubclass(AttributeConverter.class));
+      }
+    };
+
+  private static final ClassValue<Boolean> serializableTypes =
+    new ClassValue<Boolean>() {
+      @Override
+      protected Boolean computeValue(Class<?> type) {
+        for (Class<?> implemented : type.getInterfaces()) {
+          if (Serializable.class.isAssignableFrom(implemented)) {
+            return !Util.isJavaSerializableType(type);
+          }
+        }
+        return false;
+      }
+    };
+
+  private OsonMetadataCache() {
+  }
+
+  /**
+   * Returns the metadata of a converter class.
+   *
+   * @param converter the class of the {@code AttributeConverter}
+   * @return the metadata of the converter. Not null.
+   * @throws RuntimeException if the converter can not be instantiated
+   */
+  @SuppressWarnings("rawtypes")
+  public static ConverterMetadata converter(Class<? extends AttributeConverter> converter) {
+    return converters.get(converter);
+  }
+
+  /**
+   * Returns the serializer of properties annotated with a converter.
+   *
+   * @param converter the class of the {@code AttributeConverter}
+   * @return a serializer that is shared by all properties using the converter
+   */
+  @SuppressWarnings("rawtypes")
+  public static JsonSerializer<Object> converterSerializer(
+    Class<? extends AttributeConverter> converter) {
+    return converterSerializers.get(converter);
+  }
+
+  /**
+   * Returns the serializer of array properties annotated with a converter.
+   *
+   * @param converter the class of the {@code AttributeConverter}
+   * @return a serializer that is shared by all properties using the converter
+   */
+  @SuppressWarnings("rawtypes")
+  public static JsonSerializer<?> converterArraySerializer(
+    Class<? extends AttributeConverter> converter) {
+    return converterArraySerializers.get(converter);
+  }
+
+  /**
+   * Returns the deserializer of properties annotated with a converter.
+   *
+   * @param converter the class of the {@code AttributeConverter}
+   * @return a deserializer that is shared by all properties using the converter
+   */
+  @SuppressWarnings("rawtypes")
+  public static JsonDeserializer<Object> converterDeserializer(
+    Class<? extends AttributeConverter> converter) {
+    return converterDeserializers.get(converter);
+  }
+
+  /**
+   * Returns the deserializer of array properties annotated with a converter.
+   *
+   * @param converter the class of the {@code AttributeConverter}
+   * @return a deserializer that is shared by all properties using the converter
+   */
+  @SuppressWarnings("rawtypes")
+  public static JsonDeserializer<Object[]> converterArrayDeserializer(
+    Class<? extends AttributeConverter> converter) {
+    return converterArrayDeserializers.get(converter);
+  }
+
+  /**
+   * Checks if properties of the given type are handled by the
+   * {@link OsonSerializableCodec}, which is the case when the type directly
+   * implements {@link Serializable} and is not a JDK type.
+   *
+   * @param type the type of a property
+   * @return {@code true} if the property is handled by the codec
+   */
+  public static boolean isSerializableProperty(JavaType type) {
+    return serializableTypes.get(type.getRawClass());
+  }
+
+  /**
+   * The resolved metadata of an {@link AttributeConverter} class.
+   */
+  public static final class ConverterMetadata {
+
+    private final AttributeConverter<Object, Object> converter;
+
+    private final Class<?> databaseType;
+
+    private final Class<?> entityType;
+
+    @SuppressWarnings("unchecked")
+    private ConverterMetadata(Class<?> converterClass) {
+      try {
+        this.converter = (AttributeConverter<Object, Object>)
+          converterClass.getConstructor().newInstance();
+      } catch (InstantiationException
+           | IllegalAccessException
+           | InvocationTargetException
+           | NoSuchMethodException e) {
+        throw new RuntimeException(e);
+      }
+      this.databaseType = resolveReturnType(converterClass, "convertToDatabaseColumn");
+      this.entityType = resolveReturnType(converterClass, "convertToEntityAttribute");
+    }
+
+    /**
+     * Returns the instance of the converter, which is shared by all of the
+     * properties that use it.
+     *
+     * @return the converter. Not null.
+     */
+    public AttributeConverter<Object, Object> getConverter() {
+      return converter;
+    }
+
+    /**
+     * Returns the return type of {@code convertToDatabaseColumn}.
+     *
+     * @return the type of the database column, or {@code Object.class} if it
+     * can not be resolved
+     */
+    public Class<?> getDatabaseType() {
+      return databaseType;
+    }
+
+    /**
+     * Returns the return type of {@code convertToEntityAttribute}.
+     *
+     * @return the type of the entity attribute, or {@code Object.class} if it
+     * can not be resolved
+     */
+    public Class<?> getEntityType() {
+      return entityType;
+    }
+
+    /**
+     * Returns the return type of the first method with the given name which
+     * does not return {@code Object}, searching the converter class and then
+     * its superclasses.
+     */
+    private static Class<?> resolveReturnType(Class<?> converterClass, String methodName) {
+      Class<?> iter = converterClass;
+      do {
+        for (Method method : iter.getDeclaredMethods()) {
+          if (method.getName().equals(methodName)
+                  && method.getReturnType() != Object.class) {
+            return method.getReturnType();
+          }
+        }
+        iter = iter.getSuperclass();
+      } while (iter.getSuperclass() != null);
+
+      return Object.class;
+    }
+  }
+}
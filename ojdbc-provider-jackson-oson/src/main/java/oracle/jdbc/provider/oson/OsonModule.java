@@ -45,6 +45,8 @@ import com.fasterxml.jackson.databind.deser.BeanDeserializer;
 import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
 import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 import com.fasterxml.jackson.databind.ser.PropertyWriter;
@@ -70,6 +72,8 @@ import java.util.logging.Logger;
  * <ul>
  *   <li>{@link LocalDateTime} - {@link OsonLocalDateTimeDeserializer} and {@link OsonLocalDateTimeSerializer}</li>
  *   <li>{@link OffsetDateTime} - {@link OsonOffsetDateTimeDeserializer} and {@link OsonOffsetDateTimeSerializer}</li>
+ *   <li>{@link Instant} - {@link OsonInstantDeserializer}, and {@link OsonInstantSerializer} with native
+ *   temporal encoding</li>
  *   <li>{@link Period} - {@link OsonPeriodDeserializer} and {@link OsonPeriodSerializer}</li>
  *   <li>{@link Duration} - {@link OsonDurationDeserializer} and {@link OsonDurationSerializer}</li>
  *   <li>{@link BigInteger} - {@link OsonBigIntegerDeserializer} and {@link OsonBigIntegerSerializer}</li>
@@ -84,8 +88,28 @@ import java.util.logging.Logger;
  *   <li>{@code jakarta.persistence.AttributeConverter[]} - {@link OsonConverterArraySerializer} and {@link OsonConverterArrayDeserializer}</li>
  *   <li>{@link Boolean}- {@link OsonBooleanDeserializer}</li>
  *   <li>{@link UUID}- {@link OsonUUIDDeserializer}</li>
+ *   <li>{@link JsonNode}, {@link ObjectNode} and {@link ArrayNode} - {@link OsonJsonNodeDeserializer}</li>
+ *   <li>Beans - {@link OsonProjectionBeanDeserializer}, which skips the fields that are not bean properties
+ *   when unknown properties are ignored</li>
+ *   <li>{@link java.io.Serializable} - {@link OsonSerializableSerializer} and {@link OsonSerializableDeserializer},
+ *   using an {@link OsonSerializableCodec}</li>
  * </ul>
  *
+ * {@link LocalDate}, {@link LocalDateTime} and {@link OffsetDateTime} values
+ * that have no {@code @JsonFormat} are written in the same way as in earlier
+ * releases, and {@link Instant} values are written by the serializer of the
+ * {@code JavaTimeModule}. A module created with native temporal encoding
+ * writes them as OSON DATE, TIMESTAMP and TIMESTAMPTZ values, which older
+ * readers of the data may not expect.
+ * <p>
+ * Converter instances, and the serializers and deserializers that use them,
+ * are shared by all properties through the {@link OsonMetadataCache}.
+ * <p>
+ * The properties of beans are read with accessors generated by
+ * {@link OsonBeanPropertyWriter}, which also writes the values of the types
+ * above directly to the {@link OsonGenerator}.
+ * </p>
+ *
  */
 public class OsonModule extends SimpleModule {
   public static String providerVersion ;
@@ -96,6 +120,22 @@ public class OsonModule extends SimpleModule {
           "/META-INF/maven/com.oracle.database.jdbc/ojdbc-provider-jackson-oson/pom.properties";
   private static final Logger logger = Logger.getLogger(OsonModule.class.getName());
 
+  /**
+   * The codec for properties that are handled as {@link java.io.Serializable}.
+   */
+  private final OsonSerializableCodec serializableCodec;
+
+  /**
+   * True if the properties of beans are read with generated accessors.
+   */
+  private final boolean generateAccessors;
+
+  /**
+   * True if temporal values are written as OSON DATE, TIMESTAMP and
+   * TIMESTAMPTZ values.
+   */
+  private final boolean nativeTemporals;
+
   static  {
     instantiateProviderVersionInfo();
     VERSION = VersionUtil.parseVersion(providerVersion, groupId, artifactId);
@@ -122,14 +162,70 @@ public class OsonModule extends SimpleModule {
     }
   }
 
+  /**
+   * Creates a module that handles {@link java.io.Serializable} properties with
+   * the first {@link OsonSerializableCodec} found by {@link ServiceLoader}, or
+   * with {@link JavaSerializableCodec} if none is found.
+   */
   public OsonModule() {
+    this(loadSerializableCodec());
+  }
+
+  /**
+   * Creates a module that handles {@link java.io.Serializable} properties with
+   * the given codec.
+   *
+   * @param serializableCodec the codec for {@code Serializable} properties. Not null.
+   */
+  public OsonModule(OsonSerializableCodec serializableCodec) {
+    this(serializableCodec, true);
+  }
+
+  /**
+   * Creates a module that handles {@link java.io.Serializable} properties with
+   * the given codec. When {@code generateAccessors} is true, the properties
+   * of beans are written by an {@link OsonBeanPropertyWriter}, which reads
+   * them with a generated accessor instead of reflection.
+   *
+   * @param serializableCodec the codec for {@code Serializable} properties. Not null.
+   * @param generateAccessors true to read properties with generated accessors.
+   */
+  public OsonModule(OsonSerializableCodec serializableCodec, boolean generateAccessors) {
+    this(serializableCodec, generateAccessors, false);
+  }
+
+  /**
+   * Creates a module that handles {@link java.io.Serializable} properties with
+   * the given codec. When {@code nativeTemporals} is true, {@link LocalDate},
+   * {@link LocalDateTime}, {@link OffsetDateTime} and {@link Instant} values
+   * are written as OSON DATE, TIMESTAMP and TIMESTAMPTZ values, unless a
+   * format or a shape is specified for them. An {@code Instant} is written
+   * with an offset of zero. Otherwise, they are written in the same way as in
+   * earlier releases.
+   *
+   * @param serializableCodec the codec for {@code Serializable} properties. Not null.
+   * @param generateAccessors true to read properties with generated accessors.
+   * @param nativeTemporals true to write temporal values as OSON temporal values.
+   */
+  public OsonModule(OsonSerializableCodec serializableCodec, boolean generateAccessors,
+                    boolean nativeTemporals) {
     super(VERSION);
+    this.serializableCodec = serializableCodec;
+    this.generateAccessors = generateAccessors;
+    this.nativeTemporals = nativeTemporals;
 
     addDeserializer(LocalDateTime.class, OsonLocalDateTimeDeserializer.INSTANCE);
-    addSerializer(LocalDateTime.class, OsonLocalDateTimeSerializer.INSTANCE);
+    addSerializer(LocalDateTime.class, nativeTemporals
+      ? OsonLocalDateTimeSerializer.NATIVE_INSTANCE : OsonLocalDateTimeSerializer.INSTANCE);
 
     addDeserializer(OffsetDateTime.class, OsonOffsetDateTimeDeserializer.INSTANCE);
-    addSerializer(OffsetDateTime.class, OsonOffsetDateTimeSerializer.INSTANCE);
+    addSerializer(OffsetDateTime.class, nativeTemporals
+      ? OsonOffsetDateTimeSerializer.NATIVE_INSTANCE : OsonOffsetDateTimeSerializer.INSTANCE);
+
+    addDeserializer(Instant.class, OsonInstantDeserializer.INSTANCE);
+    if (nativeTemporals) {
+      addSerializer(Instant.class, OsonInstantSerializer.INSTANCE);
+    }
 
     addDeserializer(Period.class, OsonPeriodDeserializer.INSTANCE);
     addSerializer(Period.class, OsonPeriodSerializer.INSTANCE);
@@ -155,18 +251,68 @@ public class OsonModule extends SimpleModule {
     addDeserializer(UUID.class, OsonUUIDDeserializer.INSTANCE);
     addDeserializer(Boolean.class, OsonBooleanDeserializer.INSTANCE);
 
-    addSerializer(LocalDate.class, OsonLocalDateSerializer.INSTANCE);
+    addSerializer(LocalDate.class, nativeTemporals
+      ? OsonLocalDateSerializer.NATIVE_INSTANCE : OsonLocalDateSerializer.INSTANCE);
     addDeserializer(LocalDate.class, OsonLocalDateDeserializer.INSTANCE);
 
+    addDeserializer(JsonNode.class, OsonJsonNodeDeserializer.INSTANCE);
+    addDeserializer(ObjectNode.class, OsonJsonNodeDeserializer.OBJECT_INSTANCE);
+    addDeserializer(ArrayNode.class, OsonJsonNodeDeserializer.ARRAY_INSTANCE);
+
     logger.log(Level.FINEST, "OsonModule instantiated.");
 
   }
 
+  /**
+   * Resolves the serializers and deserializers of the given types with a
+   * mapper that has this module registered, so that the first value of each
+   * type that is converted does not pay for introspecting the class and its
+   * converters. Applications may call this method at startup with their
+   * entity classes. {@link JacksonOsonConverter#registerTypes(Class[])} does
+   * the same for the mapper of the provider.
+   *
+   * @param mapper the mapper to prepare
+   * @param types the types to resolve
+   */
+  public static void registerTypes(ObjectMapper mapper, Class<?>... types) {
+    for (Class<?> type : types) {
+      logger.log(Level.FINEST, "Registering type {0}", type.getName());
+      mapper.readerFor(type);
+      mapper.writerFor(type);
+    }
+  }
+
+  private static OsonSerializableCodec loadSerializableCodec() {
+    Iterator<OsonSerializableCodec> codecs =
+      ServiceLoader.load(OsonSerializableCodec.class).iterator();
+    if (codecs.hasNext()) {
+      OsonSerializableCodec codec = codecs.next();
+      logger.log(Level.FINE, "Loaded OsonSerializableCodec: {0}", codec.getClass().getName());
+      return codec;
+    }
+    return JavaSerializableCodec.INSTANCE;
+  }
+
   @Override
   public void setupModule(SetupContext context) {
+    OsonSerializableSerializer serializableSerializer =
+      new OsonSerializableSerializer(serializableCodec);
+    OsonSerializableDeserializer serializableDeserializer =
+      new OsonSerializableDeserializer(serializableCodec);
+
     super.setupModule(context);
 
     context.addBeanSerializerModifier(new BeanSerializerModifier() {
+      @Override
+      public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+        if (generateAccessors) {
+          for (int i = 0; i < beanProperties.size(); i++) {
+            beanProperties.set(i, OsonBeanPropertyWriter.create(config, beanProperties.get(i), nativeTemporals));
+          }
+        }
+        return beanProperties;
+      }
+
       @Override
       public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
         Iterator<PropertyWriter> properties = serializer.properties();
@@ -178,19 +324,17 @@ public class OsonModule extends SimpleModule {
             Class<? extends jakarta.persistence.AttributeConverter> converterClass = annotation.converter();
             serializerAssigned = true;
             if (writer.getType().isArrayType()) {
-              JsonSerializer<?> mySerializer = new OsonConverterArraySerializer(converterClass);
+              JsonSerializer<?> mySerializer = OsonMetadataCache.converterArraySerializer(converterClass);
               writer.assignSerializer((JsonSerializer<Object>) mySerializer);
               logger.log(Level.FINEST, "OsonConverterArraySerializer assigned: " + writer.getName());
             } else {
-              JsonSerializer<Object> mySerializer = new OsonConverterSerializer(converterClass);
+              JsonSerializer<Object> mySerializer = OsonMetadataCache.converterSerializer(converterClass);
               writer.assignSerializer(mySerializer);
               logger.log(Level.FINEST, "OsonConverterSerializer assigned: " + writer.getName());
             }
           }
-          if (Util.implementsSerializable(writer.getType().getInterfaces())
-                  && !Util.isJavaWrapperSerializable(writer)
-                  && !serializerAssigned){
-            writer.assignSerializer(OsonSerializableSerializer.INSTANCE);
+          if (!serializerAssigned && OsonMetadataCache.isSerializableProperty(writer.getType())){
+            writer.assignSerializer(serializableSerializer);
             logger.log(Level.FINEST, "OsonSerializableSerializer assigned: " + writer.getName());
           }
         }
@@ -217,23 +361,24 @@ public class OsonModule extends SimpleModule {
               Class<? extends jakarta.persistence.AttributeConverter> converterClass = annotation.converter();
               deserializerAssigned = true;
               if(property.getType().isArrayType()){
-                JsonDeserializer<Object[]> deser = new OsonConverterArrayDeserializer(converterClass);
+                JsonDeserializer<Object[]> deser = OsonMetadataCache.converterArrayDeserializer(converterClass);
                 ((BeanDeserializer) deserializer).replaceProperty(property,property.withValueDeserializer(deser));
                 logger.log(Level.FINEST, "OsonConverterArrayDeserializer assigned: " + property.getName());
               } else {
-                JsonDeserializer<Object> deser = new OsonConverterDeserializer(converterClass);
+                JsonDeserializer<Object> deser = OsonMetadataCache.converterDeserializer(converterClass);
                 ((BeanDeserializer) deserializer).replaceProperty(property,property.withValueDeserializer(deser));
                 logger.log(Level.FINEST, "OsonConverterDeserializer assigned: " + property.getName());
               }
             }
-            if (Util.implementsSerializable(property.getType().getInterfaces())
-                    && !Util.isJavaWrapperSerializable(property.getType())
-                    && !deserializerAssigned){
-              JsonDeserializer<Object> deser = OsonSerializableDeserializer.INSTANCE;
+            if (!deserializerAssigned && OsonMetadataCache.isSerializableProperty(property.getType())){
+              JsonDeserializer<Object> deser = serializableDeserializer;
               ((BeanDeserializer) deserializer).replaceProperty(property,property.withValueDeserializer(deser));
               logger.log(Level.FINEST, "OsonSerializableDeserializer assigned: " + property.getName());
             }
           }
+          if (deserializer.getClass() == BeanDeserializer.class) {
+            return new OsonProjectionBeanDeserializer((BeanDeserializer) deserializer);
+          }
           return deserializer;
         }
         return deserializer;
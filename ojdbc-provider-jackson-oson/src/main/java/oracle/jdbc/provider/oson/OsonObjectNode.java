@@ -0,0 +1,208 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import oracle.jdbc.provider.oson.deser.OsonJsonNodeDeserializer;
+import oracle.sql.json.OracleJsonObject;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An {@link ObjectNode} backed by an {@link OracleJsonObject}. The child node
+ * of a field is created the first time the field is accessed, so reading a
+ * few fields of a large OSON document only decodes those fields. The node
+ * behaves like any other {@code ObjectNode}: the first modification copies
+ * the remaining fields into a regular map, after which the
+ * {@code OracleJsonObject} is no longer referenced.
+ * <p>
+ * As with other nodes, the node may be read by several threads, and must not
+ * be modified while it is read.
+ */
+public class OsonObjectNode extends ObjectNode {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates a node backed by the given object.
+   *
+   * @param nodeFactory the factory for the child nodes. Not null.
+   * @param object the OSON object. Not null.
+   */
+  public OsonObjectNode(JsonNodeFactory nodeFactory, OracleJsonObject object) {
+    super(nodeFactory, new LazyChildren(nodeFactory, object));
+  }
+
+  /**
+   * The children of an {@link OsonObjectNode}. Child nodes are cached once
+   * created, so that repeated access returns the same (possibly modified)
+   * node. The cache is concurrent, so that reads from several threads return
+   * the same node.
+   */
+  private static final class LazyChildren extends AbstractMap<String, JsonNode> {
+
+    private final JsonNodeFactory nodeFactory;
+
+    /** The OSON object, or null once the children have been materialized. */
+    private OracleJsonObject object;
+
+    /** The nodes created so far, or all the children once materialized. */
+    private Map<String, JsonNode> nodes = new ConcurrentHashMap<>();
+
+    LazyChildren(JsonNodeFactory nodeFactory, OracleJsonObject object) {
+      this.nodeFactory = nodeFactory;
+      this.object = object;
+    }
+
+    @Override
+    public JsonNode get(Object key) {
+      if (object == null)
+        return nodes.get(key);
+      if (!(key instanceof String))
+        return null;
+
+      JsonNode node = nodes.get(key);
+      if (node == null && object.containsKey(key)) {
+        node = OsonJsonNodeDeserializer.toJsonNode(
+          object.get(key), nodeFactory);
+        JsonNode existing = nodes.putIfAbsent((String) key, node);
+        if (existing != null)
+          node = existing;
+      }
+      return node;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return object == null ? nodes.containsKey(key) : object.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+      return object == null ? nodes.size() : object.size();
+    }
+
+    @Override
+    public JsonNode put(String key, JsonNode value) {
+      return materialize().put(key, value);
+    }
+
+    @Override
+    public JsonNode remove(Object key) {
+      return materialize().remove(key);
+    }
+
+    @Override
+    public void clear() {
+      object = null;
+      nodes = new LinkedHashMap<>();
+    }
+
+    @Override
+    public Set<Entry<String, JsonNode>> entrySet() {
+      if (object == null)
+        return nodes.entrySet();
+
+      final Set<String> keys = object.keySet();
+      return new AbstractSet<Entry<String, JsonNode>>() {
+        @Override
+        public Iterator<Entry<String, JsonNode>> iterator() {
+          final Iterator<String> keyIterator = keys.iterator();
+          return new Iterator<Entry<String, JsonNode>>() {
+            private String last;
+
+            @Override
+            public boolean hasNext() {
+              return keyIterator.hasNext();
+            }
+
+            @Override
+            public Entry<String, JsonNode> next() {
+              last = keyIterator.next();
+              return new SimpleEntry<String, JsonNode>(last, get(last)) {
+                @Override
+                public JsonNode setValue(JsonNode value) {
+                  super.setValue(value);
+                  return put(getKey(), value);
+                }
+              };
+            }
+
+            @Override
+            public void remove() {
+              if (last == null)
+                throw new IllegalStateException();
+              LazyChildren.this.remove(last);
+              last = null;
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return LazyChildren.this.size();
+        }
+      };
+    }
+
+    /**
+     * Copies all the children into a modifiable map and releases the OSON
+     * object.
+     */
+    private Map<String, JsonNode> materialize() {
+      if (object != null) {
+        Map<String, JsonNode> children = new LinkedHashMap<>();
+        for (String key : object.keySet()) {
+          children.put(key, get(key));
+        }
+        nodes = children;
+        object = null;
+      }
+      return nodes;
+    }
+  }
+}
@@ -43,16 +43,23 @@ import com.fasterxml.jackson.core.base.ParserBase;
 import com.fasterxml.jackson.core.io.IOContext;
 import oracle.sql.json.OracleJsonParser;
 import oracle.sql.json.OracleJsonParser.Event;
+import oracle.sql.json.OracleJsonValue;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -71,13 +78,19 @@ public class OsonParser extends ParserBase {
   private final Logger logger = Logger.getLogger(OsonParser.class.getName());
 
   /** The OracleJsonParser instance to parse Oracle JSON data. */
-  private final OracleJsonParser parser;
+  private OracleJsonParser parser;
 
   /** Contains the current field name and hence makes this instance stateful.*/
   private String fieldName;
 
   private OracleJsonParser.Event currentEvent;
   private OracleJsonParser.Event lastClearedEvent;
+
+  /**
+   * The projection of each open object or array, innermost last. A null
+   * entry returns all the fields.
+   */
+  private final List<Set<String>> projections = new ArrayList<>();
   
   private ObjectCodec _codec;
 
@@ -140,6 +153,27 @@ public class OsonParser extends ParserBase {
     this.parser = parser;
   }
 
+  /**
+   * Binds this parser to another OracleJsonParser so that the instance can be
+   * reused by {@link OsonRecyclerPool}. All token state of the previous
+   * parser is cleared.
+   *
+   * @param parser The OracleJsonParser to read from, or null to release the
+   *               current one.
+   */
+  void reset(OracleJsonParser parser) {
+    this.parser = parser;
+    this.fieldName = null;
+    this.currentEvent = null;
+    this.lastClearedEvent = null;
+    _currToken = null;
+    _lastClearedToken = null;
+    _binaryValue = null;
+    _numTypesValid = NR_UNKNOWN;
+    _closed = false;
+    projections.clear();
+  }
+
   /**
    * Closes the underlying OracleJsonParser.
    *
@@ -184,8 +218,35 @@ public class OsonParser extends ParserBase {
   @Override
   public JsonToken nextToken() throws IOException {
     logger.log(Level.FINEST, "nextToken");
-    if (parser.hasNext()) {
+    return advance();
+  }
+
+  /**
+   * Moves to the next event that is not skipped by a projection.
+   *
+   * @return The JsonToken of the event, or null if there are no more events.
+   */
+  private JsonToken advance() {
+    while (parser.hasNext()) {
       currentEvent = parser.next();
+      switch (currentEvent) {
+        case START_OBJECT:
+        case START_ARRAY:
+          projections.add(null);
+          break;
+        case END_OBJECT:
+        case END_ARRAY:
+          closeProjection();
+          break;
+        case KEY_NAME:
+          // The name is only decoded when the object has a projection
+          Set<String> projection = currentProjection();
+          if (projection != null && !projection.contains(parser.getString())) {
+            skipValue();
+            continue;
+          }
+          break;
+      }
       _currToken = fromOsonEvent(currentEvent);
       return _currToken;
     }
@@ -193,6 +254,65 @@ public class OsonParser extends ParserBase {
     return null;
   }
 
+  /**
+   * Restricts the fields that are returned for the object at the current
+   * START_OBJECT event to the given names. The other fields are skipped
+   * without producing any token, and the objects and arrays that they hold
+   * are skipped with the jump offsets of the OSON image.
+   *
+   * @param names The names of the fields to return, or null to return all
+   *              the fields.
+   * @throws IllegalStateException if the current event is not START_OBJECT.
+   */
+  public void setProjection(Set<String> names) {
+    if (currentEvent != Event.START_OBJECT || projections.isEmpty())
+      throw new IllegalStateException("Not at the start of an object: " + currentEvent);
+    projections.set(projections.size() - 1, names);
+  }
+
+  /**
+   * Returns the projection of the current object or array.
+   *
+   * @return The names of the fields to return, or null if all the fields are
+   *         returned.
+   */
+  private Set<String> currentProjection() {
+    return projections.isEmpty()
+      ? null
+      : projections.get(projections.size() - 1);
+  }
+
+  /**
+   * Skips the value of the current field.
+   */
+  private void skipValue() {
+    Event event = parser.next();
+    if (event == Event.START_OBJECT) {
+      parser.skipObject();
+    }
+    else if (event == Event.START_ARRAY) {
+      parser.skipArray();
+    }
+  }
+
+  /**
+   * Moves to the END_OBJECT or END_ARRAY event of the current object or
+   * array, after the underlying parser has skipped its content.
+   */
+  private void endStructure() {
+    currentEvent = currentEvent == Event.START_OBJECT
+            ? Event.END_OBJECT
+            : Event.END_ARRAY;
+    _currToken = fromOsonEvent(currentEvent);
+    closeProjection();
+  }
+
+  private void closeProjection() {
+    if (!projections.isEmpty()) {
+      projections.remove(projections.size() - 1);
+    }
+  }
+
   /**
    * Returns the current object codec.
    *
@@ -230,7 +350,9 @@ public class OsonParser extends ParserBase {
   }
 
   /**
-   * Skips the children nodes in the current JSON structure.
+   * Skips the children nodes in the current JSON structure, leaving the parser
+   * on its END_OBJECT or END_ARRAY event. Does nothing if the current event is
+   * not START_OBJECT or START_ARRAY.
    *
    * @return The current JsonParser instance.
    * @throws IOException if an I/O error occurs.
@@ -238,14 +360,13 @@ public class OsonParser extends ParserBase {
   @Override
   public JsonParser skipChildren() throws IOException {
     logger.log(Level.FINEST, "skipChildren");
-    if (currentEvent == null && parser.hasNext()) {
-      currentEvent = parser.next();
-    }
     if(currentEvent == Event.START_ARRAY) {
       parser.skipArray();
+      endStructure();
     }
-    if(currentEvent == Event.START_OBJECT) {
+    else if(currentEvent == Event.START_OBJECT) {
       parser.skipObject();
+      endStructure();
     }
 
     return this;
@@ -289,7 +410,7 @@ public class OsonParser extends ParserBase {
   public JsonToken getCurrentToken() {
     logger.log(Level.FINEST, "getCurrentToken");
     if (currentEvent == null && parser.hasNext()) {
-      currentEvent = parser.next();
+      return advance();
     }
     _currToken = fromOsonEvent(currentEvent);
     return _currToken;
@@ -332,6 +453,26 @@ public class OsonParser extends ParserBase {
     return currentEvent;
   }
 
+  /**
+   * Reads the object or array that starts at the current event as an
+   * {@link OracleJsonValue}, without producing tokens for its content. When
+   * the input is binary OSON, the returned value navigates the OSON image
+   * directly, so a field is only decoded when it is accessed. The parser is
+   * left on the matching END_OBJECT or END_ARRAY event.
+   *
+   * @return The current object or array.
+   * @throws IllegalStateException if the current event is not START_OBJECT
+   * or START_ARRAY.
+   */
+  public OracleJsonValue readOracleJsonValue() {
+    logger.log(Level.FINEST, "readOracleJsonValue " + currentEvent);
+    if (currentEvent != Event.START_OBJECT && currentEvent != Event.START_ARRAY)
+      throw new IllegalStateException("Not at the start of an object or array: " + currentEvent);
+    OracleJsonValue value = parser.getValue();
+    endStructure();
+    return value;
+  }
+
   /**
    * Get the current Token ID.
    */
@@ -619,4 +760,44 @@ public class OsonParser extends ParserBase {
       return parser.getLocalDateTime();
     }
   }
+
+  /**
+   * Reads a LocalDate value from the OracleJsonParser. The date of an OSON
+   * DATE or TIMESTAMP is decoded directly from its image.
+   *
+   * @return The LocalDate value parsed.
+   */
+  public LocalDate readLocalDate() {
+    logger.log(Level.FINEST, "readLocalDate " + currentEvent);
+    if(currentEvent == OracleJsonParser.Event.VALUE_STRING) {
+      return LocalDate.parse( parser.getString() );
+    }
+    byte[] image = OsonTemporalCodec.image(parser.getValue());
+    if (image == null) {
+      return parser.getLocalDateTime().toLocalDate();
+    }
+    return OsonTemporalCodec.decodeLocalDate(image);
+  }
+
+  /**
+   * Reads an Instant value from the OracleJsonParser. An OSON TIMESTAMPTZ is
+   * decoded directly from its image. An OSON DATE or TIMESTAMP has no time
+   * zone, so its date and time are taken to be in UTC, and not in the default
+   * time zone of the JVM. A string is parsed as an ISO-8601 instant.
+   *
+   * @return The Instant value parsed.
+   */
+  public Instant readInstant() {
+    logger.log(Level.FINEST, "readInstant " + currentEvent);
+    if(currentEvent == OracleJsonParser.Event.VALUE_STRING) {
+      return Instant.parse( parser.getString() );
+    }
+    byte[] image = OsonTemporalCodec.image(parser.getValue());
+    if (image == null) {
+      return currentEvent == OracleJsonParser.Event.VALUE_TIMESTAMPTZ
+        ? parser.getOffsetDateTime().toInstant()
+        : parser.getLocalDateTime().toInstant(ZoneOffset.UTC);
+    }
+    return OsonTemporalCodec.decodeInstant(image);
+  }
 }
@@ -0,0 +1,143 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson;
+
+import oracle.sql.json.OracleJsonGenerator;
+import oracle.sql.json.OracleJsonParser;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A bounded pool of {@link OsonGenerator} and {@link OsonParser} instances
+ * that wrap an {@link OracleJsonGenerator} or {@link OracleJsonParser} given by
+ * the JDBC driver. {@link JacksonOsonConverter} is called once for every JSON
+ * value that the driver converts, and reusing the wrappers avoids creating a
+ * generator or parser, along with its contexts, for every row.
+ * <p>
+ * The pool is shared by all threads rather than being thread local, so that
+ * it stays small when the converter is called from many short-lived virtual
+ * threads. Acquiring an instance never blocks: a new instance is created when
+ * the pool is empty, and a released instance is dropped when the pool is full.
+ * </p>
+ */
+final class OsonRecyclerPool {
+
+  /**
+   * Maximum number of idle instances of each type that are retained.
+   */
+  private static final int CAPACITY =
+    Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
+
+  /** Factory that creates an instance when the pool is empty */
+  private final OsonFactory factory;
+
+  /** Idle generators */
+  private final BlockingQueue<OsonGenerator> generators =
+    new ArrayBlockingQueue<>(CAPACITY);
+
+  /** Idle parsers */
+  private final BlockingQueue<OsonParser> parsers =
+    new ArrayBlockingQueue<>(CAPACITY);
+
+  /**
+   * Creates a pool of generators and parsers created by the given factory.
+   *
+   * @param factory Factory that creates new instances. Not null.
+   */
+  OsonRecyclerPool(OsonFactory factory) {
+    this.factory = factory;
+  }
+
+  /**
+   * Returns a generator that writes to the given {@code oGen}. The generator
+   * must be returned with {@link #release(OsonGenerator)} when it is no longer
+   * used.
+   *
+   * @param oGen The OracleJsonGenerator to write to. Not null.
+   * @return A generator that writes to {@code oGen}.
+   */
+  OsonGenerator acquireGenerator(OracleJsonGenerator oGen) {
+    OsonGenerator generator = generators.poll();
+    if (generator == null) {
+      return (OsonGenerator) factory.createGenerator(oGen);
+    }
+    generator.reset(oGen);
+    return generator;
+  }
+
+  /**
+   * Returns a parser that reads from the given {@code oParser}. The parser
+   * must be returned with {@link #release(OsonParser)} when it is no longer
+   * used.
+   *
+   * @param oParser The OracleJsonParser to read from. Not null.
+   * @return A parser that reads from {@code oParser}.
+   */
+  OsonParser acquireParser(OracleJsonParser oParser) {
+    OsonParser parser = parsers.poll();
+    if (parser == null) {
+      return (OsonParser) factory.createParser(oParser);
+    }
+    parser.reset(oParser);
+    return parser;
+  }
+
+  /**
+   * Returns a generator to the pool. The generator releases its reference to
+   * the OracleJsonGenerator of the driver, which is not closed.
+   *
+   * @param generator A generator acquired from this pool. Not null.
+   */
+  void release(OsonGenerator generator) {
+    generator.reset(null);
+    generators.offer(generator);
+  }
+
+  /**
+   * Returns a parser to the pool. The parser releases its reference to
+   * the OracleJsonParser of the driver, which is not closed.
+   *
+   * @param parser A parser acquired from this pool. Not null.
+   */
+  void release(OsonParser parser) {
+    parser.reset(null);
+    parsers.offer(parser);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import oracle.jdbc.provider.oson.deser.OsonSerializableDeserializer;
+import oracle.jdbc.provider.oson.ser.OsonSerializableSerializer;
+
+import java.io.IOException;
+
+/**
+ * Encodes and decodes values of properties that {@link OsonModule} handles as
+ * {@link java.io.Serializable}, which are properties having a type that
+ * implements {@code Serializable} and that is not a JDK type.
+ * <p>
+ * {@link OsonModule#OsonModule()} uses the first implementation of this
+ * interface that is found by {@link java.util.ServiceLoader}, or
+ * {@link JavaSerializableCodec} if there is none. An application may select
+ * {@link NativeSerializableCodec} by listing it in a
+ * {@code META-INF/services/oracle.jdbc.provider.oson.OsonSerializableCodec}
+ * file, or by passing it to {@link OsonModule#OsonModule(OsonSerializableCodec)}.
+ * </p>
+ *
+ * @see OsonSerializableSerializer
+ * @see OsonSerializableDeserializer
+ */
+public interface OsonSerializableCodec {
+
+  /**
+   * Writes a non-null value.
+   *
+   * @param value the value to write. Not null.
+   * @param gen the generator to write to
+   * @param serializers the serializer provider
+   * @throws IOException if the value can not be written
+   */
+  void serialize(Object value, JsonGenerator gen, SerializerProvider serializers)
+    throws IOException;
+
+  /**
+   * Reads a value that starts at the current token of the parser.
+   *
+   * @param p the parser to read from
+   * @param ctxt the deserialization context
+   * @param type the declared type of the value, or null if it is not known
+   * @return the value read
+   * @throws IOException if the value can not be read
+   */
+  Object deserialize(JsonParser p, DeserializationContext ctxt, JavaType type)
+    throws IOException;
+}
@@ -0,0 +1,471 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import oracle.jdbc.provider.oson.deser.OsonJsonNodeDeserializer;
+import oracle.sql.json.OracleJsonArray;
+import oracle.sql.json.OracleJsonFactory;
+import oracle.sql.json.OracleJsonParser;
+import oracle.sql.json.OracleJsonValue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the elements of an OSON array one at a time, so that large arrays can
+ * be processed with constant memory instead of being deserialized into a
+ * {@code List}. Elements are deserialized with the mapper of
+ * {@link JacksonOsonConverter}.
+ *
+ * Usage Example:
+ * <pre><code>
+ *    try (OracleJsonParser parser = resultSet.getObject(1, OracleJsonParser.class)) {
+ *      Iterator&lt;Event&gt; events = OsonStreams.iterate(parser, Event.class);
+ *      while (events.hasNext()) {
+ *        process(events.next());
+ *      }
+ *    }
+ * </code></pre>
+ *
+ * As with Jackson's {@link com.fasterxml.jackson.databind.MappingIterator},
+ * the elements of a root array are returned one by one, and any other root
+ * value is returned as a single element.
+ * <p>
+ * The rows of a {@code ResultSet} that has a JSON column may also be
+ * deserialized by a pool of threads, while the calling thread fetches the
+ * next rows:
+ * <pre><code>
+ *    try (Stream&lt;Event&gt; events = OsonStreams.stream(resultSet, 1, Event.class, executor, 64)) {
+ *      events.forEach(this::process);
+ *    }
+ * </code></pre>
+ */
+public final class OsonStreams {
+
+  /**
+   * Minimum number of elements of a split of an OSON array.
+   */
+  private static final int MIN_SPLIT_SIZE = 256;
+
+  private static final OracleJsonFactory oracleJsonFactory = new OracleJsonFactory();
+
+  private OsonStreams() {}
+
+  /**
+   * Returns an iterator that deserializes the elements of an OSON array as
+   * they are requested. The parser must not have been advanced, and it is
+   * not closed by the iterator.
+   *
+   * @param parser the parser of the OSON value. Not null.
+   * @param type the type of the elements. Not null.
+   * @param <T> the type of the elements.
+   * @return an iterator over the elements.
+   * @throws IllegalArgumentException if an element can not be deserialized.
+   */
+  public static <T> Iterator<T> iterate(OracleJsonParser parser, Class<T> type) {
+    return new ElementIterator<>(
+      (OsonParser) JacksonOsonConverter.getOsonFactory().createParser(parser),
+      JacksonOsonConverter.readerFor(type));
+  }
+
+  /**
+   * Returns a sequential stream of the elements of an OSON array, read as by
+   * {@link #iterate(OracleJsonParser, Class)}. Closing the stream closes the
+   * parser.
+   *
+   * @param parser the parser of the OSON value. Not null.
+   * @param type the type of the elements. Not null.
+   * @param <T> the type of the elements.
+   * @return a stream of the elements.
+   */
+  public static <T> Stream<T> stream(OracleJsonParser parser, Class<T> type) {
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(
+          iterate(parser, type), Spliterator.ORDERED),
+        false)
+      .onClose(parser::close);
+  }
+
+  /**
+   * Returns a stream of the elements of the OSON array between the position
+   * and the limit of a buffer. The buffer is read in place when it is a heap
+   * buffer, and its position is not changed. The size of the stream is known
+   * from the header of the array, and a parallel stream splits the array into
+   * ranges of elements that are deserialized in parallel.
+   *
+   * @param oson the OSON image of an array. Not null.
+   * @param type the type of the elements. Not null.
+   * @param <T> the type of the elements.
+   * @return a sequential stream of the elements.
+   * @throws IllegalArgumentException if the OSON value is not an array.
+   */
+  public static <T> Stream<T> stream(ByteBuffer oson, Class<T> type) {
+    ByteBuffer buffer = OsonFactory.toArrayBuffer(oson);
+    OracleJsonValue value =
+      oracleJsonFactory.createJsonBinaryValue(buffer.duplicate());
+    if (value.getOracleJsonType() != OracleJsonValue.OracleJsonType.ARRAY)
+      throw new IllegalArgumentException(
+        "OSON value is not an array: " + value.getOracleJsonType());
+
+    OracleJsonArray array = value.asJsonArray();
+    return StreamSupport.stream(
+      new ArraySpliterator<>(buffer, JacksonOsonConverter.readerFor(type),
+        array, 0, array.size()),
+      false);
+  }
+
+  /**
+   * Returns a stream of the values of a JSON column, one for each remaining
+   * row of a result set. The calling thread fetches the rows and reads the
+   * OSON image of the column with {@link ResultSet#getBytes(int)}, and the
+   * images are deserialized by tasks submitted to the executor. The values
+   * are returned in the order of the rows.
+   * <p>
+   * At most {@code maxPending} rows are fetched ahead of the value returned
+   * by the stream, so that a consumer slower than the executor bounds the
+   * memory used by the decoded values. A {@code ForkJoinPool} or a fixed
+   * thread pool may be used as the executor. A SQL NULL is returned as a
+   * null element.
+   * <p>
+   * The result set is not closed by the stream. Closing the stream cancels
+   * the tasks that have not completed.
+   *
+   * @param resultSet the result set, positioned before its next row. Not null.
+   * @param columnIndex the index of the JSON column, starting from 1.
+   * @param type the type of the values. Not null.
+   * @param executor the executor that deserializes the values. Not null.
+   * @param maxPending the maximum number of rows fetched ahead. Greater than 0.
+   * @param <T> the type of the values.
+   * @return a sequential stream of the values.
+   * @throws IllegalArgumentException if {@code maxPending} is not positive.
+   * Also thrown by the stream if a value can not be deserialized.
+   * @throws IllegalStateException thrown by the stream if a row can not be
+   * fetched.
+   */
+  public static <T> Stream<T> stream(
+      ResultSet resultSet, int columnIndex, Class<T> type,
+      Executor executor, int maxPending) {
+    if (maxPending <= 0)
+      throw new IllegalArgumentException(
+        "maxPending must be greater than 0: " + maxPending);
+
+    RowIterator<T> iterator = new RowIterator<>(
+      resultSet, columnIndex, JacksonOsonConverter.readerFor(type),
+      executor, maxPending);
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED),
+        false)
+      .onClose(iterator::cancel);
+  }
+
+  /**
+   * Reads a value from a parser that is positioned on its first token.
+   */
+  private static <T> T readValue(ObjectReader reader, OsonParser parser) {
+    try {
+      return reader.readValue(parser);
+    }
+    catch (IOException e) {
+      throw new IllegalArgumentException("Object parsing from oson failed", e);
+    }
+  }
+
+  /**
+   * Moves a parser to its next token.
+   */
+  private static JsonToken nextToken(OsonParser parser) {
+    try {
+      return parser.nextToken();
+    }
+    catch (IOException e) {
+      throw new IllegalArgumentException("Object parsing from oson failed", e);
+    }
+  }
+
+  /**
+   * Iterator over the elements of a root array, or over a single root value
+   * that is not an array.
+   */
+  private static final class ElementIterator<T> implements Iterator<T> {
+
+    private final OsonParser parser;
+
+    private final ObjectReader reader;
+
+    /** True if the elements are those of a root array. */
+    private final boolean isArray;
+
+    /** True if the parser is positioned on the first token of an element. */
+    private boolean hasToken;
+
+    /** True once the last element has been read. */
+    private boolean isDone;
+
+    ElementIterator(OsonParser parser, ObjectReader reader) {
+      this.parser = parser;
+      this.reader = reader;
+      JsonToken first = nextToken(parser);
+      isArray = first == JsonToken.START_ARRAY;
+      hasToken = first != null && !isArray;
+      isDone = first == null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (isDone)
+        return false;
+
+      if (!hasToken) {
+        JsonToken token = isArray ? nextToken(parser) : null;
+        if (token == null || token == JsonToken.END_ARRAY) {
+          isDone = true;
+          return false;
+        }
+        hasToken = true;
+      }
+      return true;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext())
+        throw new NoSuchElementException();
+
+      hasToken = false;
+      return readValue(reader, parser);
+    }
+  }
+
+  /**
+   * Iterator over the values of a JSON column. Up to {@code maxPending} rows
+   * are deserialized in parallel, and their values are returned in the order
+   * of the rows.
+   */
+  private static final class RowIterator<T> implements Iterator<T> {
+
+    private final ResultSet resultSet;
+
+    private final int columnIndex;
+
+    private final ObjectReader reader;
+
+    private final Executor executor;
+
+    private final int maxPending;
+
+    /** Values of the fetched rows, in the order of the rows. */
+    private final ArrayDeque<CompletableFuture<T>> pending;
+
+    /** True once the last row has been fetched. */
+    private boolean isFetched;
+
+    RowIterator(ResultSet resultSet, int columnIndex, ObjectReader reader,
+                Executor executor, int maxPending) {
+      this.resultSet = resultSet;
+      this.columnIndex = columnIndex;
+      this.reader = reader;
+      this.executor = executor;
+      this.maxPending = maxPending;
+      pending = new ArrayDeque<>(maxPending);
+    }
+
+    @Override
+    public boolean hasNext() {
+      fetch();
+      return !pending.isEmpty();
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext())
+        throw new NoSuchElementException();
+
+      CompletableFuture<T> value = pending.removeFirst();
+      fetch();
+      try {
+        return value.join();
+      }
+      catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException)
+          throw (RuntimeException) e.getCause();
+        throw e;
+      }
+    }
+
+    /**
+     * Fetches rows until {@code maxPending} values are being deserialized, or
+     * the last row has been fetched.
+     */
+    private void fetch() {
+      try {
+        while (!isFetched && pending.size() < maxPending) {
+          if (!resultSet.next()) {
+            isFetched = true;
+            break;
+          }
+          byte[] oson = resultSet.getBytes(columnIndex);
+          pending.addLast(oson == null
+            ? CompletableFuture.completedFuture(null)
+            : CompletableFuture.supplyAsync(() -> readValue(oson), executor));
+        }
+      }
+      catch (SQLException e) {
+        cancel();
+        throw new IllegalStateException("Failed to fetch a row", e);
+      }
+    }
+
+    private T readValue(byte[] oson) {
+      try {
+        return reader.readValue(oson);
+      }
+      catch (IOException e) {
+        throw new IllegalArgumentException("Object parsing from oson failed", e);
+      }
+    }
+
+    /**
+     * Cancels the values that have not been deserialized, and stops fetching
+     * rows.
+     */
+    void cancel() {
+      isFetched = true;
+      for (CompletableFuture<T> value : pending) {
+        value.cancel(false);
+      }
+      pending.clear();
+    }
+  }
+
+  /**
+   * Spliterator over a range of the elements of an OSON array in a buffer.
+   * Elements are read by their index in the array, as an
+   * {@link oracle.jdbc.provider.oson.deser.OsonObjectNode} or an
+   * {@link oracle.jdbc.provider.oson.deser.OsonArrayNode} that only decodes
+   * the fields that are deserialized. A split reads the elements of its range
+   * from an array of its own over the same buffer, created when its first
+   * element is read.
+   */
+  private static final class ArraySpliterator<T> implements Spliterator<T> {
+
+    private final ByteBuffer buffer;
+
+    private final ObjectReader reader;
+
+    /** Index of the next element. */
+    private int index;
+
+    /** Index after the last element of the range. */
+    private final int fence;
+
+    private OracleJsonArray array;
+
+    ArraySpliterator(
+        ByteBuffer buffer, ObjectReader reader, OracleJsonArray array,
+        int index, int fence) {
+      this.buffer = buffer;
+      this.reader = reader;
+      this.array = array;
+      this.index = index;
+      this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      if (index >= fence)
+        return false;
+
+      if (array == null) {
+        array = oracleJsonFactory.createJsonBinaryValue(buffer.duplicate())
+          .asJsonArray();
+      }
+      JsonNode node = OsonJsonNodeDeserializer.toJsonNode(
+        array.get(index++), reader.getConfig().getNodeFactory());
+      try {
+        action.accept(reader.readValue(node));
+      }
+      catch (IOException e) {
+        throw new IllegalArgumentException("Object parsing from oson failed", e);
+      }
+      return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      int size = fence - index;
+      if (size < 2 * MIN_SPLIT_SIZE)
+        return null;
+
+      int middle = index + size / 2;
+      Spliterator<T> prefix =
+        new ArraySpliterator<>(buffer, reader, array, index, middle);
+      index = middle;
+      // The array is not shared with the prefix, which may be read by another
+      // thread
+      array = null;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+  }
+}
@@ -0,0 +1,316 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson;
+
+import oracle.jdbc.driver.json.tree.OracleJsonDateImpl;
+import oracle.jdbc.driver.json.tree.OracleJsonTimestampImpl;
+import oracle.jdbc.driver.json.tree.OracleJsonTimestampTZImpl;
+import oracle.sql.json.OracleJsonValue;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Encodes and decodes the images of OSON temporal values directly from and to
+ * {@code java.time} values, without creating {@code oracle.sql.DATE},
+ * {@code oracle.sql.TIMESTAMP} or {@code java.util.Calendar} objects.
+ * <ul>
+ *   <li>DATE: 7 bytes holding the century and year (both excess 100), month,
+ *   day, and hour, minute and second (all excess 1).</li>
+ *   <li>TIMESTAMP: the 7 bytes of a DATE, followed by 4 bytes of
+ *   nanoseconds in big endian order when the nanoseconds are not zero.</li>
+ *   <li>TIMESTAMPTZ: the 11 bytes of a TIMESTAMP in UTC, followed by the hours
+ *   (excess 20) and minutes (excess 60) of the offset.</li>
+ * </ul>
+ * Years from 1 to 9999 are supported.
+ * <p>
+ * The images of values that are read are obtained from the
+ * {@code oracle.jdbc.driver.json.tree} classes of the driver, which are not
+ * part of its public API. If a version of the driver does not have them,
+ * {@link #image(OracleJsonValue)} returns null, and the values are read with
+ * the methods of {@code OracleJsonParser} instead.
+ * </p>
+ */
+public final class OsonTemporalCodec {
+
+  /** Length of the image of a DATE, or of a TIMESTAMP without nanoseconds */
+  public static final int DATE_LENGTH = 7;
+
+  /** Length of the image of a TIMESTAMP with nanoseconds */
+  public static final int TIMESTAMP_LENGTH = 11;
+
+  /** Length of the image of a TIMESTAMPTZ */
+  public static final int TIMESTAMPTZ_LENGTH = 13;
+
+  private static final int EXCESS_CENTURY = 100;
+  private static final int EXCESS_OFFSET_HOUR = 20;
+  private static final int EXCESS_OFFSET_MINUTE = 60;
+
+  /** Bit of the offset hour byte which indicates a time zone region */
+  private static final int REGION_BIT = 0x80;
+
+  private static final int SECONDS_PER_DAY = 86_400;
+
+  private static final Logger logger = Logger.getLogger(OsonTemporalCodec.class.getName());
+
+  /**
+   * True if the driver exposes the images of its DATE, TIMESTAMP and
+   * TIMESTAMPTZ values.
+   */
+  private static final boolean IMAGES_AVAILABLE = isImageAvailable();
+
+  private OsonTemporalCodec() {
+  }
+
+  /**
+   * Encodes a date as a DATE.
+   *
+   * @param date the date to encode
+   * @return the image of the DATE, with a time of midnight
+   * @throws IllegalArgumentException if the year is not supported
+   */
+  public static byte[] encodeDate(LocalDate date) {
+    byte[] image = new byte[DATE_LENGTH];
+    encodeDate(image, date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    image[4] = 1;
+    image[5] = 1;
+    image[6] = 1;
+    return image;
+  }
+
+  /**
+   * Encodes a date and time as a DATE. Fractions of a second are truncated.
+   *
+   * @param dateTime the date and time to encode
+   * @return the image of the DATE
+   * @throws IllegalArgumentException if the year is not supported
+   */
+  public static byte[] encodeDate(LocalDateTime dateTime) {
+    byte[] image = new byte[DATE_LENGTH];
+    encodeDateTime(image, dateTime);
+    return image;
+  }
+
+  /**
+   * Encodes a date and time as a TIMESTAMP.
+   *
+   * @param dateTime the date and time to encode
+   * @return the image of the TIMESTAMP, which has {@value #DATE_LENGTH} bytes
+   * if the nanoseconds are zero and {@value #TIMESTAMP_LENGTH} bytes otherwise
+   * @throws IllegalArgumentException if the year is not supported
+   */
+  public static byte[] encodeTimestamp(LocalDateTime dateTime) {
+    int nanos = dateTime.getNano();
+    byte[] image = new byte[nanos == 0 ? DATE_LENGTH : TIMESTAMP_LENGTH];
+    encodeDateTime(image, dateTime);
+    if (nanos != 0) {
+      encodeNanos(image, nanos);
+    }
+    return image;
+  }
+
+  /**
+   * Encodes a date and time with an offset as a TIMESTAMPTZ.
+   *
+   * @param dateTime the date and time to encode
+   * @return the image of the TIMESTAMPTZ
+   * @throws IllegalArgumentException if the year in UTC is not supported
+   */
+  public static byte[] encodeTimestampTZ(OffsetDateTime dateTime) {
+    LocalDateTime utc = dateTime.withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    return encodeTimestampTZ(utc, dateTime.getOffset().getTotalSeconds());
+  }
+
+  /**
+   * Encodes an instant as a TIMESTAMPTZ with an offset of zero.
+   *
+   * @param instant the instant to encode
+   * @return the image of the TIMESTAMPTZ
+   * @throws IllegalArgumentException if the year in UTC is not supported
+   */
+  public static byte[] encodeTimestampTZ(Instant instant) {
+    LocalDateTime utc =
+      LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), ZoneOffset.UTC);
+    return encodeTimestampTZ(utc, 0);
+  }
+
+  /**
+   * Decodes the date of a DATE, TIMESTAMP or TIMESTAMPTZ. For a TIMESTAMPTZ,
+   * this is the date in UTC.
+   *
+   * @param image the image of the value
+   * @return the date, without the time
+   */
+  public static LocalDate decodeLocalDate(byte[] image) {
+    return LocalDate.of(decodeYear(image), image[2], image[3]);
+  }
+
+  /**
+   * Decodes the date and time of a DATE, TIMESTAMP or TIMESTAMPTZ. For a
+   * TIMESTAMPTZ, this is the date and time in UTC.
+   *
+   * @param image the image of the value
+   * @return the date and time
+   */
+  public static LocalDateTime decodeLocalDateTime(byte[] image) {
+    return LocalDateTime.of(decodeYear(image), image[2], image[3],
+      image[4] - 1, image[5] - 1, image[6] - 1, decodeNanos(image));
+  }
+
+  /**
+   * Decodes a DATE, TIMESTAMP or TIMESTAMPTZ as an instant. A DATE or
+   * TIMESTAMP has no time zone, so its date and time are taken to be in UTC,
+   * and not in the default time zone of the JVM.
+   *
+   * @param image the image of the value
+   * @return the instant
+   */
+  public static Instant decodeInstant(byte[] image) {
+    long epochDay = LocalDate.of(decodeYear(image), image[2], image[3]).toEpochDay();
+    long seconds = epochDay * SECONDS_PER_DAY
+      + (image[4] - 1) * 3600 + (image[5] - 1) * 60 + (image[6] - 1);
+    return Instant.ofEpochSecond(seconds, decodeNanos(image));
+  }
+
+  /**
+   * Decodes a TIMESTAMPTZ that has an offset, rather than a time zone region.
+   *
+   * @param image the image of the TIMESTAMPTZ
+   * @return the date and time with its offset
+   * @throws IllegalArgumentException if the image is not a TIMESTAMPTZ or if
+   * it has a time zone region
+   */
+  public static OffsetDateTime decodeOffsetDateTime(byte[] image) {
+    if (image.length != TIMESTAMPTZ_LENGTH || (image[11] & REGION_BIT) != 0) {
+      throw new IllegalArgumentException("Not a TIMESTAMPTZ with an offset");
+    }
+    ZoneOffset offset = ZoneOffset.ofHoursMinutes(
+      image[11] - EXCESS_OFFSET_HOUR, image[12] - EXCESS_OFFSET_MINUTE);
+    return OffsetDateTime.of(decodeLocalDateTime(image), ZoneOffset.UTC)
+      .withOffsetSameInstant(offset);
+  }
+
+  /**
+   * Returns the image of a DATE, TIMESTAMP or TIMESTAMPTZ value that was read
+   * by the driver, or null if the value is of another type, or if the driver
+   * does not expose the image.
+   *
+   * @param value the value read by the driver
+   * @return the image of the value, or null
+   */
+  static byte[] image(OracleJsonValue value) {
+    if (!IMAGES_AVAILABLE) {
+      return null;
+    }
+    if (value instanceof OracleJsonDateImpl) {
+      return ((OracleJsonDateImpl) value).raw();
+    }
+    if (value instanceof OracleJsonTimestampImpl) {
+      return ((OracleJsonTimestampImpl) value).raw();
+    }
+    if (value instanceof OracleJsonTimestampTZImpl) {
+      return ((OracleJsonTimestampTZImpl) value).raw();
+    }
+    return null;
+  }
+
+  private static boolean isImageAvailable() {
+    try {
+      OracleJsonDateImpl.class.getMethod("raw");
+      OracleJsonTimestampImpl.class.getMethod("raw");
+      OracleJsonTimestampTZImpl.class.getMethod("raw");
+      return true;
+    }
+    catch (NoSuchMethodException | LinkageError e) {
+      logger.log(Level.FINE, "Temporal images are not available from the driver", e);
+      return false;
+    }
+  }
+
+  private static byte[] encodeTimestampTZ(LocalDateTime utc, int offsetSeconds) {
+    byte[] image = new byte[TIMESTAMPTZ_LENGTH];
+    encodeDateTime(image, utc);
+    encodeNanos(image, utc.getNano());
+    int offsetMinutes = offsetSeconds / 60;
+    image[11] = (byte) (offsetMinutes / 60 + EXCESS_OFFSET_HOUR);
+    image[12] = (byte) (offsetMinutes % 60 + EXCESS_OFFSET_MINUTE);
+    return image;
+  }
+
+  private static void encodeDateTime(byte[] image, LocalDateTime dateTime) {
+    encodeDate(image, dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth());
+    image[4] = (byte) (dateTime.getHour() + 1);
+    image[5] = (byte) (dateTime.getMinute() + 1);
+    image[6] = (byte) (dateTime.getSecond() + 1);
+  }
+
+  private static void encodeDate(byte[] image, int year, int month, int day) {
+    if (year < 1 || year > 9999) {
+      throw new IllegalArgumentException("The year " + year + " is not supported");
+    }
+    image[0] = (byte) (year / 100 + EXCESS_CENTURY);
+    image[1] = (byte) (year % 100 + EXCESS_CENTURY);
+    image[2] = (byte) month;
+    image[3] = (byte) day;
+  }
+
+  private static void encodeNanos(byte[] image, int nanos) {
+    image[7] = (byte) (nanos >>> 24);
+    image[8] = (byte) (nanos >>> 16);
+    image[9] = (byte) (nanos >>> 8);
+    image[10] = (byte) nanos;
+  }
+
+  private static int decodeYear(byte[] image) {
+    return ((image[0] & 0xFF) - EXCESS_CENTURY) * 100 + (image[1] & 0xFF) - EXCESS_CENTURY;
+  }
+
+  private static int decodeNanos(byte[] image) {
+    if (image.length < TIMESTAMP_LENGTH) {
+      return 0;
+    }
+    return (image[7] & 0xFF) << 24 | (image[8] & 0xFF) << 16
+      | (image[9] & 0xFF) << 8 | (image[10] & 0xFF);
+  }
+}
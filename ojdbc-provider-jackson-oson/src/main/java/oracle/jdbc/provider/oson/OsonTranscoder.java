@@ -0,0 +1,445 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import oracle.sql.json.OracleJsonFactory;
+import oracle.sql.json.OracleJsonGenerator;
+import oracle.sql.json.OracleJsonParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Converts JSON text to OSON, and OSON to JSON text, without creating any
+ * objects for the JSON values. The tokens of the text are written to an
+ * {@link OracleJsonGenerator} as they are parsed, and OSON is written as text
+ * by the generator of the Oracle JDBC driver.
+ *
+ * Usage Example:
+ * <pre><code>
+ *    try (InputStream in = Files.newInputStream(json);
+ *         OutputStream out = Files.newOutputStream(oson)) {
+ *      OsonTranscoder.jsonToOson(in, out);
+ *    }
+ * </code></pre>
+ *
+ * Numbers are written as OSON NUMBER. A number that is outside the range or
+ * the precision of NUMBER is written as an OSON DOUBLE if the double has the
+ * same decimal value, and can not be converted otherwise.
+ */
+public final class OsonTranscoder {
+
+  /**
+   * File extension of the JSON text files converted by
+   * {@link #jsonToOsonAll(Path, Path, ForkJoinPool)}.
+   */
+  public static final String JSON_EXTENSION = ".json";
+
+  /**
+   * File extension of the OSON files converted by
+   * {@link #osonToJsonAll(Path, Path, ForkJoinPool)}.
+   */
+  public static final String OSON_EXTENSION = ".oson";
+
+  /**
+   * Smallest and largest decimal exponents of a non-zero Oracle NUMBER.
+   */
+  private static final int MIN_NUMBER_EXPONENT = -130;
+  private static final int MAX_NUMBER_EXPONENT = 125;
+
+  /**
+   * Largest number of base 100 digits in the mantissa of an Oracle NUMBER.
+   * The driver silently truncates the digits of a number that needs more.
+   */
+  private static final int MAX_NUMBER_DIGITS = 20;
+
+  private static final JsonFactory jsonFactory =
+    new JsonFactory().disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+  private static final OracleJsonFactory oracleJsonFactory = new OracleJsonFactory();
+
+  private OsonTranscoder() {
+  }
+
+  /**
+   * Converts the JSON text of a stream to OSON. Neither stream is closed, and
+   * the output stream is flushed.
+   *
+   * @param in the JSON text, encoded in UTF-8, UTF-16 or UTF-32
+   * @param out the stream to which the OSON image is written
+   * @throws IOException if reading, parsing or writing fails, or if a number
+   * can not be written as OSON
+   */
+  public static void jsonToOson(InputStream in, OutputStream out) throws IOException {
+    try (JsonParser parser = jsonFactory.createParser(in);
+         OracleJsonGenerator generator =
+           oracleJsonFactory.createJsonBinaryGenerator(new UnclosedOutputStream(out))) {
+      if (parser.nextToken() == null) {
+        throw new JsonParseException(parser, "No content to transcode");
+      }
+      copyStructure(parser, generator);
+    }
+  }
+
+  /**
+   * Converts JSON text to OSON.
+   *
+   * @param json the JSON text, encoded in UTF-8, UTF-16 or UTF-32
+   * @return the OSON image
+   * @throws IOException if the text can not be parsed, or if a number can not
+   * be written as OSON
+   */
+  public static byte[] jsonToOson(byte[] json) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+    try (JsonParser parser = jsonFactory.createParser(json);
+         OracleJsonGenerator generator = oracleJsonFactory.createJsonBinaryGenerator(out)) {
+      if (parser.nextToken() == null) {
+        throw new JsonParseException(parser, "No content to transcode");
+      }
+      copyStructure(parser, generator);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Converts an OSON image to JSON text. OSON values that have no JSON
+   * counterpart, such as timestamps and binaries, are written as strings.
+   * The output stream is flushed, and is not closed.
+   *
+   * @param oson the OSON image
+   * @param out the stream to which the JSON text is written in UTF-8
+   * @throws IOException if writing fails
+   */
+  public static void osonToJson(ByteBuffer oson, OutputStream out) throws IOException {
+    try (OracleJsonParser parser =
+           oracleJsonFactory.createJsonBinaryParser(OsonFactory.toArrayBuffer(oson));
+         OracleJsonGenerator generator =
+           oracleJsonFactory.createJsonTextGenerator(new UnclosedOutputStream(out))) {
+      generator.writeParser(parser);
+    }
+  }
+
+  /**
+   * Converts an OSON image to JSON text.
+   *
+   * @param oson the OSON image
+   * @return the JSON text, encoded in UTF-8
+   * @throws IOException if the image can not be read
+   */
+  public static byte[] osonToJson(byte[] oson) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(oson.length * 2);
+    osonToJson(ByteBuffer.wrap(oson), out);
+    return out.toByteArray();
+  }
+
+  /**
+   * Converts a file of JSON text to a file of OSON. The target file is
+   * created, or replaced if it exists.
+   *
+   * @param source the JSON text file
+   * @param target the OSON file
+   * @throws IOException if reading, parsing or writing fails
+   */
+  public static void jsonToOson(Path source, Path target) throws IOException {
+    try (InputStream in = Files.newInputStream(source);
+         OutputStream out = Files.newOutputStream(target)) {
+      jsonToOson(in, out);
+    }
+  }
+
+  /**
+   * Converts a file of OSON to a file of JSON text. The target file is
+   * created, or replaced if it exists.
+   *
+   * @param source the OSON file
+   * @param target the JSON text file
+   * @throws IOException if reading or writing fails
+   */
+  public static void osonToJson(Path source, Path target) throws IOException {
+    byte[] oson = Files.readAllBytes(source);
+    try (OutputStream out = Files.newOutputStream(target)) {
+      osonToJson(ByteBuffer.wrap(oson), out);
+    }
+  }
+
+  /**
+   * Converts every {@value #JSON_EXTENSION} file of a directory to a
+   * {@value #OSON_EXTENSION} file of the same name in the target directory.
+   * When a {@code pool} is given, the files are converted concurrently.
+   *
+   * @param sourceDirectory the directory of the JSON text files
+   * @param targetDirectory the directory of the OSON files. It is created if
+   *                        it does not exist.
+   * @param pool the pool used to convert the files, or null to convert them on
+   *             the calling thread
+   * @return the number of files converted
+   * @throws IOException if any file can not be converted
+   */
+  public static int jsonToOsonAll(
+    Path sourceDirectory, Path targetDirectory, ForkJoinPool pool)
+    throws IOException {
+    return transcodeAll(
+      sourceDirectory, targetDirectory, JSON_EXTENSION, OSON_EXTENSION, true, pool);
+  }
+
+  /**
+   * Converts every {@value #OSON_EXTENSION} file of a directory to a
+   * {@value #JSON_EXTENSION} file of the same name in the target directory.
+   * When a {@code pool} is given, the files are converted concurrently.
+   *
+   * @param sourceDirectory the directory of the OSON files
+   * @param targetDirectory the directory of the JSON text files. It is created
+   *                        if it does not exist.
+   * @param pool the pool used to convert the files, or null to convert them on
+   *             the calling thread
+   * @return the number of files converted
+   * @throws IOException if any file can not be converted
+   */
+  public static int osonToJsonAll(
+    Path sourceDirectory, Path targetDirectory, ForkJoinPool pool)
+    throws IOException {
+    return transcodeAll(
+      sourceDirectory, targetDirectory, OSON_EXTENSION, JSON_EXTENSION, false, pool);
+  }
+
+  private static int transcodeAll(
+    Path sourceDirectory, Path targetDirectory, String sourceExtension,
+    String targetExtension, boolean toOson, ForkJoinPool pool)
+    throws IOException {
+    Files.createDirectories(targetDirectory);
+    List<Path> sources = new ArrayList<>();
+    try (DirectoryStream<Path> files =
+           Files.newDirectoryStream(sourceDirectory, "*" + sourceExtension)) {
+      for (Path file : files) {
+        if (Files.isRegularFile(file)) {
+          sources.add(file);
+        }
+      }
+    }
+
+    List<ForkJoinTask<?>> tasks = new ArrayList<>(sources.size());
+    for (Path source : sources) {
+      String name = source.getFileName().toString();
+      Path target = targetDirectory.resolve(
+        name.substring(0, name.length() - sourceExtension.length()) + targetExtension);
+      if (pool == null) {
+        transcode(source, target, toOson);
+      }
+      else {
+        tasks.add(pool.submit(() -> {
+          try {
+            transcode(source, target, toOson);
+          }
+          catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }));
+      }
+    }
+
+    try {
+      for (ForkJoinTask<?> task : tasks) {
+        task.join();
+      }
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    return sources.size();
+  }
+
+  private static void transcode(Path source, Path target, boolean toOson)
+    throws IOException {
+    if (toOson) {
+      jsonToOson(source, target);
+    }
+    else {
+      osonToJson(source, target);
+    }
+  }
+
+  /**
+   * Writes the value at the current token of a parser, and advances the
+   * parser to the last token of that value. If the current token is the
+   * start of an object or array, the parser is left at its matching end.
+   *
+   * @param parser a parser positioned at the first token of a value
+   * @param generator the generator to write the value to
+   * @throws IOException if parsing fails, if the content is truncated, or if
+   * a number can not be written as OSON
+   */
+  static void copyStructure(JsonParser parser, OracleJsonGenerator generator)
+    throws IOException {
+    int depth = 0;
+    JsonToken token = parser.currentToken();
+    do {
+      switch (token) {
+        case START_OBJECT:
+          generator.writeStartObject();
+          depth++;
+          break;
+        case START_ARRAY:
+          generator.writeStartArray();
+          depth++;
+          break;
+        case END_OBJECT:
+        case END_ARRAY:
+          generator.writeEnd();
+          depth--;
+          break;
+        case FIELD_NAME:
+          generator.writeKey(parser.currentName());
+          break;
+        case VALUE_STRING:
+          generator.write(parser.getText());
+          break;
+        case VALUE_NUMBER_INT:
+          switch (parser.getNumberType()) {
+            case INT:
+              generator.write(parser.getIntValue());
+              break;
+            case LONG:
+              generator.write(parser.getLongValue());
+              break;
+            default:
+              writeNumber(generator, parser.getDecimalValue());
+          }
+          break;
+        case VALUE_NUMBER_FLOAT:
+          writeNumber(generator, parser.getDecimalValue());
+          break;
+        case VALUE_TRUE:
+          generator.write(true);
+          break;
+        case VALUE_FALSE:
+          generator.write(false);
+          break;
+        case VALUE_NULL:
+          generator.writeNull();
+          break;
+        case VALUE_EMBEDDED_OBJECT:
+          Object value = parser.getEmbeddedObject();
+          if (value instanceof byte[]) {
+            generator.write((byte[]) value);
+            break;
+          }
+          // fall through
+        default:
+          throw new JsonParseException(parser, "Unexpected token " + token);
+      }
+    } while (depth > 0 && (token = parser.nextToken()) != null);
+
+    if (depth > 0) {
+      throw new JsonParseException(parser, "Unexpected end of content");
+    }
+  }
+
+  /**
+   * Writes a number as an OSON NUMBER, or as an OSON DOUBLE if the number is
+   * outside the range or the precision of NUMBER and the double has the same
+   * decimal value.
+   *
+   * @throws JsonGenerationException if the number is outside the range or the
+   * precision of NUMBER, and is not a double
+   */
+  private static void writeNumber(OracleJsonGenerator generator, BigDecimal value)
+    throws JsonGenerationException {
+    BigDecimal stripped = value.stripTrailingZeros();
+    int exponent = stripped.precision() - stripped.scale() - 1;
+    // NUMBER stores pairs of decimal digits aligned on even powers of 10, so
+    // the digits that fit depend on where the number starts.
+    int digits = Math.floorDiv(exponent, 2)
+      - Math.floorDiv(-stripped.scale(), 2) + 1;
+    if (value.signum() == 0
+      || (exponent >= MIN_NUMBER_EXPONENT && exponent <= MAX_NUMBER_EXPONENT
+        && digits <= MAX_NUMBER_DIGITS)) {
+      generator.write(value);
+      return;
+    }
+
+    double doubleValue = value.doubleValue();
+    if (Double.isInfinite(doubleValue)
+      || BigDecimal.valueOf(doubleValue).compareTo(value) != 0) {
+      throw new JsonGenerationException(
+        "Number can not be written as OSON without losing precision: " + value,
+        (JsonGenerator) null);
+    }
+    generator.write(doubleValue);
+  }
+
+  /**
+   * Stream that flushes instead of closing the stream it writes to, so that
+   * closing a generator does not close the stream of the caller.
+   */
+  private static final class UnclosedOutputStream extends FilterOutputStream {
+
+    UnclosedOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+      out.flush();
+    }
+  }
+}
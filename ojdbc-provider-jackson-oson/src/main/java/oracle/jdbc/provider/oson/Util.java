@@ -63,18 +63,32 @@ public class Util {
    *         {@code false} otherwise.
    */
   public static boolean isJavaSerializableType(Class<?> clazz) {
-    String packageName = clazz.getPackage().getName();
-    logger.fine("Util.isJavaSerializableType packageName: " + packageName);
-    return packageName.startsWith("java.lang")
-              || packageName.startsWith("java.util")
-              || packageName.startsWith("java.sql")
-              || packageName.startsWith("java.time")
-              || packageName.startsWith("java.math")
-              || packageName.startsWith("java.security")
-              || packageName.startsWith("java.net")
-              || clazz.isArray();
+    return javaSerializableTypes.get(clazz);
   }
 
+  /**
+   * Results of {@link #isJavaSerializableType(Class)}, which are computed
+   * once per class.
+   */
+  private static final ClassValue<Boolean> javaSerializableTypes = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> clazz) {
+      if (clazz.isArray()) {
+        return true;
+      }
+      Package classPackage = clazz.getPackage();
+      String packageName = classPackage == null ? "" : classPackage.getName();
+      logger.fine("Util.isJavaSerializableType packageName: " + packageName);
+      return packageName.startsWith("java.lang")
+                || packageName.startsWith("java.util")
+                || packageName.startsWith("java.sql")
+                || packageName.startsWith("java.time")
+                || packageName.startsWith("java.math")
+                || packageName.startsWith("java.security")
+                || packageName.startsWith("java.net");
+    }
+  };
+
   /**
    * Checks if any of the provided interfaces implement {@link Serializable}.
    *
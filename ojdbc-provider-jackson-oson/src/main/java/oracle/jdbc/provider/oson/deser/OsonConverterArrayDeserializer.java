@@ -44,9 +44,10 @@ import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import jakarta.persistence.AttributeConverter;
+import oracle.jdbc.provider.oson.OsonMetadataCache;
 
 import java.io.IOException;
-import java.lang.reflect.*;
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 
 /**
@@ -74,33 +75,10 @@ public class OsonConverterArrayDeserializer<T> extends JsonDeserializer<T[]> {
    * @param converter the class of the `AttributeConverter` to use for element deserialization
    */
   public OsonConverterArrayDeserializer(Class<? extends AttributeConverter> converter) {
-    elementType = resolveType(converter);
+    elementType = OsonMetadataCache.converter(converter).getEntityType();
     deserializer = new OsonConverterDeserializer<>(converter);
   }
 
-  /**
-   * Resolves the element type of the array by examining the `convertToEntityAttribute`
-   * method of the provided `AttributeConverter`.
-   *
-   * @param converter the class of the `AttributeConverter`
-   * @return the return type of the `convertToEntityAttribute` method, or `Object.class` if not resolvable
-   */
-  private Class<?> resolveType(Class<? extends AttributeConverter> converter) {
-    Class<?> iter = converter;
-    do{
-      Method[] methods = iter.getDeclaredMethods();
-      for(Method method : methods) {
-        if (method.getName().equals("convertToEntityAttribute")
-            && method.getReturnType() != Object.class){
-          return method.getReturnType();
-        }
-      }
-      iter = iter.getSuperclass();
-    }while(iter.getSuperclass() != null);
-
-    return Object.class;
-  }
-
   /**
    * Deserializes JSON input into an array of elements of type `T` using the custom converter.
    *
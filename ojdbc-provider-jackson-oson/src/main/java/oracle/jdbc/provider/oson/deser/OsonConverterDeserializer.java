@@ -43,15 +43,13 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import jakarta.persistence.AttributeConverter;
+import oracle.jdbc.provider.oson.OsonMetadataCache;
 import oracle.jdbc.provider.oson.OsonParser;
 
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
@@ -87,62 +85,10 @@ public class OsonConverterDeserializer<T> extends JsonDeserializer<T> {
    *                          be resolved
    */
   public OsonConverterDeserializer(Class<? extends AttributeConverter> converter) {
-    try {
-      this.converter = converter.getConstructor().newInstance();
-      this.elementReturnType = resolveReturnType(converter);;
-      this.elementInputType = resolveInputType(converter);
-    } catch (InstantiationException 
-         | IllegalAccessException 
-         | InvocationTargetException 
-         | NoSuchMethodException e) {
-      throw new RuntimeException(e);
-    }
-  }
-
-  /**
-   * Resolves the input type of the `convertToDatabaseColumn` method from the given converter class.
-   *
-   * @param converter the class of the `AttributeConverter`
-   * @return the input type of the method, or `Object.class` if not resolvable
-   */
-  private Class<?> resolveInputType(Class<? extends AttributeConverter> converter) {
-    Class<?> iter = converter;
-    do{
-      Method[] methods = iter.getDeclaredMethods();
-      for(Method method : methods) {
-        if (method.getName().equals("convertToDatabaseColumn")
-            && method.getReturnType() != Object.class){
-          Class<T> returnType = (Class<T>) method.getReturnType();
-          return returnType;
-        }
-      }
-      iter = iter.getSuperclass();
-    }while(iter.getSuperclass() != null);
-
-    return (Class<T>) Object.class;
-  }
-
-  /**
-   * Resolves the return type of the `convertToEntityAttribute` method from the given converter class.
-   *
-   * @param converter the class of the `AttributeConverter`
-   * @return the return type of the method, or `Object.class` if not resolvable
-   */
-  private Class<T> resolveReturnType(Class<? extends AttributeConverter> converter) {
-    Class<?> iter = converter;
-    do{
-      Method[] methods = iter.getDeclaredMethods();
-      for(Method method : methods) {
-        if (method.getName().equals("convertToEntityAttribute")
-            && method.getReturnType() != Object.class){
-          Class<T> returnType = (Class<T>) method.getReturnType();
-          return returnType;
-        }
-      }
-      iter = iter.getSuperclass();
-    }while(iter.getSuperclass() != null);
-
-    return (Class<T>) Object.class;
+    OsonMetadataCache.ConverterMetadata metadata = OsonMetadataCache.converter(converter);
+    this.converter = metadata.getConverter();
+    this.elementReturnType = metadata.getEntityType();
+    this.elementInputType = metadata.getDatabaseType();
   }
 
   /**
@@ -177,8 +123,7 @@ public class OsonConverterDeserializer<T> extends JsonDeserializer<T> {
             result = (T) converter.convertToEntityAttribute(timestamp);
             break;
           case VALUE_DATE:
-            LocalDate localDate = parser.readLocalDateTime().toLocalDate();
-            Date date = Date.valueOf(localDate);
+            Date date = Date.valueOf(parser.readLocalDate());
             result = (T) converter.convertToEntityAttribute(date);
             break;
 
@@ -152,8 +152,7 @@ public class OsonDateDeserializer extends DateDeserializers.DateDeserializer {
       OsonParser parser = (OsonParser) p;
 
       if(parser.currentOsonEvent().equals(OracleJsonParser.Event.VALUE_DATE)) {
-        LocalDateTime dateTime = parser.readLocalDateTime();
-        return java.sql.Date.valueOf(dateTime.toLocalDate());
+        return java.sql.Date.valueOf(parser.readLocalDate());
       }
       if(parser.currentOsonEvent().equals(OracleJsonParser.Event.VALUE_TIMESTAMP)) {
         LocalDateTime dateTime = parser.readLocalDateTime();
@@ -0,0 +1,123 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.deser;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
+import oracle.jdbc.provider.oson.OsonParser;
+import oracle.sql.json.OracleJsonParser;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Deserializer class for handling {@link Instant} objects using {@link OsonParser}.
+ * OSON TIMESTAMPTZ values are decoded with {@link OsonParser#readInstant()},
+ * as are OSON TIMESTAMP and DATE values. These have no time zone, so their
+ * date and time are taken to be in UTC, and not in the default time zone of
+ * the JVM. Other
+ * values, such as strings and numbers, are read by the
+ * {@link InstantDeserializer}.
+ *
+ * @see OsonParser
+ * @see Instant
+ */
+public class OsonInstantDeserializer extends InstantDeserializer<Instant> {
+
+  /**
+   * A singleton instance of the deserializer.
+   */
+  public static final OsonInstantDeserializer INSTANCE = new OsonInstantDeserializer();
+
+  /**
+   * Default constructor that initializes the deserializer for the {@link Instant} class.
+   */
+  protected OsonInstantDeserializer() {
+    super(InstantDeserializer.INSTANT, DateTimeFormatter.ISO_INSTANT);
+  }
+
+  protected OsonInstantDeserializer(OsonInstantDeserializer base, DateTimeFormatter f) {
+    super(base, f);
+  }
+
+  protected OsonInstantDeserializer(OsonInstantDeserializer base, DateTimeFormatter f, Boolean leniency) {
+    super(base, f, leniency);
+  }
+
+  @Override
+  protected OsonInstantDeserializer withDateFormat(DateTimeFormatter dtf) {
+    if (dtf == _formatter) {
+      return this;
+    }
+    return new OsonInstantDeserializer(this, dtf);
+  }
+
+  @Override
+  protected OsonInstantDeserializer withLeniency(Boolean leniency) {
+    return new OsonInstantDeserializer(this, _formatter, leniency);
+  }
+
+  @Override
+  protected OsonInstantDeserializer withShape(JsonFormat.Shape shape) { return this; }
+
+  /**
+   * Deserializes an {@link Instant} object from the JSON input using the {@link OsonParser}.
+   *
+   * @param p the {@link JsonParser} for reading the JSON content
+   * @param ctxt the deserialization context
+   * @return the deserialized {@link Instant} object
+   * @throws IOException if there is a problem with reading the input
+   */
+  @Override
+  public Instant deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p instanceof OsonParser) {
+      OsonParser parser = (OsonParser) p;
+      OracleJsonParser.Event event = parser.currentOsonEvent();
+      if (event == OracleJsonParser.Event.VALUE_TIMESTAMPTZ
+        || event == OracleJsonParser.Event.VALUE_TIMESTAMP
+        || event == OracleJsonParser.Event.VALUE_DATE) {
+        return parser.readInstant();
+      }
+    }
+    return super.deserialize(p, ctxt);
+  }
+}
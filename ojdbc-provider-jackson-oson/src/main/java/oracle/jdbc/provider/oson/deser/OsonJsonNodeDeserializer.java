@@ -0,0 +1,189 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.deser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.std.JsonNodeDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import oracle.jdbc.provider.oson.OsonArrayNode;
+import oracle.jdbc.provider.oson.OsonObjectNode;
+import oracle.jdbc.provider.oson.OsonParser;
+import oracle.sql.json.OracleJsonNumber;
+import oracle.sql.json.OracleJsonValue;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Deserializer for {@link JsonNode}, {@link ObjectNode} and {@link ArrayNode}
+ * that reads objects and arrays from an {@link OsonParser} as an
+ * {@link OsonObjectNode} or an {@link OsonArrayNode}. These nodes decode the
+ * OSON image only for the fields and elements that are accessed, instead of
+ * building the whole tree up front. Other parsers and scalar values are
+ * handled by Jackson's {@link JsonNodeDeserializer}.
+ */
+public class OsonJsonNodeDeserializer<T extends JsonNode> extends StdDeserializer<T> {
+
+  /**
+   * Instance for {@link JsonNode}.
+   */
+  public static final OsonJsonNodeDeserializer<JsonNode> INSTANCE =
+    new OsonJsonNodeDeserializer<>(JsonNode.class);
+
+  /**
+   * Instance for {@link ObjectNode}.
+   */
+  public static final OsonJsonNodeDeserializer<ObjectNode> OBJECT_INSTANCE =
+    new OsonJsonNodeDeserializer<>(ObjectNode.class);
+
+  /**
+   * Instance for {@link ArrayNode}.
+   */
+  public static final OsonJsonNodeDeserializer<ArrayNode> ARRAY_INSTANCE =
+    new OsonJsonNodeDeserializer<>(ArrayNode.class);
+
+  /**
+   * Jackson's deserializer for the same node type.
+   */
+  private final JsonDeserializer<T> delegate;
+
+  /**
+   * Creates a deserializer for the given node type.
+   *
+   * @param nodeType {@code JsonNode}, {@code ObjectNode} or {@code ArrayNode}.
+   */
+  @SuppressWarnings("unchecked")
+  protected OsonJsonNodeDeserializer(Class<T> nodeType) {
+    super(nodeType);
+    this.delegate =
+      (JsonDeserializer<T>) JsonNodeDeserializer.getDeserializer(nodeType);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p instanceof OsonParser) {
+      JsonToken token = p.currentToken();
+      if ((token == JsonToken.START_OBJECT && handledType() != ArrayNode.class)
+        || (token == JsonToken.START_ARRAY && handledType() != ObjectNode.class)) {
+        return (T) toJsonNode(
+          ((OsonParser) p).readOracleJsonValue(), ctxt.getNodeFactory());
+      }
+    }
+    return delegate.deserialize(p, ctxt);
+  }
+
+  @Override
+  public T getNullValue(DeserializationContext ctxt) throws JsonMappingException {
+    return delegate.getNullValue(ctxt);
+  }
+
+  /**
+   * Converts an OSON value to a {@link JsonNode}. Objects and arrays are
+   * returned as an {@link OsonObjectNode} or an {@link OsonArrayNode}. Dates,
+   * timestamps and intervals are returned as text nodes, as they are by
+   * {@link OsonParser}.
+   *
+   * @param value the OSON value. Not null.
+   * @param nodeFactory the factory for the nodes. Not null.
+   * @return the node.
+   * @throws IllegalStateException if the value has a type that has no
+   * {@code JsonNode} representation.
+   */
+  public static JsonNode toJsonNode(OracleJsonValue value, JsonNodeFactory nodeFactory) {
+    switch (value.getOracleJsonType()) {
+      case OBJECT:
+        return new OsonObjectNode(nodeFactory, value.asJsonObject());
+      case ARRAY:
+        return new OsonArrayNode(nodeFactory, value.asJsonArray());
+      case STRING:
+        return nodeFactory.textNode(value.asJsonString().getString());
+      case DECIMAL:
+        return toNumberNode(value.asJsonDecimal(), nodeFactory);
+      case DOUBLE:
+        return nodeFactory.numberNode(value.asJsonDouble().doubleValue());
+      case FLOAT:
+        return nodeFactory.numberNode(value.asJsonFloat().floatValue());
+      case TRUE:
+        return nodeFactory.booleanNode(true);
+      case FALSE:
+        return nodeFactory.booleanNode(false);
+      case NULL:
+        return nodeFactory.nullNode();
+      case BINARY:
+        return nodeFactory.binaryNode(value.asJsonBinary().getBytes());
+      case DATE:
+        return nodeFactory.textNode(value.asJsonDate().getString());
+      case TIMESTAMP:
+        return nodeFactory.textNode(value.asJsonTimestamp().getString());
+      case TIMESTAMPTZ:
+        return nodeFactory.textNode(value.asJsonTimestampTZ().getString());
+      case INTERVALDS:
+        return nodeFactory.textNode(value.asJsonIntervalDS().getString());
+      case INTERVALYM:
+        return nodeFactory.textNode(value.asJsonIntervalYM().getString());
+      default:
+        throw new IllegalStateException("Invalid type " + value.getOracleJsonType());
+    }
+  }
+
+  /**
+   * Returns the smallest of int, long and BigInteger nodes that holds an
+   * integral number, or a decimal node otherwise.
+   */
+  private static JsonNode toNumberNode(OracleJsonNumber number, JsonNodeFactory nodeFactory) {
+    if (!number.isIntegral())
+      return nodeFactory.numberNode(number.bigDecimalValue());
+
+    BigInteger integer = number.bigIntegerValue();
+    if (integer.bitLength() < Integer.SIZE)
+      return nodeFactory.numberNode(integer.intValue());
+    if (integer.bitLength() < Long.SIZE)
+      return nodeFactory.numberNode(integer.longValue());
+    return nodeFactory.numberNode(integer);
+  }
+}
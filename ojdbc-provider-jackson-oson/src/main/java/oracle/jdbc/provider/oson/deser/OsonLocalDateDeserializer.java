@@ -46,7 +46,6 @@ import oracle.sql.json.OracleJsonParser;
 
 import java.io.IOException;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 /**
@@ -151,8 +150,7 @@ public class OsonLocalDateDeserializer extends LocalDateDeserializer {
       OsonParser _parser = (OsonParser) parser;
 
       if(_parser.currentOsonEvent().equals(OracleJsonParser.Event.VALUE_DATE)) {
-        LocalDateTime dateTime = _parser.readLocalDateTime();
-        return dateTime.toLocalDate();
+        return _parser.readLocalDate();
       }
     }
     else {
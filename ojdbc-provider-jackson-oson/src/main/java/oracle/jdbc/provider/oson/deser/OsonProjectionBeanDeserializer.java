@@ -0,0 +1,153 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.deser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.deser.BeanDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.impl.BeanPropertyMap;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import oracle.jdbc.provider.oson.OsonParser;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Bean deserializer that reads only the fields of an OSON object that map to
+ * a property of the bean. When unknown properties are ignored, either with
+ * {@code @JsonIgnoreProperties(ignoreUnknown = true)} or by disabling
+ * {@link DeserializationFeature#FAIL_ON_UNKNOWN_PROPERTIES}, the property
+ * names are passed to {@link OsonParser#setProjection(Set)}, so that the other
+ * fields are skipped by the parser instead of being read token by token.
+ *
+ * <p>Beans that need to see every field, such as beans with an any-setter,
+ * unwrapped properties, external type ids or object ids, and mappers with
+ * problem handlers or case insensitive properties, are read without a
+ * projection.</p>
+ */
+public class OsonProjectionBeanDeserializer extends BeanDeserializer {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The names and aliases of the bean properties. Created on first use.
+   */
+  private transient volatile Set<String> projection;
+
+  /**
+   * Creates a deserializer with the same configuration as the given one.
+   *
+   * @param src the deserializer to copy. Not null.
+   */
+  public OsonProjectionBeanDeserializer(BeanDeserializerBase src) {
+    super(src);
+  }
+
+  @Override
+  public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p instanceof OsonParser && p.isExpectedStartObjectToken() && isProjectable(ctxt)) {
+      ((OsonParser) p).setProjection(projection(ctxt));
+    }
+    return super.deserialize(p, ctxt);
+  }
+
+  /**
+   * Returns true if skipping the fields that are not bean properties does not
+   * change the result of deserialization.
+   */
+  private boolean isProjectable(DeserializationContext ctxt) {
+    return (_ignoreAllUnknown
+              || !ctxt.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES))
+      && !ctxt.isEnabled(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES)
+      && ctxt.getConfig().getProblemHandlers() == null
+      && _anySetter == null
+      && _unwrappedPropertyHandler == null
+      && _externalTypeIdHandler == null
+      && _objectIdReader == null
+      && !isCaseInsensitive();
+  }
+
+  private Set<String> projection(DeserializationContext ctxt) {
+    Set<String> names = projection;
+    if (names == null) {
+      names = new HashSet<>();
+      for (SettableBeanProperty property : _beanProperties) {
+        names.add(property.getName());
+        for (PropertyName alias : property.findAliases(ctxt.getConfig())) {
+          names.add(alias.getSimpleName());
+        }
+      }
+      names = Collections.unmodifiableSet(names);
+      projection = names;
+    }
+    return names;
+  }
+
+  @Override
+  public JsonDeserializer<Object> unwrappingDeserializer(NameTransformer transformer) {
+    // Unwrapped values share the fields of the enclosing object, so they are
+    // read by a plain BeanDeserializer
+    return new BeanDeserializer(this, _beanProperties)
+      .unwrappingDeserializer(transformer);
+  }
+
+  @Override
+  public BeanDeserializer withByNameInclusion(Set<String> ignorableProps, Set<String> includableProps) {
+    return new OsonProjectionBeanDeserializer(
+      super.withByNameInclusion(ignorableProps, includableProps));
+  }
+
+  @Override
+  public BeanDeserializerBase withIgnoreAllUnknown(boolean ignoreUnknown) {
+    return new OsonProjectionBeanDeserializer(
+      super.withIgnoreAllUnknown(ignoreUnknown));
+  }
+
+  @Override
+  public BeanDeserializerBase withBeanProperties(BeanPropertyMap props) {
+    return new OsonProjectionBeanDeserializer(super.withBeanProperties(props));
+  }
+}
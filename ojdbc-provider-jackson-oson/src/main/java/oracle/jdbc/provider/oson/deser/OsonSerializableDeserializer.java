@@ -39,35 +39,78 @@ package oracle.jdbc.provider.oson.deser;
 
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import oracle.jdbc.provider.oson.JavaSerializableCodec;
+import oracle.jdbc.provider.oson.OsonSerializableCodec;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.Serializable;
 
 /**
  * A custom deserializer for objects(Except from java.* package) implementing the `Serializable` interface.
- * This deserializer reads binary data from the JSON input and reconstructs the object
- * using Java's `ObjectInputStream`.
+ * This deserializer reads the object with an {@link OsonSerializableCodec}. The
+ * {@link oracle.jdbc.provider.oson.OsonModule} creates this deserializer with the codec it is
+ * configured with, and the declared type of the property is captured when the deserializer is
+ * contextualized.
  */
-public class OsonSerializableDeserializer extends JsonDeserializer<Object> {
+public class OsonSerializableDeserializer extends JsonDeserializer<Object>
+  implements ContextualDeserializer {
   /**
-   * Singleton instance for reuse.
+   * Singleton instance for reuse, using the {@link JavaSerializableCodec}.
    */
   public static final OsonSerializableDeserializer INSTANCE = new OsonSerializableDeserializer();
 
+  /**
+   * The codec that reads the object.
+   */
+  private final OsonSerializableCodec codec;
+
+  /**
+   * The declared type of the property, or null if it is not known.
+   */
+  private final JavaType type;
+
   /**
    * Default constructor.
    */
-  OsonSerializableDeserializer() {}
+  OsonSerializableDeserializer() {
+    this(JavaSerializableCodec.INSTANCE, null);
+  }
+
+  /**
+   * Constructs a deserializer that reads objects with the given codec.
+   *
+   * @param codec the codec that reads the object
+   */
+  public OsonSerializableDeserializer(OsonSerializableCodec codec) {
+    this(codec, null);
+  }
+
+  private OsonSerializableDeserializer(OsonSerializableCodec codec, JavaType type) {
+    this.codec = codec;
+    this.type = type;
+  }
 
   /**
-   * Deserializes binary data from JSON input into a `Serializable` object.
+   * Creates a deserializer for the declared type of the given property.
    *
-   * <p>The method reads binary data, interprets it as a serialized object, and reconstructs the
-   * object using an `ObjectInputStream`.</p>
+   * @param ctxt     the deserialization context
+   * @param property the property being deserialized, or null
+   * @return a deserializer for the type of the property
+   */
+  @Override
+  public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+    if (property == null || property.getType().equals(type)) {
+      return this;
+    }
+    return new OsonSerializableDeserializer(codec, property.getType());
+  }
+
+  /**
+   * Deserializes JSON input into a `Serializable` object with the codec of this deserializer.
    *
    * @param p      the JSON parser
    * @param ctxt   the deserialization context
@@ -77,14 +120,6 @@ public class OsonSerializableDeserializer extends JsonDeserializer<Object> {
    */
   @Override
   public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException, JacksonException {
-    byte[] data = p.getBinaryValue();
-    if (data == null) {
-      return null;
-    }
-    try (ObjectInputStream objectStream = new ObjectInputStream(new ByteArrayInputStream(data))) {
-      return (Serializable) objectStream.readObject(); // Deserialize the object
-    } catch (ClassNotFoundException e) {
-      throw new IOException("Class not found during deserialization", e);
-    }
+    return codec.deserialize(p, ctxt, type);
   }
 }
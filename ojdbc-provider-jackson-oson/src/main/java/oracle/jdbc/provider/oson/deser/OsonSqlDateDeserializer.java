@@ -47,7 +47,6 @@ import oracle.sql.json.OracleJsonParser;
 import java.io.IOException;
 import java.sql.Date;
 import java.text.DateFormat;
-import java.time.LocalDateTime;
 
 /**
  * A custom deserializer for SQL `Date` objects that extends Jackson's `SqlDateDeserializer`.
@@ -110,8 +109,7 @@ public class OsonSqlDateDeserializer extends DateDeserializers.SqlDateDeserializ
     if( p instanceof OsonParser) {
       OsonParser parser = (OsonParser) p;
       if(parser.currentOsonEvent().equals(OracleJsonParser.Event.VALUE_DATE)) {
-        LocalDateTime dateTime = parser.readLocalDateTime();
-        return Date.valueOf(dateTime.toLocalDate());
+        return Date.valueOf(parser.readLocalDate());
       }
     }
     return super.deserialize(p, ctxt);
@@ -0,0 +1,412 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.ser;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.ser.std.BooleanSerializer;
+import com.fasterxml.jackson.databind.ser.std.NumberSerializers;
+import com.fasterxml.jackson.databind.ser.std.StringSerializer;
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Temporal;
+import oracle.jdbc.provider.oson.OsonGenerator;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.util.Date;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Property writer that reads the value of a bean property through an
+ * accessor generated with {@link LambdaMetafactory}, instead of calling the
+ * getter with reflection. Values of the types that have an OSON
+ * representation are written with the methods of {@link OsonGenerator},
+ * without going through their serializer, when the property uses the
+ * default serializer of its type.
+ * <p>
+ * Writers are only created for public getters of public classes that can be
+ * loaded by the class loader of this module. Properties annotated with
+ * {@code @JsonFormat}, {@code @JsonSerialize}, {@code @Convert} or
+ * {@code @Temporal} keep their serializer, and only use the generated
+ * accessor. {@code java.time} values are only written directly when the
+ * module writes them as OSON temporal values.
+ * </p>
+ */
+public class OsonBeanPropertyWriter extends BeanPropertyWriter {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final Logger logger =
+    Logger.getLogger(OsonBeanPropertyWriter.class.getName());
+
+  /**
+   * Types of values that are written directly to an {@link OsonGenerator}.
+   * Each type is only written directly when the property has the serializer
+   * that would otherwise write it in the same way.
+   */
+  private enum ValueType {
+    STRING(StringSerializer.class),
+    INT(NumberSerializers.IntegerSerializer.class),
+    LONG(NumberSerializers.LongSerializer.class),
+    DOUBLE(NumberSerializers.DoubleSerializer.class),
+    BOOLEAN(BooleanSerializer.class),
+    DATE(OsonDateSerializer.class),
+    LOCAL_DATE(OsonLocalDateSerializer.class),
+    LOCAL_DATE_TIME(OsonLocalDateTimeSerializer.class),
+    OFFSET_DATE_TIME(OsonOffsetDateTimeSerializer.class),
+    INSTANT(OsonInstantSerializer.class),
+    DURATION(OsonDurationSerializer.class),
+    PERIOD(OsonPeriodSerializer.class),
+    OTHER(null);
+
+    private final Class<?> serializerClass;
+
+    ValueType(Class<?> serializerClass) {
+      this.serializerClass = serializerClass;
+    }
+
+    boolean isTemporal() {
+      return this == LOCAL_DATE || this == LOCAL_DATE_TIME
+        || this == OFFSET_DATE_TIME || this == INSTANT;
+    }
+
+    static ValueType of(Class<?> type) {
+      if (type == String.class) return STRING;
+      if (type == int.class || type == Integer.class) return INT;
+      if (type == long.class || type == Long.class) return LONG;
+      if (type == double.class || type == Double.class) return DOUBLE;
+      if (type == boolean.class || type == Boolean.class) return BOOLEAN;
+      if (type == Date.class || type == java.sql.Date.class || type == Timestamp.class) return DATE;
+      if (type == LocalDate.class) return LOCAL_DATE;
+      if (type == LocalDateTime.class) return LOCAL_DATE_TIME;
+      if (type == OffsetDateTime.class) return OFFSET_DATE_TIME;
+      if (type == Instant.class) return INSTANT;
+      if (type == Duration.class) return DURATION;
+      if (type == Period.class) return PERIOD;
+      return OTHER;
+    }
+  }
+
+  /**
+   * Generated accessor, which returns the value of the property of a bean.
+   */
+  private final transient Function<Object, Object> accessor;
+
+  /**
+   * The type of the values written directly, or {@link ValueType#OTHER} if
+   * values are always written by their serializer.
+   */
+  private final ValueType valueType;
+
+  private OsonBeanPropertyWriter(BeanPropertyWriter base,
+      Function<Object, Object> accessor, ValueType valueType) {
+    super(base);
+    this.accessor = accessor;
+    this.valueType = valueType;
+  }
+
+  private OsonBeanPropertyWriter(OsonBeanPropertyWriter base, PropertyName name) {
+    super(base, name);
+    this.accessor = base.accessor;
+    this.valueType = base.valueType;
+  }
+
+  /**
+   * Returns a writer that uses a generated accessor for the property of the
+   * given writer, or the given writer itself if no accessor can be generated
+   * for it.
+   *
+   * @param config the configuration of the serializer of the bean.
+   * @param writer the writer created by Jackson. Not null.
+   * @param nativeTemporals true if {@code java.time} values are written as
+   * OSON temporal values by their serializer.
+   * @return a writer of the same property.
+   */
+  public static BeanPropertyWriter create(SerializationConfig config, BeanPropertyWriter writer,
+      boolean nativeTemporals) {
+    if (writer.getClass() != BeanPropertyWriter.class
+        || !(writer.getMember() instanceof AnnotatedMethod))
+      return writer;
+
+    Method getter = ((AnnotatedMethod) writer.getMember()).getAnnotated();
+    Function<Object, Object> accessor = generateAccessor(getter);
+    if (accessor == null)
+      return writer;
+
+    ValueType valueType = valueType(config, writer, getter);
+    if (!nativeTemporals && valueType.isTemporal())
+      valueType = ValueType.OTHER;
+    return new OsonBeanPropertyWriter(writer, accessor, valueType);
+  }
+
+  /**
+   * Returns the type of the values that can be written directly for a
+   * property, which is {@link ValueType#OTHER} if the property, or the
+   * configuration, may change the way its values are serialized.
+   */
+  private static ValueType valueType(SerializationConfig config,
+      BeanPropertyWriter writer, Method getter) {
+    AnnotatedMember member = writer.getMember();
+    if (member.hasAnnotation(JsonFormat.class)
+        || member.hasAnnotation(JsonSerialize.class)
+        || member.hasAnnotation(Convert.class)
+        || member.hasAnnotation(Temporal.class)
+        || writer.getTypeSerializer() != null
+        || writer.getSerializationType() != null)
+      return ValueType.OTHER;
+
+    Class<?> type = getter.getReturnType();
+    JsonFormat.Value format = config.getDefaultPropertyFormat(type);
+    if (format.hasPattern() || format.hasShape() || format.hasLocale() || format.hasTimeZone())
+      return ValueType.OTHER;
+
+    ValueType valueType = ValueType.of(type);
+    if (valueType == ValueType.DATE && !(config.getDateFormat() instanceof StdDateFormat))
+      return ValueType.OTHER;
+    return valueType;
+  }
+
+  /**
+   * Generates a function that calls a getter, or returns null if the getter
+   * or its class is not accessible to this module.
+   */
+  private static Function<Object, Object> generateAccessor(Method getter) {
+    Class<?> beanClass = getter.getDeclaringClass();
+    if (!Modifier.isPublic(getter.getModifiers())
+        || !Modifier.isPublic(beanClass.getModifiers())
+        || Modifier.isStatic(getter.getModifiers())
+        || !isVisible(beanClass)
+        || !isVisible(getter.getReturnType()))
+      return null;
+
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      MethodHandle handle = lookup.unreflect(getter);
+      CallSite site = LambdaMetafactory.metafactory(
+        lookup, "apply", MethodType.methodType(Function.class),
+        MethodType.methodType(Object.class, Object.class),
+        handle, handle.type().wrap());
+      @SuppressWarnings("unchecked")
+      Function<Object, Object> accessor =
+        (Function<Object, Object>) site.getTarget().invokeExact();
+      return accessor;
+    }
+    catch (Throwable t) {
+      logger.log(Level.FINE, "Accessor not generated for " + getter, t);
+      return null;
+    }
+  }
+
+  /**
+   * Returns true if a class is loaded by the class loader of this module, or
+   * by one of its parents, so that a generated accessor can refer to it.
+   */
+  private static boolean isVisible(Class<?> type) {
+    while (type.isArray()) {
+      type = type.getComponentType();
+    }
+    if (type.isPrimitive())
+      return true;
+    if (!Modifier.isPublic(type.getModifiers()))
+      return false;
+    try {
+      return Class.forName(type.getName(), false,
+        OsonBeanPropertyWriter.class.getClassLoader()) == type;
+    }
+    catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  @Override
+  protected BeanPropertyWriter _new(PropertyName newName) {
+    return new OsonBeanPropertyWriter(this, newName);
+  }
+
+  /**
+   * Writes the property of a bean. Its value is read with the generated
+   * accessor, and is written directly when it has an OSON representation and
+   * the default serializer of its type. Otherwise, it is written as by
+   * {@link BeanPropertyWriter#serializeAsField(Object, JsonGenerator, SerializerProvider)}.
+   */
+  @Override
+  public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov)
+      throws Exception {
+    final Object value = accessor.apply(bean);
+    if (value == null) {
+      if (_suppressableValue != null && prov.includeFilterSuppressNulls(_suppressableValue))
+        return;
+      if (_nullSerializer != null) {
+        gen.writeFieldName(_name);
+        _nullSerializer.serialize(null, gen, prov);
+      }
+      return;
+    }
+
+    if (valueType != ValueType.OTHER
+        && _suppressableValue == null
+        && gen instanceof OsonGenerator
+        && (_serializer == null || _serializer.getClass() == valueType.serializerClass)
+        && write((OsonGenerator) gen, value))
+      return;
+
+    JsonSerializer<Object> serializer = _serializer;
+    if (serializer == null) {
+      Class<?> type = value.getClass();
+      PropertySerializerMap serializers = _dynamicSerializers;
+      serializer = serializers.serializerFor(type);
+      if (serializer == null) {
+        serializer = _findAndAddDynamic(serializers, type, prov);
+      }
+    }
+    if (_suppressableValue != null) {
+      if (MARKER_FOR_EMPTY == _suppressableValue) {
+        if (serializer.isEmpty(prov, value))
+          return;
+      }
+      else if (_suppressableValue.equals(value)) {
+        return;
+      }
+    }
+    if (value == bean && _handleSelfReference(bean, gen, prov, serializer))
+      return;
+
+    gen.writeFieldName(_name);
+    if (_typeSerializer == null) {
+      serializer.serialize(value, gen, prov);
+    }
+    else {
+      serializer.serializeWithType(value, gen, prov, _typeSerializer);
+    }
+  }
+
+  /**
+   * Writes the name and the value of the property with the method of the
+   * generator for its type. Returns false, without writing anything, if the
+   * value is an instance of a subclass that its serializer writes in another
+   * way.
+   */
+  private boolean write(OsonGenerator gen, Object value) throws Exception {
+    switch (valueType) {
+      case STRING:
+        gen.writeFieldName(_name);
+        gen.writeString((String) value);
+        return true;
+      case INT:
+        gen.writeFieldName(_name);
+        gen.writeNumber((Integer) value);
+        return true;
+      case LONG:
+        gen.writeFieldName(_name);
+        gen.writeNumber((Long) value);
+        return true;
+      case DOUBLE:
+        gen.writeFieldName(_name);
+        gen.writeNumber((Double) value);
+        return true;
+      case BOOLEAN:
+        gen.writeFieldName(_name);
+        gen.writeBoolean((Boolean) value);
+        return true;
+      case DATE:
+        Class<?> type = value.getClass();
+        if (type == Timestamp.class) {
+          gen.writeFieldName(_name);
+          gen.writeTimeStamp((Timestamp) value);
+          return true;
+        }
+        if (type == Date.class || type == java.sql.Date.class) {
+          gen.writeFieldName(_name);
+          gen.writeDate((Date) value);
+          return true;
+        }
+        return false;
+      case LOCAL_DATE:
+        gen.writeFieldName(_name);
+        gen.writeLocalDate((LocalDate) value);
+        return true;
+      case LOCAL_DATE_TIME:
+        gen.writeFieldName(_name);
+        gen.writeLocalDateTime((LocalDateTime) value);
+        return true;
+      case OFFSET_DATE_TIME:
+        gen.writeFieldName(_name);
+        gen.writeOffsetDateTime((OffsetDateTime) value);
+        return true;
+      case INSTANT:
+        gen.writeFieldName(_name);
+        gen.writeInstant((Instant) value);
+        return true;
+      case DURATION:
+        gen.writeFieldName(_name);
+        gen.writeDuration((Duration) value);
+        return true;
+      case PERIOD:
+        gen.writeFieldName(_name);
+        gen.writePeriod((Period) value);
+        return true;
+      default:
+        return false;
+    }
+  }
+}
@@ -47,10 +47,9 @@ import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.ser.ContainerSerializer;
 import com.fasterxml.jackson.databind.ser.std.ArraySerializerBase;
 import jakarta.persistence.AttributeConverter;
+import oracle.jdbc.provider.oson.OsonMetadataCache;
 
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 
 /**
  * A custom serializer for arrays of objects, using an `AttributeConverter` to convert each element
@@ -74,33 +73,9 @@ public class OsonConverterArraySerializer extends ArraySerializerBase<Object[]>
    */
   public OsonConverterArraySerializer(Class<? extends AttributeConverter> converter) {
     super(Object[].class);
-    try {
-      this.attributeConverter = converter.getConstructor().newInstance();
-      this.requiredType = resolveRequiredType(attributeConverter);
-    } catch (InstantiationException
-         | IllegalAccessException
-         | InvocationTargetException
-         | NoSuchMethodException e) {
-      throw new RuntimeException(e);
-    }
-  }
-
-  private Class<?> resolveRequiredType(AttributeConverter<?,?> attributeConverter) {
-    Class<?> iter = attributeConverter.getClass();
-    do{
-      Method[] methods = iter.getDeclaredMethods();
-      for(Method method : methods) {
-        if (method.getName().equals("convertToDatabaseColumn")
-                && method.getReturnType() != Object.class){
-          Class<?> returnType = method.getReturnType();
-          return returnType;
-        }
-      }
-      iter = iter.getSuperclass();
-    }while(iter.getSuperclass() != null);
-
-    return Object.class;
-
+    OsonMetadataCache.ConverterMetadata metadata = OsonMetadataCache.converter(converter);
+    this.attributeConverter = metadata.getConverter();
+    this.requiredType = metadata.getDatabaseType();
   }
 
   /**
@@ -42,10 +42,9 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import jakarta.persistence.AttributeConverter;
+import oracle.jdbc.provider.oson.OsonMetadataCache;
 
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 
 /**
  * A custom serializer for converting Java objects using an `AttributeConverter` during serialization.
@@ -68,33 +67,9 @@ public class OsonConverterSerializer extends JsonSerializer<Object> {
    * @throws RuntimeException if the converter cannot be instantiated
    */
   public OsonConverterSerializer(Class<? extends AttributeConverter> converter) {
-    try {
-      this.attributeConverter = converter.getConstructor().newInstance();
-      this.requiredType = resolveRequiredType(attributeConverter);
-    } catch (InstantiationException
-         | IllegalAccessException
-         | InvocationTargetException
-         | NoSuchMethodException e) {
-      throw new RuntimeException(e);
-    }
-  }
-
-  private Class<?> resolveRequiredType(AttributeConverter<?,?> attributeConverter) {
-    Class<?> iter = attributeConverter.getClass();
-    do{
-      Method[] methods = iter.getDeclaredMethods();
-      for(Method method : methods) {
-        if (method.getName().equals("convertToDatabaseColumn")
-                && method.getReturnType() != Object.class){
-          Class<?> returnType = method.getReturnType();
-          return returnType;
-        }
-      }
-      iter = iter.getSuperclass();
-    }while(iter.getSuperclass() != null);
-
-    return Object.class;
-
+    OsonMetadataCache.ConverterMetadata metadata = OsonMetadataCache.converter(converter);
+    this.attributeConverter = metadata.getConverter();
+    this.requiredType = metadata.getDatabaseType();
   }
 
   /**
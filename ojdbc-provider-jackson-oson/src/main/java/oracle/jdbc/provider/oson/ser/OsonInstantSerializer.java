@@ -0,0 +1,114 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.ser;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.ser.InstantSerializer;
+import oracle.jdbc.provider.oson.OsonGenerator;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Serializer class for handling {@link Instant} objects using {@link OsonGenerator}.
+ * Instants are written with {@link OsonGenerator#writeInstant(Instant)} as an
+ * OSON TIMESTAMPTZ in UTC, unless a format or shape is configured, in which
+ * case they are written by the {@link InstantSerializer}. This serializer is
+ * only registered by an {@code OsonModule} that is created with native
+ * temporal encoding; otherwise, instants are written by the serializer of the
+ * {@code JavaTimeModule}, as ISO-8601 strings or as numeric timestamps.
+ *
+ * @see OsonGenerator
+ * @see Instant
+ */
+public class OsonInstantSerializer extends InstantSerializer {
+
+  /**
+   * A singleton instance of the serializer.
+   */
+  public static final OsonInstantSerializer INSTANCE = new OsonInstantSerializer();
+
+  /**
+   * Default constructor that initializes the serializer for the {@link Instant} class.
+   */
+  public OsonInstantSerializer() {
+    super();
+  }
+
+  protected OsonInstantSerializer(InstantSerializer base, Boolean useTimestamp,
+                                  Boolean useNanoseconds, DateTimeFormatter formatter) {
+    super(base, useTimestamp, useNanoseconds, formatter);
+  }
+
+  protected OsonInstantSerializer(InstantSerializer base, Boolean useTimestamp,
+                                  DateTimeFormatter formatter, JsonFormat.Shape shape) {
+    super(base, useTimestamp, formatter, shape);
+  }
+
+  @Override
+  protected OsonInstantSerializer withFormat(Boolean useTimestamp,
+                                             DateTimeFormatter formatter, JsonFormat.Shape shape) {
+    return new OsonInstantSerializer(this, useTimestamp, formatter, shape);
+  }
+
+  @Override
+  protected OsonInstantSerializer withFeatures(Boolean writeZoneId, Boolean writeNanoseconds) {
+    return new OsonInstantSerializer(this, _useTimestamp, writeNanoseconds, _formatter);
+  }
+
+  /**
+   * Serializes an {@link Instant} object into JSON format using the {@link OsonGenerator}.
+   *
+   * @param value the {@link Instant} value to serialize
+   * @param gen the {@link JsonGenerator} for writing JSON output
+   * @param provider the serializer provider
+   * @throws IOException if there is a problem with writing the output
+   */
+  @Override
+  public void serialize(Instant value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    if (_formatter != null || (_shape != null && _shape != JsonFormat.Shape.ANY) || !(gen instanceof OsonGenerator)) {
+      super.serialize(value, gen, provider);
+      return;
+    }
+    ((OsonGenerator) gen).writeInstant(value);
+  }
+}
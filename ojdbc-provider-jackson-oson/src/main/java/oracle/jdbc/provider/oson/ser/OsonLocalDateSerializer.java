@@ -51,6 +51,13 @@ import java.time.format.DateTimeFormatter;
  * A custom serializer for `LocalDate` types, extending `LocalDateSerializer` to add custom serialization behavior.
  * This serializer is designed to handle `LocalDate` objects either using a provided `DateTimeFormatter` or a custom method
  * to write `LocalDate` values in a specific format.
+ * <p>
+ * Jackson configures the serializer of a property with a shape of `ANY` when
+ * it has no `@JsonFormat`, in which case the `LocalDate` is written as a
+ * string, as in earlier releases. The {@link #NATIVE_INSTANCE} writes it as an
+ * OSON `DATE` instead, and is registered by an `OsonModule` that is created
+ * with native temporal encoding.
+ * </p>
  */
 public class OsonLocalDateSerializer extends LocalDateSerializer {
 
@@ -59,11 +66,32 @@ public class OsonLocalDateSerializer extends LocalDateSerializer {
    */
   public static final OsonLocalDateSerializer INSTANCE = new OsonLocalDateSerializer();
 
+  /**
+   * An instance of the `OsonLocalDateSerializer` that writes a `LocalDate` as
+   * an OSON `DATE` unless a format or a shape other than `ANY` is specified.
+   */
+  public static final OsonLocalDateSerializer NATIVE_INSTANCE = new OsonLocalDateSerializer(true);
+
+  /**
+   * True if a shape of `ANY` is written as an OSON `DATE`.
+   */
+  private final boolean nativeTemporal;
+
   /**
    * Default constructor that initializes the serializer with default settings.
    */
   public OsonLocalDateSerializer() {
+    this(false);
+  }
+
+  /**
+   * Constructor that initializes the serializer with default settings.
+   *
+   * @param nativeTemporal true if a shape of `ANY` is written as an OSON `DATE`
+   */
+  protected OsonLocalDateSerializer(boolean nativeTemporal) {
     super();
+    this.nativeTemporal = nativeTemporal;
   }
 
   /**
@@ -78,6 +106,7 @@ public class OsonLocalDateSerializer extends LocalDateSerializer {
   public OsonLocalDateSerializer(OsonLocalDateSerializer base, Boolean useTimestamp,
                                  DateTimeFormatter dtf, JsonFormat.Shape shape) {
     super(base, useTimestamp, dtf, shape);
+    this.nativeTemporal = base.nativeTemporal;
   }
 
   /**
@@ -87,6 +116,7 @@ public class OsonLocalDateSerializer extends LocalDateSerializer {
    */
   public OsonLocalDateSerializer(DateTimeFormatter formatter) {
     super(formatter);
+    this.nativeTemporal = false;
   }
 
   /**
@@ -115,7 +145,7 @@ public class OsonLocalDateSerializer extends LocalDateSerializer {
    */
   @Override
   public void serialize(LocalDate date, JsonGenerator g, SerializerProvider provider) throws IOException {
-    if(_formatter != null || _shape != null) {
+    if(_formatter != null || (_shape != null && !(nativeTemporal && _shape == JsonFormat.Shape.ANY))) {
       super.serialize(date, g, provider);
       return;
     }
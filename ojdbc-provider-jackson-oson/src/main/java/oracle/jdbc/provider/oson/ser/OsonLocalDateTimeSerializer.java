@@ -59,6 +59,12 @@ import java.time.format.DateTimeFormatter;
  * a custom implementation that uses the Oson library's {@link OsonGenerator#writeLocalDateTime(LocalDateTime)} method
  * for writing {@link LocalDateTime} values to the JSON output.
  * </p>
+ * <p>
+ * A shape of `ANY`, which Jackson configures when a property has no
+ * `@JsonFormat`, is only written with the {@link OsonGenerator} by the
+ * {@link #NATIVE_INSTANCE}, which is registered by an `OsonModule` that is
+ * created with native temporal encoding.
+ * </p>
  *
  * @see StdSerializer
  * @see OsonGenerator
@@ -71,19 +77,43 @@ public class OsonLocalDateTimeSerializer extends LocalDateTimeSerializer {
    */
   public static final OsonLocalDateTimeSerializer INSTANCE = new OsonLocalDateTimeSerializer();
 
+  /**
+   * An instance of the serializer that writes a shape of `ANY` as an OSON
+   * `TIMESTAMP`.
+   */
+  public static final OsonLocalDateTimeSerializer NATIVE_INSTANCE = new OsonLocalDateTimeSerializer(true);
+
+  /**
+   * True if a shape of `ANY` is written as an OSON `TIMESTAMP`.
+   */
+  private final boolean nativeTemporal;
+
   /**
    * Default constructor that initializes the serializer for the {@link LocalDateTime} class.
    */
   public OsonLocalDateTimeSerializer() {
+    this(false);
+  }
+
+  /**
+   * Constructor that initializes the serializer for the {@link LocalDateTime} class.
+   *
+   * @param nativeTemporal true if a shape of `ANY` is written as an OSON `TIMESTAMP`
+   */
+  protected OsonLocalDateTimeSerializer(boolean nativeTemporal) {
     super(null);
+    this.nativeTemporal = nativeTemporal;
   }
 
   public OsonLocalDateTimeSerializer(DateTimeFormatter f) {
     super(f);
+    this.nativeTemporal = false;
   }
 
   protected OsonLocalDateTimeSerializer(LocalDateTimeSerializer base, Boolean useTimestamp, Boolean useNanoseconds, DateTimeFormatter f) {
     super(base, useTimestamp, useNanoseconds, f);
+    this.nativeTemporal = base instanceof OsonLocalDateTimeSerializer
+      && ((OsonLocalDateTimeSerializer) base).nativeTemporal;
   }
 
   @Override
@@ -106,7 +136,7 @@ public class OsonLocalDateTimeSerializer extends LocalDateTimeSerializer {
    */
   @Override
   public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
-    if(_formatter!= null || _shape!= null ) {
+    if(_formatter != null || (_shape != null && !(nativeTemporal && _shape == JsonFormat.Shape.ANY))) {
       super.serialize(value, gen, provider);
       return;
     }
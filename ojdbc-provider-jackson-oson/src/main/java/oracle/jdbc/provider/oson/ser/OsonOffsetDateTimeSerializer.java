@@ -58,6 +58,12 @@ import java.time.format.DateTimeFormatter;
  * a custom implementation that uses the Oson library's {@link OsonGenerator#writeOffsetDateTime(OffsetDateTime)} method
  * for writing {@link OffsetDateTime} values to the JSON output.
  * </p>
+ * <p>
+ * A shape of `ANY`, which Jackson configures when a property has no
+ * `@JsonFormat`, is only written with the {@link OsonGenerator} by the
+ * {@link #NATIVE_INSTANCE}, which is registered by an `OsonModule` that is
+ * created with native temporal encoding.
+ * </p>
  *
  * @see StdSerializer
  * @see OsonGenerator
@@ -70,17 +76,38 @@ public class OsonOffsetDateTimeSerializer extends OffsetDateTimeSerializer {
    */
   public static final OsonOffsetDateTimeSerializer INSTANCE = new OsonOffsetDateTimeSerializer();
 
+  /**
+   * An instance of the serializer that writes a shape of `ANY` as an OSON
+   * `TIMESTAMPTZ`.
+   */
+  public static final OsonOffsetDateTimeSerializer NATIVE_INSTANCE = new OsonOffsetDateTimeSerializer(true);
+
+  /**
+   * True if a shape of `ANY` is written as an OSON `TIMESTAMPTZ`.
+   */
+  private final boolean nativeTemporal;
 
   /**
    * Default constructor that initializes the serializer for the {@link OffsetDateTime} class.
    */
   public OsonOffsetDateTimeSerializer() {
+    this(false);
+  }
+
+  /**
+   * Constructor that initializes the serializer for the {@link OffsetDateTime} class.
+   *
+   * @param nativeTemporal true if a shape of `ANY` is written as an OSON `TIMESTAMPTZ`
+   */
+  protected OsonOffsetDateTimeSerializer(boolean nativeTemporal) {
     super();
+    this.nativeTemporal = nativeTemporal;
   }
 
   protected OsonOffsetDateTimeSerializer(OffsetDateTimeSerializer base,
                                      Boolean useTimestamp, Boolean useNanoseconds, DateTimeFormatter formatter) {
     super(base, useTimestamp, useNanoseconds, formatter);
+    this.nativeTemporal = isNativeTemporal(base);
   }
 
   /**
@@ -89,6 +116,12 @@ public class OsonOffsetDateTimeSerializer extends OffsetDateTimeSerializer {
   public OsonOffsetDateTimeSerializer(OffsetDateTimeSerializer base, Boolean useTimestamp,
                                   DateTimeFormatter formatter, JsonFormat.Shape shape) {
     super(base, useTimestamp, formatter, shape);
+    this.nativeTemporal = isNativeTemporal(base);
+  }
+
+  private static boolean isNativeTemporal(OffsetDateTimeSerializer base) {
+    return base instanceof OsonOffsetDateTimeSerializer
+      && ((OsonOffsetDateTimeSerializer) base).nativeTemporal;
   }
 
   @Override
@@ -113,7 +146,7 @@ public class OsonOffsetDateTimeSerializer extends OffsetDateTimeSerializer {
    */
   @Override
   public void serialize(OffsetDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
-    if(_formatter != null || _shape != null) {
+    if(_formatter != null || (_shape != null && !(nativeTemporal && _shape == JsonFormat.Shape.ANY))) {
       super.serialize(value, gen, provider);
       return;
     }
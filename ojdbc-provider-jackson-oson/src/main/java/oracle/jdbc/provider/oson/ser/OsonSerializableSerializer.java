@@ -41,29 +41,46 @@ package oracle.jdbc.provider.oson.ser;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import oracle.jdbc.provider.oson.JavaSerializableCodec;
+import oracle.jdbc.provider.oson.OsonSerializableCodec;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 
 /**
- * A custom serializer for serializing objects that implement `Serializable` to a byte array for JSON representation.
- * This serializer converts an object into its serialized byte form and writes it as a binary value in the JSON output.
+ * A custom serializer for objects that implement `Serializable`, which writes the object with an
+ * {@link OsonSerializableCodec}. The {@link oracle.jdbc.provider.oson.OsonModule} creates this
+ * serializer with the codec it is configured with.
  */
 public class OsonSerializableSerializer extends JsonSerializer<Object> {
 
   /**
-   * A singleton instance of the `OsonSerializableSerializer` for global use.
+   * A singleton instance of the `OsonSerializableSerializer` that uses the {@link JavaSerializableCodec}.
    */
   public final static OsonSerializableSerializer INSTANCE = new OsonSerializableSerializer();
 
   /**
-   * Default constructor.
+   * The codec that writes the object.
    */
-  public OsonSerializableSerializer() {}
+  private final OsonSerializableCodec codec;
 
   /**
-   * Serializes a `Serializable` object into its byte array representation and writes it as a binary value in the JSON.
+   * Default constructor, using the {@link JavaSerializableCodec}.
+   */
+  public OsonSerializableSerializer() {
+    this(JavaSerializableCodec.INSTANCE);
+  }
+
+  /**
+   * Constructs a serializer that writes objects with the given codec.
+   *
+   * @param codec the codec that writes the object
+   */
+  public OsonSerializableSerializer(OsonSerializableCodec codec) {
+    this.codec = codec;
+  }
+
+  /**
+   * Serializes a `Serializable` object with the codec of this serializer.
    * If the object is `null`, a `null` value is written.
    *
    * @param value the object to serialize
@@ -75,13 +92,8 @@ public class OsonSerializableSerializer extends JsonSerializer<Object> {
   public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
     if (value == null) {
       gen.writeNull();
+      return;
     }
-    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-    try (ObjectOutputStream objectStream = new ObjectOutputStream(byteStream)) {
-      objectStream.writeObject(value); // Serialize object to byte array
-    }
-
-    byte[] bytes = byteStream.toByteArray();
-    gen.writeBinary(bytes);
+    codec.serialize(value, gen, serializers);
   }
 }
@@ -0,0 +1,119 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The {@code PostalAddress} class is a {@link Serializable} value that the
+ * {@link oracle.jdbc.provider.oson.OsonModule} handles with an
+ * {@link oracle.jdbc.provider.oson.OsonSerializableCodec}.
+ */
+public class PostalAddress implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  // The street and house number.
+  private String street;
+
+  // The city name.
+  private String city;
+
+  // The postal code.
+  private int postalCode;
+
+  /**
+   * Default constructor that initializes an empty {@code PostalAddress} object.
+   */
+  public PostalAddress() {
+  }
+
+  /**
+   * Constructs an {@code PostalAddress} object with the specified values.
+   *
+   * @param street     the street and house number.
+   * @param city       the city name.
+   * @param postalCode the postal code.
+   */
+  public PostalAddress(String street, String city, int postalCode) {
+    this.street = street;
+    this.city = city;
+    this.postalCode = postalCode;
+  }
+
+  public String getStreet() {
+    return street;
+  }
+
+  public void setStreet(String street) {
+    this.street = street;
+  }
+
+  public String getCity() {
+    return city;
+  }
+
+  public void setCity(String city) {
+    this.city = city;
+  }
+
+  public int getPostalCode() {
+    return postalCode;
+  }
+
+  public void setPostalCode(int postalCode) {
+    this.postalCode = postalCode;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    PostalAddress address = (PostalAddress) o;
+    return postalCode == address.postalCode
+      && Objects.equals(street, address.street)
+      && Objects.equals(city, address.city);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(street, city, postalCode);
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.model;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.util.Objects;
+
+/**
+ * The {@code TemporalRecord} class holds one value of each temporal type that
+ * is mapped to an OSON temporal type.
+ */
+public class TemporalRecord {
+
+  // The date of the record.
+  private LocalDate date;
+
+  // The local creation time of the record.
+  private LocalDateTime created;
+
+  // The update time of the record, with its offset.
+  private OffsetDateTime updated;
+
+  // The time the record was processed.
+  private Instant processed;
+
+  // The time the record was stored.
+  private Timestamp stored;
+
+  // The date the record was archived.
+  private java.sql.Date archived;
+
+  // The time the record is retained.
+  private Duration retention;
+
+  // The period of the record.
+  private Period period;
+
+  public TemporalRecord() {}
+
+  public TemporalRecord(LocalDate date, LocalDateTime created, OffsetDateTime updated,
+                        Instant processed, Timestamp stored, java.sql.Date archived,
+                        Duration retention, Period period) {
+    this.date = date;
+    this.created = created;
+    this.updated = updated;
+    this.processed = processed;
+    this.stored = stored;
+    this.archived = archived;
+    this.retention = retention;
+    this.period = period;
+  }
+
+  public LocalDate getDate() {
+    return date;
+  }
+
+  public void setDate(LocalDate date) {
+    this.date = date;
+  }
+
+  public LocalDateTime getCreated() {
+    return created;
+  }
+
+  public void setCreated(LocalDateTime created) {
+    this.created = created;
+  }
+
+  public OffsetDateTime getUpdated() {
+    return updated;
+  }
+
+  public void setUpdated(OffsetDateTime updated) {
+    this.updated = updated;
+  }
+
+  public Instant getProcessed() {
+    return processed;
+  }
+
+  public void setProcessed(Instant processed) {
+    this.processed = processed;
+  }
+
+  public Timestamp getStored() {
+    return stored;
+  }
+
+  public void setStored(Timestamp stored) {
+    this.stored = stored;
+  }
+
+  public java.sql.Date getArchived() {
+    return archived;
+  }
+
+  public void setArchived(java.sql.Date archived) {
+    this.archived = archived;
+  }
+
+  public Duration getRetention() {
+    return retention;
+  }
+
+  public void setRetention(Duration retention) {
+    this.retention = retention;
+  }
+
+  public Period getPeriod() {
+    return period;
+  }
+
+  public void setPeriod(Period period) {
+    this.period = period;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    TemporalRecord that = (TemporalRecord) o;
+    return Objects.equals(date, that.date)
+      && Objects.equals(created, that.created)
+      && Objects.equals(updated, that.updated)
+      && Objects.equals(processed, that.processed)
+      && Objects.equals(stored, that.stored)
+      && Objects.equals(archived, that.archived)
+      && Objects.equals(retention, that.retention)
+      && Objects.equals(period, that.period);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(date, created, updated, processed, stored, archived, retention, period);
+  }
+}
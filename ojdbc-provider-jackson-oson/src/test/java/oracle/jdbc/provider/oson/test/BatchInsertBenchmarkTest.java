@@ -0,0 +1,240 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.test;
+
+import oracle.jdbc.OracleConnection;
+import oracle.jdbc.OracleType;
+import oracle.jdbc.datasource.impl.OracleDataSource;
+import oracle.jdbc.provider.TestProperties;
+import oracle.jdbc.provider.oson.JacksonOsonConverter;
+import oracle.jdbc.provider.oson.JacksonOsonProvider;
+import oracle.jdbc.provider.oson.OsonTestProperty;
+import oracle.jdbc.provider.oson.model.Employee;
+import oracle.jdbc.provider.oson.model.EmployeeInstances;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * The {@code BatchInsertBenchmarkTest} class compares the time taken to batch
+ * insert rows with a JSON column when each row is bound with
+ * {@link PreparedStatement#setObject(int, Object, java.sql.SQLType)}, and when
+ * all rows are serialized up front with
+ * {@link JacksonOsonConverter#serializeAll(List, Class)}. This benchmark only
+ * runs when the {@code oracle.jdbc.provider.benchmark} system property is
+ * {@code true}.
+ */
+@EnabledIfSystemProperty(named = "oracle.jdbc.provider.benchmark", matches = "true")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class BatchInsertBenchmarkTest {
+
+  /**
+   * Number of rows that are inserted by each test.
+   */
+  private static final int ROW_COUNT = 100_000;
+
+  /**
+   * Number of rows in each batch.
+   */
+  private static final int BATCH_SIZE = 1000;
+
+  /**
+   * Interval between the rows that are read back and compared with the
+   * employees that were inserted.
+   */
+  private static final int SAMPLE_INTERVAL = 997;
+
+  /**
+   * The connection to the Oracle database.
+   */
+  Connection conn = null;
+
+  /**
+   * The employees that are inserted.
+   */
+  final List<Employee> employees = new ArrayList<>();
+
+  /**
+   * Sets up the database connection and the required tables before all tests are run.
+   */
+  @BeforeAll
+  public void setup() {
+    try {
+      String url = TestProperties.getOrAbort(OsonTestProperty.JACKSON_OSON_URL);
+      String userName = TestProperties.getOrAbort(OsonTestProperty.JACKSON_OSON_USERNAME);
+      String password = TestProperties.getOrAbort(OsonTestProperty.JACKSON_OSON_PASSWORD);
+      Properties properties = new Properties();
+      properties.setProperty(OracleConnection.CONNECTION_PROPERTY_PROVIDER_JSON,
+        JacksonOsonProvider.PROVIDER_NAME);
+      OracleDataSource ods = new OracleDataSource();
+      ods.setURL(url);
+      ods.setUser(userName);
+      ods.setPassword(password);
+      ods.setConnectionProperties(properties);
+      conn = ods.getConnection();
+
+      try(Statement stmt = conn.createStatement()) {
+        stmt.execute("drop table if exists emp_json_batch_bench");
+        stmt.execute("create table emp_json_batch_bench(c1 number, c2 JSON)");
+      }
+
+      for (int i = 0; i < ROW_COUNT; i++) {
+        employees.add(EmployeeInstances.getEmployee());
+      }
+    }
+    catch (Exception e) {
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * Inserts the employees binding each of them with {@code setObject}.
+   *
+   * @throws SQLException if there is a database access error.
+   */
+  @Test
+  @Order(1)
+  public void insertWithSetObject() throws SQLException {
+    Assumptions.assumeTrue(conn != null);
+    truncate();
+    long start = System.currentTimeMillis();
+    try(PreparedStatement pstmt = conn.prepareStatement(
+        "insert into emp_json_batch_bench (c1,c2) values(?,?)")) {
+      for (int i = 0; i < employees.size(); i++) {
+        pstmt.setInt(1, i);
+        pstmt.setObject(2, employees.get(i), OracleType.JSON);
+        pstmt.addBatch();
+        if ((i + 1) % BATCH_SIZE == 0) {
+          pstmt.executeBatch();
+        }
+      }
+      pstmt.executeBatch();
+    }
+    System.out.println("setObject rows: " + employees.size()
+      + " Total time: " + (System.currentTimeMillis() - start));
+    assertInserted();
+  }
+
+  /**
+   * Inserts the employees binding the images of
+   * {@link JacksonOsonConverter#serializeAll(List, Class)} with {@code setBytes}.
+   *
+   * @throws SQLException if there is a database access error.
+   */
+  @Test
+  @Order(2)
+  public void insertWithSerializeAll() throws SQLException {
+    Assumptions.assumeTrue(conn != null);
+    truncate();
+    long start = System.currentTimeMillis();
+    try(PreparedStatement pstmt = conn.prepareStatement(
+        "insert into emp_json_batch_bench (c1,c2) values(?,?)")) {
+      for (int from = 0; from < employees.size(); from += BATCH_SIZE) {
+        List<Employee> batch =
+          employees.subList(from, Math.min(employees.size(), from + BATCH_SIZE));
+        List<byte[]> images = JacksonOsonConverter.serializeAll(batch, Employee.class);
+        for (int i = 0; i < images.size(); i++) {
+          pstmt.setInt(1, from + i);
+          pstmt.setBytes(2, images.get(i));
+          pstmt.addBatch();
+        }
+        pstmt.executeBatch();
+      }
+    }
+    System.out.println("serializeAll rows: " + employees.size()
+      + " Total time: " + (System.currentTimeMillis() - start));
+    assertInserted();
+  }
+
+  /**
+   * Removes the rows inserted by a previous test.
+   *
+   * @throws SQLException if there is a database access error.
+   */
+  private void truncate() throws SQLException {
+    try(Statement stmt = conn.createStatement()) {
+      stmt.execute("truncate table emp_json_batch_bench");
+    }
+  }
+
+  /**
+   * Verifies that every employee was inserted, and that a sample of the rows
+   * reads back as the employee inserted in it.
+   *
+   * @throws SQLException if there is a database access error.
+   */
+  private void assertInserted() throws SQLException {
+    try(Statement stmt = conn.createStatement();
+        ResultSet rs = stmt.executeQuery(
+          "select count(*) from emp_json_batch_bench")) {
+      Assertions.assertTrue(rs.next());
+      Assertions.assertEquals(employees.size(), rs.getInt(1));
+    }
+
+    int rows = 0;
+    try(PreparedStatement pstmt = conn.prepareStatement(
+        "select c1, c2 from emp_json_batch_bench where mod(c1, ?) = 0")) {
+      pstmt.setInt(1, SAMPLE_INTERVAL);
+      try(ResultSet rs = pstmt.executeQuery()) {
+        while(rs.next()) {
+          Assertions.assertEquals(
+            employees.get(rs.getInt(1)), rs.getObject(2, Employee.class));
+          rows++;
+        }
+      }
+    }
+    Assertions.assertEquals((employees.size() - 1) / SAMPLE_INTERVAL + 1, rows);
+  }
+
+  @AfterAll
+  public void tearDown() throws SQLException {
+    Assumptions.assumeTrue(conn != null);
+    try(Statement stmt = conn.createStatement()) {
+      stmt.execute("drop table if exists emp_json_batch_bench");
+    }
+    conn.close();
+  }
+}
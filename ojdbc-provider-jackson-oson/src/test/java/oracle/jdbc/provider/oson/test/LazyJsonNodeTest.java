@@ -0,0 +1,211 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import oracle.jdbc.provider.oson.JacksonOsonConverter;
+import oracle.jdbc.provider.oson.OsonArrayNode;
+import oracle.jdbc.provider.oson.OsonObjectNode;
+import oracle.sql.json.OracleJsonFactory;
+import oracle.sql.json.OracleJsonGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The {@code LazyJsonNodeTest} class verifies that OSON objects and arrays
+ * are read as {@link OsonObjectNode} and {@link OsonArrayNode}, and that
+ * these nodes behave like the nodes built from JSON text.
+ */
+public class LazyJsonNodeTest {
+
+  private static final int FIELD_COUNT = 200;
+
+  private final OracleJsonFactory oracleJsonFactory = new OracleJsonFactory();
+  private final JacksonOsonConverter converter = new JacksonOsonConverter();
+
+  /**
+   * Verifies that a JsonNode read from OSON is lazy and equal to the tree
+   * read from the same document as JSON text.
+   */
+  @Test
+  public void testReadTree() throws Exception {
+    byte[] oson = createDocument();
+    JsonNode node = read(oson, JsonNode.class);
+
+    Assertions.assertInstanceOf(OsonObjectNode.class, node);
+    Assertions.assertEquals(FIELD_COUNT + 2, node.size());
+    Assertions.assertEquals("value7", node.get("field7").asText());
+    Assertions.assertEquals(2.5, node.get("nested").get("double").asDouble());
+    Assertions.assertInstanceOf(OsonArrayNode.class, node.get("array"));
+    Assertions.assertEquals(3, node.get("array").get(2).asInt());
+    Assertions.assertNull(node.get("missing"));
+    Assertions.assertSame(node.get("nested"), node.get("nested"));
+
+    // OSON decimals are read exactly, where JSON text would give a double
+    Assertions.assertEquals(new BigDecimal("1.25"),
+      ((ObjectNode) node.get("nested")).remove("decimal").decimalValue());
+
+    String text = oracleJsonFactory
+      .createJsonBinaryValue(ByteBuffer.wrap(oson)).toString();
+    JsonNode expected = new ObjectMapper().readTree(text);
+    ((ObjectNode) expected.get("nested")).remove("decimal");
+    Assertions.assertEquals(expected, node);
+  }
+
+  /**
+   * Verifies that ObjectNode and ArrayNode targets are read lazily, and that
+   * the nodes can be modified.
+   */
+  @Test
+  public void testModify() throws Exception {
+    ObjectNode object = read(createDocument(), ObjectNode.class);
+    Assertions.assertInstanceOf(OsonObjectNode.class, object);
+    List<String> names = new ArrayList<>();
+    object.fieldNames().forEachRemaining(names::add);
+
+    ObjectNode nested = (ObjectNode) object.get("nested");
+    nested.put("added", true);
+    Assertions.assertTrue(object.get("nested").get("added").asBoolean());
+
+    object.remove("field0");
+    object.put("field1", "changed");
+    Assertions.assertFalse(object.has("field0"));
+    Assertions.assertEquals("changed", object.get("field1").asText());
+    Assertions.assertEquals(FIELD_COUNT + 1, object.size());
+
+    names.remove("field0");
+    List<String> remainingNames = new ArrayList<>();
+    object.fieldNames().forEachRemaining(remainingNames::add);
+    Assertions.assertEquals(names, remainingNames);
+
+    ArrayNode array = (ArrayNode) object.get("array");
+    array.add(4);
+    array.remove(0);
+    Assertions.assertEquals("[2,3,4]", array.toString());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (OracleJsonGenerator generator = oracleJsonFactory.createJsonBinaryGenerator(out)) {
+      generator.writeStartArray().write(1).write("two").writeEnd();
+    }
+    ArrayNode root = read(out.toByteArray(), ArrayNode.class);
+    Assertions.assertInstanceOf(OsonArrayNode.class, root);
+    Assertions.assertEquals("[1,\"two\"]", root.toString());
+  }
+
+  /**
+   * Verifies that threads reading the same lazy node concurrently see the
+   * same child nodes.
+   */
+  @Test
+  public void testConcurrentReads() throws Exception {
+    int threads = 8;
+    for (int iteration = 0; iteration < 20; iteration++) {
+      JsonNode node = read(createDocument(), JsonNode.class);
+      CyclicBarrier barrier = new CyclicBarrier(threads);
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      try {
+        List<Future<List<JsonNode>>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+          results.add(executor.submit(() -> {
+            barrier.await();
+            List<JsonNode> children = new ArrayList<>();
+            for (int j = 0; j < FIELD_COUNT; j++) {
+              children.add(node.get("field" + j));
+            }
+            children.add(node.get("nested"));
+            for (int j = 0; j < 3; j++) {
+              children.add(node.get("array").get(j));
+            }
+            return children;
+          }));
+        }
+
+        List<JsonNode> first = results.get(0).get();
+        for (Future<List<JsonNode>> result : results) {
+          List<JsonNode> children = result.get();
+          for (int j = 0; j < children.size(); j++) {
+            Assertions.assertSame(first.get(j), children.get(j));
+          }
+        }
+        Assertions.assertEquals("value7", first.get(7).asText());
+        Assertions.assertEquals(3, first.get(FIELD_COUNT + 3).asInt());
+      }
+      finally {
+        executor.shutdown();
+      }
+    }
+  }
+
+  private <T> T read(byte[] oson, Class<T> type) {
+    return type.cast(converter.deserialize(
+      oracleJsonFactory.createJsonBinaryParser(ByteBuffer.wrap(oson)), type));
+  }
+
+  private byte[] createDocument() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (OracleJsonGenerator generator = oracleJsonFactory.createJsonBinaryGenerator(out)) {
+      generator.writeStartObject();
+      for (int i = 0; i < FIELD_COUNT; i++) {
+        generator.write("field" + i, "value" + i);
+      }
+      generator.writeStartObject("nested")
+        .write("double", 2.5)
+        .write("long", Long.MAX_VALUE)
+        .write("decimal", new BigDecimal("1.25"))
+        .writeNull("null")
+        .writeEnd();
+      generator.writeStartArray("array").write(1).write(2).write(3).writeEnd();
+      generator.writeEnd();
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.test;
+
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import oracle.jdbc.provider.oson.NativeSerializableCodec;
+import oracle.jdbc.provider.oson.OsonFactory;
+import oracle.jdbc.provider.oson.OsonModule;
+import oracle.jdbc.provider.oson.model.AuditRecord;
+import oracle.jdbc.provider.oson.model.ConverterEntityInstance;
+import oracle.jdbc.provider.oson.model.PostalAddress;
+import oracle.jdbc.provider.oson.model.TemporalRecord;
+import oracle.jdbc.provider.oson.ser.OsonBeanPropertyWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The {@code OsonBeanPropertyWriterTest} class verifies that the properties
+ * written with generated accessors have the same OSON representation as
+ * the properties written with reflection, and compares their performance.
+ */
+public class OsonBeanPropertyWriterTest {
+
+  private static final int RECORDS = 10_000;
+
+  private static final ObjectMapper generated = createMapper(true, true);
+
+  private static final ObjectMapper reflective = createMapper(false, true);
+
+  private static ObjectMapper createMapper(boolean generateAccessors, boolean nativeTemporals) {
+    ObjectMapper mapper = new ObjectMapper(new OsonFactory());
+    mapper.registerModule(new JavaTimeModule());
+    mapper.registerModule(
+      new OsonModule(NativeSerializableCodec.INSTANCE, generateAccessors, nativeTemporals));
+    mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    return mapper;
+  }
+
+  /**
+   * Verifies that the properties of a bean are written by an
+   * {@link OsonBeanPropertyWriter} only when accessors are generated.
+   */
+  @Test
+  public void testWriters() throws Exception {
+    Assertions.assertTrue(writers(generated, AuditRecord.class).stream()
+      .allMatch(OsonBeanPropertyWriter.class::isInstance));
+    Assertions.assertTrue(writers(reflective, AuditRecord.class).stream()
+      .noneMatch(OsonBeanPropertyWriter.class::isInstance));
+  }
+
+  /**
+   * Verifies that beans with annotated, converted and temporal properties
+   * are written in the same way with and without generated accessors, and
+   * are read back.
+   */
+  @Test
+  public void testSameOutput() throws Exception {
+    List<AuditRecord> audits = createAuditRecords(100);
+    Assertions.assertArrayEquals(
+      reflective.writeValueAsBytes(audits), generated.writeValueAsBytes(audits));
+
+    Assertions.assertArrayEquals(
+      reflective.writeValueAsBytes(ConverterEntityInstance.instances),
+      generated.writeValueAsBytes(ConverterEntityInstance.instances));
+
+    List<TemporalRecord> records = createTemporalRecords(100);
+    byte[] oson = generated.writeValueAsBytes(records);
+    Assertions.assertArrayEquals(reflective.writeValueAsBytes(records), oson);
+    Assertions.assertEquals(records,
+      Arrays.asList(generated.readValue(oson, TemporalRecord[].class)));
+
+    // Temporal values are written by their serializer without native
+    // temporal encoding
+    Assertions.assertArrayEquals(
+      createMapper(false, false).writeValueAsBytes(records),
+      createMapper(true, false).writeValueAsBytes(records));
+  }
+
+  /**
+   * Compares the time to write beans with generated accessors and with
+   * reflection. This benchmark only runs when the
+   * {@code oracle.jdbc.provider.benchmark} system property is {@code true}.
+   */
+  @Test
+  @EnabledIfSystemProperty(named = "oracle.jdbc.provider.benchmark", matches = "true")
+  public void benchmarkWriters() throws Exception {
+    Assertions.assertTrue(writers(generated, TemporalRecord.class).stream()
+      .allMatch(OsonBeanPropertyWriter.class::isInstance));
+
+    List<AuditRecord> audits = createAuditRecords(RECORDS);
+    List<TemporalRecord> records = createTemporalRecords(RECORDS);
+    Assertions.assertArrayEquals(
+      reflective.writeValueAsBytes(audits), generated.writeValueAsBytes(audits));
+    Assertions.assertArrayEquals(
+      reflective.writeValueAsBytes(records), generated.writeValueAsBytes(records));
+    for (int i = 0; i < 5; i++) {
+      generated.writeValueAsBytes(audits);
+      reflective.writeValueAsBytes(audits);
+      generated.writeValueAsBytes(records);
+      reflective.writeValueAsBytes(records);
+    }
+
+    System.out.println("10 x " + RECORDS + " audit records, generated: " + time(generated, audits)
+      + " ms, reflective: " + time(reflective, audits) + " ms");
+    System.out.println("10 x " + RECORDS + " temporal records, generated: " + time(generated, records)
+      + " ms, reflective: " + time(reflective, records) + " ms");
+  }
+
+  private static long time(ObjectMapper mapper, Object value) throws Exception {
+    long start = System.nanoTime();
+    for (int i = 0; i < 10; i++) {
+      mapper.writeValueAsBytes(value);
+    }
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+
+  private static List<PropertyWriter> writers(ObjectMapper mapper, Class<?> type) throws Exception {
+    JsonSerializer<Object> serializer =
+      mapper.getSerializerProviderInstance().findValueSerializer(type);
+    List<PropertyWriter> writers = new ArrayList<>();
+    Iterator<PropertyWriter> properties = serializer.properties();
+    properties.forEachRemaining(writers::add);
+    Assertions.assertFalse(writers.isEmpty());
+    return writers;
+  }
+
+  private static List<AuditRecord> createAuditRecords(int size) {
+    List<AuditRecord> audits = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      AuditRecord audit = new AuditRecord();
+      audit.setOperation("operation " + i);
+      audit.setCount(i);
+      audit.setSequence(i * 1_000_000_007L);
+      audit.setCost(i / 8.0);
+      audit.setSucceeded(i % 3 != 0);
+      audit.setRetries(i % 5 == 0 ? null : i % 5);
+      audit.setLogged(new Timestamp(1_700_000_000_000L + i * 1000L));
+      audit.setDue(LocalDate.of(2024, 1, 1).plusDays(i % 365));
+      audit.setNote(i % 2 == 0 ? "" : "note " + i);
+      audit.setAddress(i % 7 == 0 ? null : new PostalAddress("Street " + i, "City", i));
+      audit.setTags(i % 4 == 0 ? Collections.emptyList() : Arrays.asList("a", "b" + i));
+      audits.add(audit);
+    }
+    return audits;
+  }
+
+  private static List<TemporalRecord> createTemporalRecords(int size) {
+    List<TemporalRecord> records = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      LocalDateTime dateTime = LocalDateTime.of(2024, 1, 1, 8, 0).plusMinutes(i * 37L);
+      records.add(new TemporalRecord(
+        dateTime.toLocalDate(),
+        dateTime,
+        OffsetDateTime.of(dateTime, ZoneOffset.ofHours(i % 12)),
+        dateTime.toInstant(ZoneOffset.UTC),
+        Timestamp.valueOf(dateTime),
+        java.sql.Date.valueOf(dateTime.toLocalDate()),
+        Duration.ofSeconds(i, 500),
+        Period.of(1, i % 12, 0)));
+    }
+    return records;
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import oracle.jdbc.provider.oson.OsonFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@code OsonFactoryTest} class verifies that {@link OsonFactory} parses
+ * OSON from buffers, files and {@link DataInput}s.
+ */
+public class OsonFactoryTest {
+
+  private static final OsonFactory osonFactory = new OsonFactory();
+  private static final ObjectMapper mapper = new ObjectMapper(osonFactory);
+
+  private static Map<String, Object> value;
+  private static byte[] oson;
+
+  @TempDir
+  static Path tempDir;
+
+  @BeforeAll
+  public static void setup() throws IOException {
+    value = new LinkedHashMap<>();
+    value.put("name", "oson");
+    value.put("items", Collections.nCopies(1000, "item"));
+    oson = mapper.writeValueAsBytes(value);
+  }
+
+  /**
+   * Verifies that heap and direct buffers are parsed from their position, and
+   * that the position is not changed.
+   */
+  @Test
+  public void testByteBuffer() throws IOException {
+    ByteBuffer heap = ByteBuffer.allocate(oson.length + 3);
+    heap.position(3);
+    heap.put(oson);
+    heap.position(3);
+    Assertions.assertEquals(value, read(osonFactory.createParser(heap)));
+    Assertions.assertEquals(3, heap.position());
+    Assertions.assertEquals(value, read(osonFactory.createParser(heap.slice())));
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(oson.length);
+    direct.put(oson).flip();
+    Assertions.assertEquals(value, read(osonFactory.createParser(direct)));
+    Assertions.assertEquals(0, direct.position());
+  }
+
+  /**
+   * Verifies that files are parsed through a Path or a File.
+   */
+  @Test
+  public void testFile() throws IOException {
+    Path path = Files.write(tempDir.resolve("value.oson"), oson);
+    Assertions.assertEquals(value, read(osonFactory.createParser(path)));
+    Assertions.assertEquals(value, read(osonFactory.createParser(path.toFile())));
+  }
+
+  /**
+   * Verifies that DataInputs are parsed, whether or not they are an
+   * InputStream or a RandomAccessFile. The proxy is a DataInput that is
+   * neither.
+   */
+  @Test
+  public void testDataInput() throws IOException {
+    DataInput stream = new DataInputStream(new ByteArrayInputStream(oson));
+    Assertions.assertEquals(value, read(osonFactory.createParser(stream)));
+
+    File file = Files.write(tempDir.resolve("input.oson"), oson).toFile();
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+      Assertions.assertEquals(value, read(osonFactory.createParser(randomAccessFile)));
+    }
+
+    DataInput dataInput = new DataInputStream(new ByteArrayInputStream(oson));
+    DataInput wrapper = (DataInput) Proxy.newProxyInstance(
+      DataInput.class.getClassLoader(), new Class<?>[] { DataInput.class },
+      (proxy, method, args) -> {
+        try {
+          return method.invoke(dataInput, args);
+        }
+        catch (InvocationTargetException e) {
+          throw e.getCause();
+        }
+      });
+    Assertions.assertEquals(value, read(osonFactory.createParser(wrapper)));
+  }
+
+  private Object read(JsonParser parser) throws IOException {
+    try (JsonParser p = parser) {
+      return mapper.readValue(p, Map.class);
+    }
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.test;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import oracle.jdbc.provider.oson.OsonFactory;
+import oracle.sql.json.OracleJsonFactory;
+import oracle.sql.json.OracleJsonObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * The {@code OsonGeneratorTest} class verifies that the array and
+ * sub-range write methods of {@link oracle.jdbc.provider.oson.OsonGenerator}
+ * write the expected values.
+ */
+public class OsonGeneratorTest {
+
+  private final OsonFactory osonFactory = new OsonFactory();
+  private final OracleJsonFactory oracleJsonFactory = new OracleJsonFactory();
+
+  /**
+   * Verifies that the char[] and UTF-8 string writes honour offset and length.
+   */
+  @Test
+  public void testStringSubRanges() throws IOException {
+    char[] chars = "xxhelloxx".toCharArray();
+    byte[] utf8 = "--héllo--".getBytes(StandardCharsets.UTF_8);
+
+    OracleJsonObject object = write(generator -> {
+      generator.writeFieldName("chars");
+      generator.writeString(chars, 2, 5);
+      generator.writeFieldName("raw");
+      generator.writeRaw(chars, 2, 5);
+      generator.writeFieldName("utf8");
+      generator.writeUTF8String(utf8, 2, utf8.length - 4);
+    });
+
+    Assertions.assertEquals("hello", object.getString("chars"));
+    Assertions.assertEquals("hello", object.getString("raw"));
+    Assertions.assertEquals("héllo", object.getString("utf8"));
+  }
+
+  /**
+   * Verifies that full and partial binary writes produce the expected bytes.
+   */
+  @Test
+  public void testBinary() throws IOException {
+    byte[] data = new byte[] { 1, 2, 3, 4, 5 };
+
+    OracleJsonObject object = write(generator -> {
+      generator.writeFieldName("full");
+      generator.writeBinary(data, 0, data.length);
+      generator.writeFieldName("part");
+      generator.writeBinary(data, 1, 3);
+    });
+
+    Assertions.assertArrayEquals(data, object.getBytes("full"));
+    Assertions.assertArrayEquals(new byte[] { 2, 3, 4 }, object.getBytes("part"));
+  }
+
+  /**
+   * Verifies that numbers written as strings keep their value whether they
+   * take the long or the BigDecimal path.
+   */
+  @Test
+  public void testNumberFromString() throws IOException {
+    OracleJsonObject object = write(generator -> {
+      generator.writeFieldName("int");
+      generator.writeNumber("-1234567890123");
+      generator.writeFieldName("big");
+      generator.writeNumber("123456789012345678901234567890");
+      generator.writeFieldName("decimal");
+      generator.writeNumber("12.5e3");
+    });
+
+    Assertions.assertEquals(-1234567890123L, object.getLong("int"));
+    Assertions.assertEquals(new BigDecimal("123456789012345678901234567890"),
+      object.getBigDecimal("big"));
+    Assertions.assertEquals(0,
+      new BigDecimal("12500").compareTo(object.getBigDecimal("decimal")));
+  }
+
+  /**
+   * Verifies that field names written as {@code SerializableString} are
+   * written as the same keys as field names written as strings.
+   */
+  @Test
+  public void testSerializableFieldName() throws IOException {
+    SerializedString name = new SerializedString("name");
+
+    OracleJsonObject object = write(generator -> {
+      generator.writeFieldName(name);
+      generator.writeString("value");
+      generator.writeFieldName(new SerializedString("héllo"));
+      generator.writeNumber(1);
+    });
+
+    Assertions.assertEquals(Arrays.asList("name", "héllo"), new ArrayList<>(object.keySet()));
+    Assertions.assertEquals("value", object.getString("name"));
+    Assertions.assertEquals(1, object.getInt("héllo"));
+  }
+
+  private OracleJsonObject write(FieldWriter fieldWriter) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (JsonGenerator generator = osonFactory.createGenerator(out)) {
+      generator.writeStartObject();
+      fieldWriter.write(generator);
+      generator.writeEndObject();
+    }
+    return oracleJsonFactory
+      .createJsonBinaryValue(ByteBuffer.wrap(out.toByteArray()))
+      .asJsonObject();
+  }
+
+  @FunctionalInterface
+  private interface FieldWriter {
+    void write(JsonGenerator generator) throws IOException;
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import oracle.jdbc.provider.oson.OsonFactory;
+import oracle.jdbc.provider.oson.OsonMetadataCache;
+import oracle.jdbc.provider.oson.OsonModule;
+import oracle.jdbc.provider.oson.Util;
+import oracle.jdbc.provider.oson.model.ConverterEntity;
+import oracle.jdbc.provider.oson.model.ConverterEntityInstance;
+import oracle.jdbc.provider.oson.model.Converters;
+import oracle.jdbc.provider.oson.model.PostalAddress;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+/**
+ * The {@code OsonMetadataCacheTest} class verifies that the metadata of
+ * converters and property types is resolved once and shared.
+ */
+public class OsonMetadataCacheTest {
+
+  /**
+   * Verifies that the converter and its serializers are shared, and that the
+   * types of the converter are resolved.
+   */
+  @Test
+  public void testConverterMetadata() {
+    OsonMetadataCache.ConverterMetadata metadata =
+      OsonMetadataCache.converter(Converters.LocalDateToStringConverter.class);
+
+    Assertions.assertSame(metadata,
+      OsonMetadataCache.converter(Converters.LocalDateToStringConverter.class));
+    Assertions.assertEquals(String.class, metadata.getDatabaseType());
+    Assertions.assertEquals(LocalDate.class, metadata.getEntityType());
+    Assertions.assertSame(
+      OsonMetadataCache.converterSerializer(Converters.LocalDateToStringConverter.class),
+      OsonMetadataCache.converterSerializer(Converters.LocalDateToStringConverter.class));
+    Assertions.assertSame(
+      OsonMetadataCache.converterDeserializer(Converters.LocalDateToStringConverter.class),
+      OsonMetadataCache.converterDeserializer(Converters.LocalDateToStringConverter.class));
+  }
+
+  /**
+   * Verifies which property types are handled as {@code Serializable}.
+   */
+  @Test
+  public void testSerializableProperty() {
+    TypeFactory typeFactory = TypeFactory.defaultInstance();
+
+    Assertions.assertTrue(OsonMetadataCache.isSerializableProperty(
+      typeFactory.constructType(PostalAddress.class)));
+    Assertions.assertFalse(OsonMetadataCache.isSerializableProperty(
+      typeFactory.constructType(BigDecimal.class)));
+    Assertions.assertFalse(OsonMetadataCache.isSerializableProperty(
+      typeFactory.constructType(ArrayList.class)));
+    Assertions.assertFalse(OsonMetadataCache.isSerializableProperty(
+      typeFactory.constructType(ConverterEntity.class)));
+    Assertions.assertTrue(Util.isJavaSerializableType(String[].class));
+  }
+
+  /**
+   * Verifies that entities convert the same way after their serializers and
+   * deserializers are registered with several mappers.
+   */
+  @Test
+  public void testRegisterTypes() throws Exception {
+    for (int i = 0; i < 2; i++) {
+      ObjectMapper mapper = new ObjectMapper(new OsonFactory());
+      mapper.findAndRegisterModules();
+      mapper.registerModule(new OsonModule());
+      mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+      OsonModule.registerTypes(mapper, ConverterEntity.class, PostalAddress.class);
+
+      for (ConverterEntity entity : ConverterEntityInstance.instances) {
+        byte[] oson = mapper.writeValueAsBytes(entity);
+        Assertions.assertEquals(entity, mapper.readValue(oson, ConverterEntity.class));
+      }
+    }
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.test;
+
+import oracle.jdbc.provider.oson.JacksonOsonConverter;
+import oracle.jdbc.provider.oson.OsonStreams;
+import oracle.jdbc.provider.oson.model.PostalAddress;
+import oracle.sql.json.OracleJsonFactory;
+import oracle.sql.json.OracleJsonGenerator;
+import oracle.sql.json.OracleJsonParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The {@code OsonStreamsTest} class verifies that {@link OsonStreams} reads
+ * the elements of OSON arrays one at a time, sequentially and in parallel.
+ */
+public class OsonStreamsTest {
+
+  private static final int SIZE = 10_000;
+
+  private static final OracleJsonFactory oracleJsonFactory = new OracleJsonFactory();
+
+  private static List<PostalAddress> addresses;
+
+  private static byte[] oson;
+
+  @BeforeAll
+  public static void setup() throws Exception {
+    addresses = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      addresses.add(new PostalAddress("Street " + i, "City " + (i % 100), i));
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    JacksonOsonConverter.getObjectMapper().writeValue(out, addresses);
+    oson = out.toByteArray();
+  }
+
+  /**
+   * Verifies that the iterator returns every element of a root array, in
+   * order.
+   */
+  @Test
+  public void testIterate() {
+    Iterator<PostalAddress> iterator = OsonStreams.iterate(parser(oson), PostalAddress.class);
+    List<PostalAddress> result = new ArrayList<>();
+    iterator.forEachRemaining(result::add);
+
+    Assertions.assertEquals(addresses, result);
+    Assertions.assertFalse(iterator.hasNext());
+    Assertions.assertThrows(NoSuchElementException.class, iterator::next);
+  }
+
+  /**
+   * Verifies that a root value which is not an array is returned as a single
+   * element, and that null and empty arrays are handled.
+   */
+  @Test
+  public void testIterateSingleValue() throws Exception {
+    PostalAddress address = addresses.get(0);
+    Iterator<PostalAddress> iterator = OsonStreams.iterate(
+      parser(JacksonOsonConverter.getObjectMapper().writeValueAsBytes(address)),
+      PostalAddress.class);
+    Assertions.assertEquals(address, iterator.next());
+    Assertions.assertFalse(iterator.hasNext());
+
+    byte[] withNull = JacksonOsonConverter.getObjectMapper()
+      .writeValueAsBytes(Arrays.asList(address, null));
+    try (Stream<PostalAddress> stream = OsonStreams.stream(parser(withNull), PostalAddress.class)) {
+      Assertions.assertEquals(Arrays.asList(address, null), stream.collect(Collectors.toList()));
+    }
+
+    ByteArrayOutputStream empty = new ByteArrayOutputStream();
+    try (OracleJsonGenerator generator = oracleJsonFactory.createJsonBinaryGenerator(empty)) {
+      generator.writeStartArray().writeEnd();
+    }
+    Assertions.assertFalse(
+      OsonStreams.iterate(parser(empty.toByteArray()), PostalAddress.class).hasNext());
+  }
+
+  /**
+   * Verifies that a parallel stream over a buffer returns every element in
+   * encounter order, and that the array is split into ranges.
+   */
+  @Test
+  public void testParallelStream() {
+    ByteBuffer buffer = ByteBuffer.wrap(oson);
+
+    Assertions.assertEquals(addresses,
+      OsonStreams.stream(buffer, PostalAddress.class).collect(Collectors.toList()));
+    Assertions.assertEquals(addresses,
+      OsonStreams.stream(buffer, PostalAddress.class).parallel().collect(Collectors.toList()));
+    Assertions.assertEquals(SIZE,
+      OsonStreams.stream(buffer, PostalAddress.class).parallel()
+        .filter(address -> address.getPostalCode() >= 0).count());
+
+    Spliterator<PostalAddress> suffix =
+      OsonStreams.stream(buffer, PostalAddress.class).spliterator();
+    Spliterator<PostalAddress> prefix = suffix.trySplit();
+    Assertions.assertNotNull(prefix);
+    Assertions.assertEquals(SIZE, prefix.estimateSize() + suffix.estimateSize());
+    List<PostalAddress> split = new ArrayList<>(SIZE);
+    prefix.forEachRemaining(split::add);
+    suffix.forEachRemaining(split::add);
+    Assertions.assertEquals(addresses, split);
+    Assertions.assertEquals(0, buffer.position());
+  }
+
+  /**
+   * Verifies that the values of a JSON column are returned in the order of
+   * the rows, and that no more than the maximum number of rows are fetched
+   * ahead of the consumer.
+   */
+  @Test
+  public void testResultSetStream() throws Exception {
+    List<byte[]> rows = new ArrayList<>(SIZE);
+    List<PostalAddress> expected = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      PostalAddress address = i % 1000 == 0 ? null : addresses.get(i);
+      rows.add(address == null
+        ? null : JacksonOsonConverter.getObjectMapper().writeValueAsBytes(address));
+      expected.add(address);
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      AtomicInteger fetched = new AtomicInteger();
+      AtomicInteger consumed = new AtomicInteger();
+      List<PostalAddress> result;
+      try (Stream<PostalAddress> stream = OsonStreams.stream(
+          resultSet(rows, fetched), 1, PostalAddress.class, pool, 16)) {
+        result = stream
+          .peek(address -> Assertions.assertTrue(
+            fetched.get() - consumed.incrementAndGet() <= 16))
+          .collect(Collectors.toList());
+      }
+      Assertions.assertEquals(expected, result);
+
+      try (Stream<PostalAddress> stream = OsonStreams.stream(
+          resultSet(rows, new AtomicInteger()), 1, PostalAddress.class, pool, 16)) {
+        Assertions.assertEquals(expected.subList(0, 10),
+          stream.limit(10).collect(Collectors.toList()));
+      }
+
+      Assertions.assertThrows(IllegalArgumentException.class,
+        () -> OsonStreams.stream(resultSet(rows, fetched), 1, PostalAddress.class, pool, 0));
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Returns a result set with a single column, holding the given rows.
+   */
+  private static ResultSet resultSet(List<byte[]> rows, AtomicInteger fetched) {
+    return (ResultSet) Proxy.newProxyInstance(
+      OsonStreamsTest.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+      (proxy, method, args) -> {
+        switch (method.getName()) {
+          case "next":
+            return fetched.incrementAndGet() <= rows.size();
+          case "getBytes":
+            return rows.get(fetched.get() - 1);
+          default:
+            throw new UnsupportedOperationException(method.getName());
+        }
+      });
+  }
+
+  private static OracleJsonParser parser(byte[] bytes) {
+    return oracleJsonFactory.createJsonBinaryParser(ByteBuffer.wrap(bytes));
+  }
+}
@@ -0,0 +1,290 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import oracle.jdbc.driver.json.tree.OracleJsonDateImpl;
+import oracle.jdbc.driver.json.tree.OracleJsonTimestampImpl;
+import oracle.jdbc.driver.json.tree.OracleJsonTimestampTZImpl;
+import oracle.jdbc.provider.oson.JacksonOsonConverter;
+import oracle.jdbc.provider.oson.JavaSerializableCodec;
+import oracle.jdbc.provider.oson.OsonFactory;
+import oracle.jdbc.provider.oson.OsonModule;
+import oracle.jdbc.provider.oson.OsonTemporalCodec;
+import oracle.jdbc.provider.oson.model.TemporalRecord;
+import oracle.sql.DATE;
+import oracle.sql.TIMESTAMP;
+import oracle.sql.json.OracleJsonFactory;
+import oracle.sql.json.OracleJsonParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code OsonTemporalCodecTest} class verifies that {@link OsonTemporalCodec}
+ * encodes temporal values as the Oracle JDBC driver does, and compares it with
+ * the {@code oracle.sql} conversions that it replaces.
+ */
+public class OsonTemporalCodecTest {
+
+  private static final int ITERATIONS = 200_000;
+
+  private static final int RECORDS = 10_000;
+
+  private static final List<LocalDateTime> DATE_TIMES = Arrays.asList(
+    LocalDateTime.of(2024, 1, 2, 3, 4, 5),
+    LocalDateTime.of(2024, 2, 29, 23, 59, 59, 999_999_999),
+    LocalDateTime.of(1, 1, 1, 0, 0, 0, 1),
+    LocalDateTime.of(9999, 12, 31, 12, 30, 0, 123_000_000),
+    LocalDateTime.of(1970, 1, 1, 0, 0));
+
+  private static final List<ZoneOffset> OFFSETS = Arrays.asList(
+    ZoneOffset.UTC, ZoneOffset.ofHoursMinutes(5, 30), ZoneOffset.ofHoursMinutes(-3, -45),
+    ZoneOffset.ofHours(14), ZoneOffset.ofHours(-12));
+
+  /**
+   * Verifies that the images are the same as the ones of the driver, and that
+   * they are decoded to the original values.
+   */
+  @Test
+  public void testCodec() {
+    for (LocalDateTime dateTime : DATE_TIMES) {
+      byte[] date = OsonTemporalCodec.encodeDate(dateTime);
+      Assertions.assertArrayEquals(new OracleJsonDateImpl(dateTime).raw(), date);
+      Assertions.assertEquals(dateTime.withNano(0), OsonTemporalCodec.decodeLocalDateTime(date));
+      Assertions.assertArrayEquals(date, OsonTemporalCodec.encodeDate(dateTime.withNano(0)));
+      Assertions.assertEquals(dateTime.toLocalDate(),
+        OsonTemporalCodec.decodeLocalDate(OsonTemporalCodec.encodeDate(dateTime.toLocalDate())));
+
+      byte[] timestamp = OsonTemporalCodec.encodeTimestamp(dateTime);
+      Assertions.assertArrayEquals(new OracleJsonTimestampImpl(dateTime).raw(), timestamp);
+      Assertions.assertEquals(dateTime, OsonTemporalCodec.decodeLocalDateTime(timestamp));
+      Assertions.assertEquals(dateTime.toInstant(ZoneOffset.UTC),
+        OsonTemporalCodec.decodeInstant(timestamp));
+
+      for (ZoneOffset offset : OFFSETS) {
+        // The driver converts TIMESTAMPTZ through the Julian calendar before
+        // 1583, and java.time uses the ISO calendar
+        OffsetDateTime offsetDateTime = OffsetDateTime.of(dateTime, offset);
+        if (dateTime.getYear() < 1583 || dateTime.getYear() > 9998) {
+          continue;
+        }
+        byte[] timestampTZ = OsonTemporalCodec.encodeTimestampTZ(offsetDateTime);
+        Assertions.assertArrayEquals(new OracleJsonTimestampTZImpl(offsetDateTime).raw(), timestampTZ);
+        Assertions.assertEquals(offsetDateTime, OsonTemporalCodec.decodeOffsetDateTime(timestampTZ));
+        Assertions.assertEquals(offsetDateTime.toInstant(),
+          OsonTemporalCodec.decodeInstant(timestampTZ));
+        Assertions.assertEquals(offsetDateTime.toInstant(), OsonTemporalCodec.decodeInstant(
+          OsonTemporalCodec.encodeTimestampTZ(offsetDateTime.toInstant())));
+      }
+    }
+
+    Assertions.assertThrows(IllegalArgumentException.class,
+      () -> OsonTemporalCodec.encodeDate(LocalDate.of(10000, 1, 1)));
+  }
+
+  /**
+   * Verifies that each temporal type is written as its OSON type by a module
+   * with native temporal encoding, and read back.
+   */
+  @Test
+  public void testRoundTrip() throws Exception {
+    ObjectMapper mapper = createNativeMapper();
+    TemporalRecord record = createRecord(7);
+    byte[] oson = mapper.writeValueAsBytes(record);
+
+    Assertions.assertEquals(record, mapper.readValue(oson, TemporalRecord.class));
+
+    List<OracleJsonParser.Event> events = events(oson);
+    Assertions.assertEquals(2, count(events, OracleJsonParser.Event.VALUE_DATE));
+    Assertions.assertEquals(2, count(events, OracleJsonParser.Event.VALUE_TIMESTAMP));
+    Assertions.assertEquals(2, count(events, OracleJsonParser.Event.VALUE_TIMESTAMPTZ));
+    Assertions.assertEquals(1, count(events, OracleJsonParser.Event.VALUE_INTERVALDS));
+    Assertions.assertEquals(1, count(events, OracleJsonParser.Event.VALUE_INTERVALYM));
+
+    Assertions.assertEquals(record.getProcessed(), mapper.readValue(
+      "\"" + record.getProcessed() + "\"", Instant.class));
+  }
+
+  /**
+   * Verifies that a module without native temporal encoding writes a
+   * {@code LocalDate}, an {@code OffsetDateTime} and an {@code Instant} as
+   * strings, as in earlier releases.
+   */
+  @Test
+  public void testDefaultFormat() throws Exception {
+    ObjectMapper mapper = JacksonOsonConverter.getObjectMapper();
+    TemporalRecord record = createRecord(7);
+    byte[] oson = mapper.writeValueAsBytes(record);
+
+    // The JavaTimeModule adjusts an OffsetDateTime read from a string to UTC
+    TemporalRecord read = mapper.readValue(oson, TemporalRecord.class);
+    Assertions.assertEquals(record.getDate(), read.getDate());
+    Assertions.assertEquals(record.getProcessed(), read.getProcessed());
+    Assertions.assertEquals(record.getUpdated().toInstant(), read.getUpdated().toInstant());
+
+    List<OracleJsonParser.Event> events = events(oson);
+    Assertions.assertEquals(1, count(events, OracleJsonParser.Event.VALUE_DATE));
+    Assertions.assertEquals(0, count(events, OracleJsonParser.Event.VALUE_TIMESTAMPTZ));
+    Assertions.assertEquals(5, count(events, OracleJsonParser.Event.VALUE_STRING));
+
+    Assertions.assertEquals(OracleJsonParser.Event.VALUE_STRING,
+      events(mapper.writeValueAsBytes(record.getProcessed())).get(0));
+  }
+
+  /**
+   * Compares the codec with the {@code oracle.sql} conversions, and measures
+   * the conversion of documents that hold temporal values. This benchmark
+   * only runs when the {@code oracle.jdbc.provider.benchmark} system property
+   * is {@code true}.
+   */
+  @Test
+  @EnabledIfSystemProperty(named = "oracle.jdbc.provider.benchmark", matches = "true")
+  public void benchmarkCodec() throws Exception {
+    LocalDate date = LocalDate.of(2024, 6, 15);
+    Timestamp timestamp = Timestamp.valueOf(LocalDateTime.of(2024, 6, 15, 10, 20, 30, 123_456_000));
+
+    long codecDate = time(() -> OsonTemporalCodec.encodeDate(date));
+    long sqlDate = time(() -> new DATE(date).shareBytes());
+    long codecTimestamp = time(() -> OsonTemporalCodec.encodeTimestamp(timestamp.toLocalDateTime()));
+    long sqlTimestamp = time(() -> new TIMESTAMP(timestamp).shareBytes());
+    byte[] image = OsonTemporalCodec.encodeTimestamp(timestamp.toLocalDateTime());
+    long codecDecode = time(() -> OsonTemporalCodec.decodeLocalDate(image));
+    long sqlDecode = time(() -> new TIMESTAMP(image).toLocalDateTime().toLocalDate());
+
+    System.out.println("LocalDate to DATE, codec: " + codecDate + " ms, oracle.sql: " + sqlDate + " ms");
+    System.out.println("Timestamp to TIMESTAMP, codec: " + codecTimestamp
+      + " ms, oracle.sql: " + sqlTimestamp + " ms");
+    System.out.println("TIMESTAMP to LocalDate, codec: " + codecDecode + " ms, oracle.sql: " + sqlDecode + " ms");
+
+    ObjectMapper mapper = createNativeMapper();
+    List<TemporalRecord> records = new ArrayList<>(RECORDS);
+    for (int i = 0; i < RECORDS; i++) {
+      records.add(createRecord(i));
+    }
+    byte[] oson = mapper.writeValueAsBytes(records);
+    TemporalRecord[] read = mapper.readValue(oson, TemporalRecord[].class);
+    Assertions.assertEquals(records, Arrays.asList(read));
+
+    long start = System.nanoTime();
+    for (int i = 0; i < 10; i++) {
+      mapper.writeValueAsBytes(records);
+    }
+    long write = (System.nanoTime() - start) / 1_000_000;
+    start = System.nanoTime();
+    for (int i = 0; i < 10; i++) {
+      mapper.readValue(oson, TemporalRecord[].class);
+    }
+    long readTime = (System.nanoTime() - start) / 1_000_000;
+    System.out.println("10 x " + RECORDS + " temporal records, write: " + write + " ms, read: " + readTime + " ms");
+  }
+
+  private static ObjectMapper createNativeMapper() {
+    // The OsonModule is registered after the JavaTimeModule, so that its
+    // serializers replace the ones of the JavaTimeModule
+    ObjectMapper mapper = new ObjectMapper(new OsonFactory());
+    mapper.registerModule(new JavaTimeModule());
+    mapper.registerModule(new OsonModule(JavaSerializableCodec.INSTANCE, true, true));
+    mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    return mapper;
+  }
+
+  private static List<OracleJsonParser.Event> events(byte[] oson) {
+    List<OracleJsonParser.Event> events = new ArrayList<>();
+    try (OracleJsonParser parser =
+           new OracleJsonFactory().createJsonBinaryParser(ByteBuffer.wrap(oson))) {
+      while (parser.hasNext()) {
+        OracleJsonParser.Event event = parser.next();
+        if (event != OracleJsonParser.Event.KEY_NAME
+          && event != OracleJsonParser.Event.START_OBJECT
+          && event != OracleJsonParser.Event.END_OBJECT) {
+          events.add(event);
+        }
+      }
+    }
+    return events;
+  }
+
+  private static TemporalRecord createRecord(int i) {
+    LocalDateTime dateTime = LocalDateTime.of(2024, 1, 1, 8, 0).plusMinutes(i * 37L).plusNanos(i * 1000L);
+    return new TemporalRecord(
+      dateTime.toLocalDate(),
+      dateTime,
+      OffsetDateTime.of(dateTime, ZoneOffset.ofHours(i % 12)),
+      dateTime.toInstant(ZoneOffset.UTC),
+      Timestamp.valueOf(dateTime),
+      java.sql.Date.valueOf(dateTime.toLocalDate()),
+      Duration.ofSeconds(i, 500),
+      Period.of(1, i % 12, 0));
+  }
+
+  private static long count(List<OracleJsonParser.Event> events, OracleJsonParser.Event event) {
+    return events.stream().filter(event::equals).count();
+  }
+
+  private interface Conversion {
+    Object convert() throws Exception;
+  }
+
+  private static long time(Conversion conversion) throws Exception {
+    for (int i = 0; i < ITERATIONS / 10; i++) {
+      conversion.convert();
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      Assertions.assertNotNull(conversion.convert());
+    }
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+}
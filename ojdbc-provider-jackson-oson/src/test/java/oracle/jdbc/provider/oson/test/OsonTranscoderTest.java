@@ -0,0 +1,341 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.test;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import oracle.jdbc.provider.oson.JacksonOsonConverter;
+import oracle.jdbc.provider.oson.OsonFactory;
+import oracle.jdbc.provider.oson.OsonTranscoder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@code OsonTranscoderTest} class verifies that {@link OsonTranscoder}
+ * converts JSON text to OSON and back, and compares its throughput with a
+ * conversion through a {@link JsonNode} tree.
+ */
+public class OsonTranscoderTest {
+
+  private static final int RECORDS = 5_000;
+
+  private static final int ITERATIONS = 20;
+
+  private static final String DOCUMENT =
+    "{\"id\":42,\"name\":\"quote \\\" and \\u00e9\",\"long\":12345678901234,"
+      + "\"big\":123456789012345678901234567890,\"decimal\":-1.25,\"exp\":6.02E-3,"
+      + "\"flags\":[true,false,null],\"empty\":{},\"nested\":{\"list\":[1,[2,[3]],{\"a\":\"b\"}]}}";
+
+  /**
+   * Parses JSON text with numbers as BigDecimal, so that the trees of OSON
+   * NUMBER and of text can be compared.
+   */
+  private static final ObjectMapper textMapper = new ObjectMapper()
+    .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+  /**
+   * Compares numbers by value, as a decimal read from JSON text, such as 3.0,
+   * is read from an OSON NUMBER with a different scale.
+   */
+  private static final Comparator<JsonNode> NUMERIC_VALUE = (node, other) ->
+    node.isNumber() && other.isNumber()
+      ? node.decimalValue().compareTo(other.decimalValue())
+      : node.equals(other) ? 0 : 1;
+
+  private static byte[] records;
+
+  @TempDir
+  Path directory;
+
+  @BeforeAll
+  public static void setup() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (JsonGenerator generator = new JsonFactory().createGenerator(out)) {
+      generator.writeStartArray();
+      for (int i = 0; i < RECORDS; i++) {
+        generator.writeStartObject();
+        generator.writeNumberField("id", i);
+        generator.writeStringField("name", "Record " + i);
+        generator.writeNumberField("amount", i * 1.5);
+        generator.writeBooleanField("active", i % 2 == 0);
+        generator.writeArrayFieldStart("tags");
+        generator.writeString("tag" + (i % 10));
+        generator.writeString("tag" + (i % 7));
+        generator.writeEndArray();
+        generator.writeObjectFieldStart("address");
+        generator.writeStringField("street", "Street " + i);
+        generator.writeNumberField("zip", 10000 + i);
+        generator.writeEndObject();
+        generator.writeEndObject();
+      }
+      generator.writeEndArray();
+    }
+    records = out.toByteArray();
+  }
+
+  /**
+   * Verifies that JSON text converted to OSON and back is equal to the
+   * original text.
+   */
+  @Test
+  public void testRoundTrip() throws IOException {
+    byte[] json = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+    byte[] oson = OsonTranscoder.jsonToOson(json);
+
+    Assertions.assertEquals(textMapper.readTree(json),
+      JacksonOsonConverter.getObjectMapper().readTree(oson));
+    Assertions.assertEquals(textMapper.readTree(json),
+      textMapper.readTree(OsonTranscoder.osonToJson(oson)));
+  }
+
+  /**
+   * Verifies that numbers outside the range of an Oracle NUMBER are written
+   * as doubles when no precision is lost, and are rejected otherwise.
+   */
+  @Test
+  public void testNumberOutOfRange() throws IOException {
+    byte[] oson = OsonTranscoder.jsonToOson(
+      "[1e200,-1e-200,0.0]".getBytes(StandardCharsets.UTF_8));
+    JsonNode tree = JacksonOsonConverter.getObjectMapper().readTree(oson);
+
+    Assertions.assertEquals(1e200, tree.get(0).doubleValue());
+    Assertions.assertEquals(-1e-200, tree.get(1).doubleValue());
+    Assertions.assertEquals(0, tree.get(2).intValue());
+
+    Assertions.assertThrows(JsonGenerationException.class, () ->
+      OsonTranscoder.jsonToOson("[1e400]".getBytes(StandardCharsets.UTF_8)));
+    Assertions.assertThrows(JsonGenerationException.class, () ->
+      OsonTranscoder.jsonToOson(
+        "[1.00000000000000000001e200]".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  /**
+   * Verifies that numbers with more digits than NUMBER can hold are not
+   * truncated.
+   */
+  @Test
+  public void testNumberPrecision() throws IOException {
+    String digits40 = "1234567890123456789012345678901234567890";
+    byte[] oson = OsonTranscoder.jsonToOson(
+      ("[" + digits40 + ",0.5,1e-50]").getBytes(StandardCharsets.UTF_8));
+    JsonNode tree = JacksonOsonConverter.getObjectMapper().readTree(oson);
+
+    Assertions.assertEquals(
+      0, new BigDecimal(digits40).compareTo(tree.get(0).decimalValue()));
+    Assertions.assertEquals(0.5, tree.get(1).doubleValue());
+    Assertions.assertEquals(1e-50, tree.get(2).doubleValue());
+
+    Assertions.assertThrows(JsonGenerationException.class, () ->
+      OsonTranscoder.jsonToOson(
+        "[1.2345678901234567890123456789012345678901234567890]"
+          .getBytes(StandardCharsets.UTF_8)));
+    Assertions.assertThrows(JsonGenerationException.class, () ->
+      OsonTranscoder.jsonToOson(
+        "[12345678901234567890123456789012345678901]"
+          .getBytes(StandardCharsets.UTF_8)));
+  }
+
+  /**
+   * Verifies that the streams passed to the transcoder are not closed.
+   */
+  @Test
+  public void testStreamsNotClosed() throws IOException {
+    byte[] json = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+    AtomicInteger closed = new AtomicInteger();
+    ByteArrayOutputStream oson = new ByteArrayOutputStream() {
+      @Override
+      public void close() {
+        closed.incrementAndGet();
+      }
+    };
+    OsonTranscoder.jsonToOson(new ByteArrayInputStream(json) {
+      @Override
+      public void close() {
+        closed.incrementAndGet();
+      }
+    }, oson);
+
+    ByteArrayOutputStream text = new ByteArrayOutputStream() {
+      @Override
+      public void close() {
+        closed.incrementAndGet();
+      }
+    };
+    OsonTranscoder.osonToJson(ByteBuffer.wrap(oson.toByteArray()), text);
+
+    Assertions.assertEquals(0, closed.get());
+    Assertions.assertEquals(textMapper.readTree(json),
+      textMapper.readTree(text.toByteArray()));
+  }
+
+  /**
+   * Verifies that the generator of the provider copies objects and arrays
+   * from parsers of JSON text and of OSON.
+   */
+  @Test
+  public void testCopyCurrentStructure() throws IOException {
+    OsonFactory osonFactory = new OsonFactory();
+    byte[] json = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+
+    ByteArrayOutputStream fromText = new ByteArrayOutputStream();
+    try (JsonParser parser = new JsonFactory().createParser(json);
+         JsonGenerator generator = osonFactory.createGenerator(fromText)) {
+      parser.nextToken();
+      generator.copyCurrentStructure(parser);
+    }
+    Assertions.assertArrayEquals(OsonTranscoder.jsonToOson(json), fromText.toByteArray());
+
+    // Copy the fields of the OSON object one by one, starting at each name
+    ByteArrayOutputStream fromOson = new ByteArrayOutputStream();
+    try (JsonParser parser = osonFactory.createParser(fromText.toByteArray());
+         JsonGenerator generator = osonFactory.createGenerator(fromOson)) {
+      Assertions.assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+      generator.writeStartObject();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        generator.copyCurrentStructure(parser);
+      }
+      generator.writeEndObject();
+    }
+    Assertions.assertEquals(textMapper.readTree(json),
+      JacksonOsonConverter.getObjectMapper().readTree(fromOson.toByteArray()));
+  }
+
+  /**
+   * Verifies that every file of a directory is converted, in both directions.
+   */
+  @Test
+  public void testDirectory() throws IOException {
+    Path json = Files.createDirectory(directory.resolve("json"));
+    int count = 20;
+    for (int i = 0; i < count; i++) {
+      Files.write(json.resolve("document" + i + OsonTranscoder.JSON_EXTENSION),
+        ("{\"index\":" + i + ",\"document\":" + DOCUMENT + "}").getBytes(StandardCharsets.UTF_8));
+    }
+    Files.write(json.resolve("ignored.txt"), new byte[] { 1 });
+
+    Path oson = directory.resolve("oson");
+    Path text = directory.resolve("text");
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      Assertions.assertEquals(count, OsonTranscoder.jsonToOsonAll(json, oson, pool));
+      Assertions.assertEquals(count, OsonTranscoder.osonToJsonAll(oson, text, null));
+    }
+    finally {
+      pool.shutdown();
+    }
+
+    for (int i = 0; i < count; i++) {
+      String name = "document" + i;
+      JsonNode expected = textMapper.readTree(
+        json.resolve(name + OsonTranscoder.JSON_EXTENSION).toFile());
+      Assertions.assertEquals(expected, JacksonOsonConverter.getObjectMapper()
+        .readTree(Files.readAllBytes(oson.resolve(name + OsonTranscoder.OSON_EXTENSION))));
+      Assertions.assertEquals(expected, textMapper.readTree(
+        text.resolve(name + OsonTranscoder.JSON_EXTENSION).toFile()));
+    }
+  }
+
+  /**
+   * Compares the throughput of the transcoder with a conversion that reads
+   * a {@link JsonNode} tree and writes it with the mapper of the provider.
+   * This benchmark only runs when the {@code oracle.jdbc.provider.benchmark}
+   * system property is {@code true}.
+   */
+  @Test
+  @EnabledIfSystemProperty(named = "oracle.jdbc.provider.benchmark", matches = "true")
+  public void benchmarkTranscoder() throws IOException {
+    ObjectMapper osonMapper = JacksonOsonConverter.getObjectMapper();
+    byte[] oson = OsonTranscoder.jsonToOson(records);
+    JsonNode expected = textMapper.readTree(records);
+    Assertions.assertTrue(expected.equals(NUMERIC_VALUE, osonMapper.readTree(oson)));
+    Assertions.assertTrue(expected.equals(NUMERIC_VALUE,
+      textMapper.readTree(OsonTranscoder.osonToJson(oson))));
+
+    long transcoderToOson = time(() -> OsonTranscoder.jsonToOson(records));
+    long databindToOson = time(() -> osonMapper.writeValueAsBytes(textMapper.readTree(records)));
+    long transcoderToJson = time(() -> OsonTranscoder.osonToJson(oson));
+    long databindToJson = time(() -> textMapper.writeValueAsBytes(osonMapper.readTree(oson)));
+
+    System.out.println("JSON text size: " + records.length + " bytes");
+    System.out.println("JSON to OSON, transcoder: " + throughput(transcoderToOson) + " MB/s");
+    System.out.println("JSON to OSON, databind: " + throughput(databindToOson) + " MB/s");
+    System.out.println("OSON to JSON, transcoder: " + throughput(transcoderToJson) + " MB/s");
+    System.out.println("OSON to JSON, databind: " + throughput(databindToJson) + " MB/s");
+  }
+
+  private interface Conversion {
+    byte[] convert() throws IOException;
+  }
+
+  private static long time(Conversion conversion) throws IOException {
+    for (int i = 0; i < ITERATIONS / 4; i++) {
+      conversion.convert();
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      Assertions.assertTrue(conversion.convert().length > 0);
+    }
+    return System.nanoTime() - start;
+  }
+
+  private static long throughput(long nanos) {
+    return (long) records.length * ITERATIONS * 1000 / Math.max(1, nanos);
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import oracle.jdbc.provider.oson.OsonFactory;
+import oracle.jdbc.provider.oson.OsonModule;
+import oracle.jdbc.provider.oson.model.RecordSummary;
+import oracle.sql.json.OracleJsonFactory;
+import oracle.sql.json.OracleJsonGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The {@code ProjectionTest} class verifies that a bean which ignores unknown
+ * properties is read from a wide OSON document, and compares the time taken
+ * with and without the projection of the document to the bean properties.
+ */
+public class ProjectionTest {
+
+  private static final int FIELD_COUNT = 500;
+
+  private static final int ITERATIONS = 10_000;
+
+  private final OsonFactory osonFactory = new OsonFactory();
+
+  /**
+   * Verifies that the mapped fields are read, wherever they are in the
+   * document.
+   */
+  @Test
+  public void testProjection() throws IOException {
+    ObjectMapper mapper = new ObjectMapper(osonFactory);
+    mapper.registerModule(new OsonModule());
+
+    RecordSummary summary =
+      mapper.readValue(createDocument(), RecordSummary.class);
+
+    Assertions.assertEquals(42, summary.getId());
+    Assertions.assertEquals("name", summary.getName());
+    Assertions.assertEquals("active", summary.getStatus());
+    Assertions.assertEquals(12.5, summary.getAmount());
+    Assertions.assertEquals(Arrays.asList("a", "b"), summary.getTags());
+  }
+
+  /**
+   * Verifies that skipChildren leaves the parser on the end of the skipped
+   * object, and does not move the parser when there is no current token.
+   */
+  @Test
+  public void testSkipChildren() throws IOException {
+    try (JsonParser parser = osonFactory.createParser(createDocument())) {
+      parser.skipChildren();
+      Assertions.assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+
+      JsonToken token;
+      do {
+        token = parser.nextToken();
+      } while (token != JsonToken.START_OBJECT);
+      parser.skipChildren();
+      Assertions.assertEquals(JsonToken.END_OBJECT, parser.currentToken());
+      Assertions.assertEquals(JsonToken.FIELD_NAME, parser.nextToken());
+    }
+  }
+
+  /**
+   * Compares reading five fields of a 500 field document with the projection
+   * and with a plain bean deserializer, which reads every token. This
+   * benchmark only runs when the {@code oracle.jdbc.provider.benchmark}
+   * system property is {@code true}.
+   */
+  @Test
+  @EnabledIfSystemProperty(named = "oracle.jdbc.provider.benchmark", matches = "true")
+  public void benchmarkProjection() throws IOException {
+    byte[] document = createDocument();
+
+    ObjectMapper projecting = new ObjectMapper(osonFactory);
+    projecting.registerModule(new OsonModule());
+
+    ObjectMapper plain = new ObjectMapper(osonFactory);
+    plain.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    long plainTime = time(plain.readerFor(RecordSummary.class), document);
+    long projectedTime = time(projecting.readerFor(RecordSummary.class), document);
+
+    System.out.println("Without projection, total time: " + plainTime + " ms");
+    System.out.println("With projection, total time: " + projectedTime + " ms");
+  }
+
+  private long time(ObjectReader reader, byte[] document) throws IOException {
+    for (int i = 0; i < ITERATIONS / 10; i++) {
+      reader.readValue(document);
+    }
+    long start = System.currentTimeMillis();
+    for (int i = 0; i < ITERATIONS; i++) {
+      RecordSummary summary = reader.readValue(document);
+      Assertions.assertEquals(42, summary.getId());
+      Assertions.assertEquals("name", summary.getName());
+      Assertions.assertEquals("active", summary.getStatus());
+      Assertions.assertEquals(12.5, summary.getAmount());
+      Assertions.assertEquals(Arrays.asList("a", "b"), summary.getTags());
+    }
+    return System.currentTimeMillis() - start;
+  }
+
+  /**
+   * Creates a document of 500 fields, holding strings, numbers, objects and
+   * arrays, where the fields of {@link RecordSummary} are spread out.
+   */
+  private byte[] createDocument() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (OracleJsonGenerator generator =
+           new OracleJsonFactory().createJsonBinaryGenerator(out)) {
+      generator.writeStartObject();
+      for (int i = 0; i < FIELD_COUNT; i++) {
+        String name = "field" + i;
+        switch (i) {
+          case 0:
+            generator.write("id", 42);
+            break;
+          case 100:
+            generator.write("name", "name");
+            break;
+          case 250:
+            generator.write("status", "active");
+            break;
+          case 400:
+            generator.write("amount", 12.5);
+            break;
+          case 499:
+            generator.writeStartArray("tags").write("a").write("b").writeEnd();
+            break;
+          default:
+            if (i % 5 == 0) {
+              generator.writeStartObject(name);
+              for (int j = 0; j < 10; j++) {
+                generator.write("nested" + j, "value" + j);
+              }
+              generator.writeEnd();
+            }
+            else if (i % 7 == 0) {
+              generator.writeStartArray(name);
+              for (int j = 0; j < 10; j++) {
+                generator.write(j);
+              }
+              generator.writeEnd();
+            }
+            else {
+              generator.write(name, "value" + i);
+            }
+        }
+      }
+      generator.writeEnd();
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.test;
+
+import oracle.jdbc.OracleConnection;
+import oracle.jdbc.OracleType;
+import oracle.jdbc.datasource.impl.OracleDataSource;
+import oracle.jdbc.provider.TestProperties;
+import oracle.jdbc.provider.oson.JacksonOsonProvider;
+import oracle.jdbc.provider.oson.OsonTestProperty;
+import oracle.jdbc.provider.oson.model.Employee;
+import oracle.jdbc.provider.oson.model.EmployeeInstances;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.*;
+import java.util.Properties;
+
+/**
+ * The {@code ReadBenchmarkTest} class measures the time taken to read a large
+ * number of rows with a JSON column as POJOs through
+ * {@link ResultSet#getObject(int, Class)}, which calls the
+ * {@link oracle.jdbc.provider.oson.JacksonOsonConverter} once per row.
+ * This benchmark only runs when the {@code oracle.jdbc.provider.benchmark}
+ * system property is {@code true}.
+ */
+@EnabledIfSystemProperty(named = "oracle.jdbc.provider.benchmark", matches = "true")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class ReadBenchmarkTest {
+
+  /**
+   * Number of rows that are read.
+   */
+  private static final int ROW_COUNT = 1_000_000;
+
+  /**
+   * The connection to the Oracle database.
+   */
+  Connection conn = null;
+
+  /**
+   * The employee instance that is stored in every row.
+   */
+  Employee insertedEmployee = null;
+
+  /**
+   * Sets up the database connection and inserts {@link #ROW_COUNT} rows.
+   */
+  @BeforeAll
+  public void setup() {
+    try {
+      String url = TestProperties.getOrAbort(OsonTestProperty.JACKSON_OSON_URL);
+      String userName = TestProperties.getOrAbort(OsonTestProperty.JACKSON_OSON_USERNAME);
+      String password = TestProperties.getOrAbort(OsonTestProperty.JACKSON_OSON_PASSWORD);
+      Properties properties = new Properties();
+      properties.setProperty(OracleConnection.CONNECTION_PROPERTY_PROVIDER_JSON,
+        JacksonOsonProvider.PROVIDER_NAME);
+      OracleDataSource ods = new OracleDataSource();
+      ods.setURL(url);
+      ods.setUser(userName);
+      ods.setPassword(password);
+      ods.setConnectionProperties(properties);
+      conn = ods.getConnection();
+
+      try(Statement stmt = conn.createStatement()) {
+        stmt.execute("drop table if exists emp_json_read_bench");
+        stmt.execute("create table emp_json_read_bench(c1 number, c2 JSON)");
+      }
+
+      insertedEmployee = EmployeeInstances.getEmployee();
+      try(PreparedStatement pstmt = conn.prepareStatement(
+          "insert into emp_json_read_bench (c1,c2) values(0,?)")) {
+        pstmt.setObject(1, insertedEmployee, OracleType.JSON);
+        pstmt.execute();
+      }
+      try(PreparedStatement pstmt = conn.prepareStatement(
+          "insert into emp_json_read_bench (c1,c2)" +
+            " select level, (select c2 from emp_json_read_bench where c1 = 0)" +
+            " from dual connect by level < ?")) {
+        pstmt.setInt(1, ROW_COUNT);
+        pstmt.execute();
+      }
+    }
+    catch (Exception e) {
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * Reads all rows as {@link Employee} objects and prints the elapsed time.
+   *
+   * @throws SQLException if there is a database access error.
+   */
+  @Test
+  @Order(1)
+  public void readRows() throws SQLException {
+    Assumptions.assumeTrue(conn != null);
+    try(Statement stmt = conn.createStatement()) {
+      stmt.setFetchSize(1000);
+      long start = System.currentTimeMillis();
+      int rows = 0;
+      try(ResultSet rs = stmt.executeQuery("select c2 from emp_json_read_bench")) {
+        while(rs.next()) {
+          Employee retrievedEmployee = rs.getObject(1, Employee.class);
+          Assertions.assertEquals(insertedEmployee, retrievedEmployee);
+          rows++;
+        }
+      }
+      Assertions.assertEquals(ROW_COUNT, rows);
+      System.out.println("Rows read: " + rows
+        + " Total time: " + (System.currentTimeMillis() - start));
+    }
+  }
+
+  @AfterAll
+  public void tearDown() throws SQLException {
+    Assumptions.assumeTrue(conn != null);
+    try(Statement stmt = conn.createStatement()) {
+      stmt.execute("drop table if exists emp_json_read_bench");
+    }
+    conn.close();
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oson.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import oracle.jdbc.provider.oson.JavaSerializableCodec;
+import oracle.jdbc.provider.oson.NativeSerializableCodec;
+import oracle.jdbc.provider.oson.OsonFactory;
+import oracle.jdbc.provider.oson.OsonModule;
+import oracle.jdbc.provider.oson.OsonSerializableCodec;
+import oracle.jdbc.provider.oson.model.PostalAddress;
+import oracle.jdbc.provider.oson.model.Customer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+
+/**
+ * The {@code SerializableCodecTest} class verifies the
+ * {@link OsonSerializableCodec} implementations, and compares the size and
+ * the time taken by each of them.
+ */
+public class SerializableCodecTest {
+
+  private static final int ITERATIONS = 100_000;
+
+  private final Customer customer =
+    new Customer("Jane", new PostalAddress("500 Oracle Parkway", "Redwood Shores", 94065));
+
+  private static ObjectMapper createMapper(OsonSerializableCodec codec) {
+    // Modules are not discovered, as that would register an OsonModule with
+    // the default codec, and Jackson ignores a second module of the same type.
+    ObjectMapper mapper = new ObjectMapper(new OsonFactory());
+    mapper.registerModule(new OsonModule(codec));
+    mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    return mapper;
+  }
+
+  /**
+   * Verifies that each codec reads the values it writes.
+   */
+  @Test
+  public void testRoundTrip() throws IOException {
+    for (OsonSerializableCodec codec :
+        new OsonSerializableCodec[] { NativeSerializableCodec.INSTANCE, JavaSerializableCodec.INSTANCE }) {
+      ObjectMapper mapper = createMapper(codec);
+      byte[] oson = mapper.writeValueAsBytes(customer);
+      Assertions.assertEquals(customer, mapper.readValue(oson, Customer.class));
+    }
+  }
+
+  /**
+   * Verifies that each codec reads the values written by the other one, so
+   * that existing data remains readable when the codec is changed.
+   */
+  @Test
+  public void testCrossRead() throws IOException {
+    ObjectMapper nativeMapper = createMapper(NativeSerializableCodec.INSTANCE);
+    ObjectMapper javaMapper = createMapper(JavaSerializableCodec.INSTANCE);
+
+    byte[] nativeOson = nativeMapper.writeValueAsBytes(customer);
+    byte[] javaOson = javaMapper.writeValueAsBytes(customer);
+
+    Assertions.assertEquals(customer, nativeMapper.readValue(javaOson, Customer.class));
+    Assertions.assertEquals(customer, javaMapper.readValue(nativeOson, Customer.class));
+  }
+
+  /**
+   * Verifies that the native codec stores a value in fewer bytes than the
+   * Java serialization codec, which stores the class descriptors.
+   */
+  @Test
+  public void testNativeSize() throws IOException {
+    byte[] nativeOson =
+      createMapper(NativeSerializableCodec.INSTANCE).writeValueAsBytes(customer);
+    byte[] javaOson =
+      createMapper(JavaSerializableCodec.INSTANCE).writeValueAsBytes(customer);
+    Assertions.assertTrue(nativeOson.length < javaOson.length,
+      nativeOson.length + " >= " + javaOson.length);
+  }
+
+  /**
+   * Prints the size of a value and the time taken to write and read it with
+   * each codec. This benchmark only runs when the
+   * {@code oracle.jdbc.provider.benchmark} system property is {@code true}.
+   */
+  @Test
+  @EnabledIfSystemProperty(named = "oracle.jdbc.provider.benchmark", matches = "true")
+  public void benchmark() throws IOException {
+    for (OsonSerializableCodec codec :
+        new OsonSerializableCodec[] { NativeSerializableCodec.INSTANCE, JavaSerializableCodec.INSTANCE }) {
+      ObjectMapper mapper = createMapper(codec);
+      byte[] oson = mapper.writeValueAsBytes(customer);
+      for (int i = 0; i < ITERATIONS; i++) {
+        mapper.readValue(mapper.writeValueAsBytes(customer), Customer.class);
+      }
+
+      long start = System.currentTimeMillis();
+      for (int i = 0; i < ITERATIONS; i++) {
+        oson = mapper.writeValueAsBytes(customer);
+        mapper.readValue(oson, Customer.class);
+      }
+      System.out.println(codec.getClass().getSimpleName()
+        + " Size: " + oson.length
+        + " Total time: " + (System.currentTimeMillis() - start));
+    }
+  }
+}
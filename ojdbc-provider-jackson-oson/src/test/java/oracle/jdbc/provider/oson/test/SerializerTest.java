@@ -38,7 +38,11 @@
 
 package oracle.jdbc.provider.oson.test;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import oracle.jdbc.provider.oson.JacksonOsonConverter;
 import oracle.jdbc.provider.oson.OsonFactory;
 import oracle.jdbc.provider.oson.model.AnnonationTest;
@@ -51,6 +55,9 @@ import oracle.sql.json.OracleJsonParser;
 import org.junit.jupiter.api.*;
 
 import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
 
 /**
@@ -234,4 +241,131 @@ public class SerializerTest {
 
       }
     }
+
+    /**
+     * Tests that the generators and parsers reused by {@link JacksonOsonConverter}
+     * do not carry state from one conversion into the next, including after a
+     * conversion that failed part way through.
+     */
+    @Test
+    @Order(6)
+    public void serialiZerReuseTest() throws IOException {
+      Employee employee = EmployeeInstances.getEmployee();
+
+      JacksonOsonConverter conv = new JacksonOsonConverter();
+      OracleJsonFactory jsonFactory = new OracleJsonFactory();
+      byte[] oson;
+      try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+        try (OracleJsonGenerator generator = jsonFactory.createJsonBinaryGenerator(out)) {
+          conv.serialize(generator, employee);
+        }
+        oson = out.toByteArray();
+      }
+
+      try (OracleJsonParser oParser = jsonFactory.createJsonBinaryParser(new ByteArrayInputStream(oson))) {
+        Assertions.assertThrows(IllegalArgumentException.class,
+          () -> conv.deserialize(oParser, Integer.class));
+      }
+
+      for (int i = 0; i < 3; i++) {
+        try (OracleJsonParser oParser = jsonFactory.createJsonBinaryParser(new ByteArrayInputStream(oson))) {
+          Assertions.assertEquals(employee, conv.deserialize(oParser, Employee.class));
+        }
+      }
+    }
+
+    /**
+     * Tests that {@link JacksonOsonConverter#serializeAll(List, Class, ForkJoinPool)}
+     * produces one image per value, in order, both on the calling thread and
+     * when the batch is split across a pool.
+     */
+    @Test
+    @Order(7)
+    public void serialiZerBatchTest() throws IOException {
+      List<Employee> employees = new ArrayList<>();
+      for (int i = 0; i < 2000; i++) {
+        employees.add(EmployeeInstances.getEmployee());
+      }
+
+      JacksonOsonConverter conv = new JacksonOsonConverter();
+      OracleJsonFactory jsonFactory = new OracleJsonFactory();
+      ForkJoinPool pool = new ForkJoinPool(4);
+      try {
+        List<byte[]> sequential = JacksonOsonConverter.serializeAll(employees, Employee.class);
+        List<byte[]> parallel = JacksonOsonConverter.serializeAll(employees, Employee.class, pool);
+        Assertions.assertEquals(employees.size(), sequential.size());
+        Assertions.assertEquals(employees.size(), parallel.size());
+
+        for (int i = 0; i < employees.size(); i++) {
+          Assertions.assertArrayEquals(sequential.get(i), parallel.get(i));
+          try (OracleJsonParser oParser = jsonFactory.createJsonBinaryParser(
+              new ByteArrayInputStream(sequential.get(i)))) {
+            Assertions.assertEquals(employees.get(i), conv.deserialize(oParser, Employee.class));
+          }
+        }
+      }
+      finally {
+        pool.shutdown();
+      }
+    }
+
+    /**
+     * Tests that types registered with {@link JacksonOsonConverter#registerTypes(Class[])}
+     * are converted the same way as types that are resolved on first use.
+     */
+    @Test
+    @Order(8)
+    public void serialiZerRegisteredTypeTest() throws IOException {
+      JacksonOsonConverter.registerTypes(Employee.class, AnnonationTest.class);
+      Employee employee = EmployeeInstances.getEmployee();
+
+      JacksonOsonConverter conv = new JacksonOsonConverter();
+      OracleJsonFactory jsonFactory = new OracleJsonFactory();
+      try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+        try (OracleJsonGenerator generator = jsonFactory.createJsonBinaryGenerator(out)) {
+          conv.serialize(generator, employee);
+        }
+        try (OracleJsonParser oParser = jsonFactory.createJsonBinaryParser(
+            new ByteArrayInputStream(out.toByteArray()))) {
+          Assertions.assertEquals(employee, conv.deserialize(oParser, Employee.class));
+        }
+      }
+    }
+
+    /**
+     * Tests that the reader and writer of a type are created once and reused,
+     * and that they are created again when the mapper is reconfigured.
+     */
+    @Test
+    @Order(9)
+    public void serialiZerCachedReaderWriterTest() {
+      ObjectMapper mapper = JacksonOsonConverter.getObjectMapper();
+      ObjectReader reader = JacksonOsonConverter.readerFor(Employee.class);
+      ObjectWriter writer = JacksonOsonConverter.writerFor(Employee.class);
+      Assertions.assertSame(reader, JacksonOsonConverter.readerFor(Employee.class));
+      Assertions.assertSame(writer, JacksonOsonConverter.writerFor(Employee.class));
+
+      boolean isFailOnUnknown =
+        mapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+      boolean isIndent = mapper.isEnabled(SerializationFeature.INDENT_OUTPUT);
+      try {
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, !isFailOnUnknown);
+        mapper.configure(SerializationFeature.INDENT_OUTPUT, !isIndent);
+
+        ObjectReader reconfiguredReader = JacksonOsonConverter.readerFor(Employee.class);
+        ObjectWriter reconfiguredWriter = JacksonOsonConverter.writerFor(Employee.class);
+        Assertions.assertNotSame(reader, reconfiguredReader);
+        Assertions.assertNotSame(writer, reconfiguredWriter);
+        Assertions.assertEquals(!isFailOnUnknown,
+          reconfiguredReader.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        Assertions.assertEquals(!isIndent,
+          reconfiguredWriter.isEnabled(SerializationFeature.INDENT_OUTPUT));
+        Assertions.assertSame(reconfiguredReader, JacksonOsonConverter.readerFor(Employee.class));
+        Assertions.assertSame(reconfiguredWriter, JacksonOsonConverter.writerFor(Employee.class));
+      }
+      finally {
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, isFailOnUnknown);
+        mapper.configure(SerializationFeature.INDENT_OUTPUT, isIndent);
+      }
+    }
 }
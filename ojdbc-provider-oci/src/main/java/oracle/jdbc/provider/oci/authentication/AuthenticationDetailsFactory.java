@@ -49,13 +49,22 @@ import com.oracle.bmc.auth.RegionProvider;
 import com.oracle.bmc.auth.ResourcePrincipalAuthenticationDetailsProvider;
 import com.oracle.bmc.auth.SimpleAuthenticationDetailsProvider;
 import com.oracle.bmc.auth.SimplePrivateKeySupplier;
+import oracle.jdbc.provider.cache.CachedResourceFactory;
+import oracle.jdbc.provider.factory.FailedResource;
 import oracle.jdbc.provider.factory.Resource;
 import oracle.jdbc.provider.factory.ResourceFactory;
 import oracle.jdbc.provider.parameter.Parameter;
 import oracle.jdbc.provider.parameter.ParameterSet;
+import oracle.jdbc.provider.parameter.ParameterSetBuilder;
+import oracle.jdbc.provider.util.JsonWebTokenParser;
 import oracle.jdbc.provider.oci.objectstorage.ObjectFactory;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -172,6 +181,23 @@ public final class AuthenticationDetailsFactory
   private static final AuthenticationDetailsFactory INSTANCE =
       new AuthenticationDetailsFactory();
 
+  /**
+   * Keys of a profile in an OCI configuration file that name other files.
+   * Authentication details are requested again if any of these files changes.
+   */
+  private static final String[] CONFIG_FILE_REFERENCES = {
+    "key_file", "security_token_file", "delegation_token_file"
+  };
+
+  /**
+   * Cache of authentication details. Reading a configuration file and parsing
+   * a private key is done once, rather than for each resource requested by a
+   * provider, and an interactive login is done once per session token.
+   */
+  private static final ResourceFactory<AbstractAuthenticationDetailsProvider>
+    CACHE = CachedResourceFactory.create(
+      AuthenticationDetailsFactory::requestAuthenticationDetails);
+
   private AuthenticationDetailsFactory(){}
 
   /**
@@ -195,12 +221,96 @@ public final class AuthenticationDetailsFactory
   public Resource<AbstractAuthenticationDetailsProvider> request(
       ParameterSet parameterSet) {
 
-    AbstractAuthenticationDetailsProvider authenticationDetails =
-        getAuthenticationDetails(parameterSet);
+    Resource<AbstractAuthenticationDetailsProvider> resource =
+      CACHE.request(getCacheKey(parameterSet));
+
+    if (resource instanceof FailedResource)
+      throw ((FailedResource<?>) resource).getFailure();
+
+    return resource;
+  }
+
+  /**
+   * Returns a {@code ParameterSet} with only the parameters of this class. The
+   * parameter set of a request may also configure the resource that is
+   * requested with the authentication details, such as the OCID of a secret.
+   * The cache key excludes these parameters, so that the same authentication
+   * details are shared by requests for different resources.
+   * @param parameterSet Parameters of a request. Not null.
+   * @return Parameters of the authentication details. Not null.
+   */
+  private static ParameterSet getCacheKey(ParameterSet parameterSet) {
+    ParameterSetBuilder builder = ParameterSet.builder();
+    addParameter(builder, parameterSet, AUTHENTICATION_METHOD);
+    addParameter(builder, parameterSet, CONFIG_FILE_PATH);
+    addParameter(builder, parameterSet, CONFIG_PROFILE);
+    addParameter(builder, parameterSet, TENANT_ID);
+    addParameter(builder, parameterSet, USER_ID);
+    addParameter(builder, parameterSet, FINGERPRINT);
+    addParameter(builder, parameterSet, PRIVATE_KEY);
+    addParameter(builder, parameterSet, PASS_PHRASE);
+    addParameter(builder, parameterSet, USERNAME);
+    addParameter(builder, parameterSet, INSTANCE_PRINCIPAL_TIMEOUT);
+    addParameter(builder, parameterSet, INTERACTIVE_TIMEOUT);
+    addParameter(builder, parameterSet, REGION);
+    return builder.build();
+  }
+
+  private static <T> void addParameter(
+    ParameterSetBuilder builder, ParameterSet parameterSet,
+    Parameter<T> parameter) {
+    T value = parameterSet.getOptional(parameter);
+    if (value != null)
+      builder.add(parameterSet.getName(parameter), parameter, value);
+  }
+
+  /**
+   * <p>
+   * Returns a resource for authentication details configured by the given
+   * {@code parameterSet}. The resource remains valid for as long as the
+   * details can be used:
+   * </p><ul>
+   *   <li>Details read from an OCI configuration file are valid until the
+   *   configuration file, or any file that it references, is created,
+   *   modified, or deleted.</li>
+   *   <li>Details of an interactive authentication are valid until the
+   *   session token expires.</li>
+   *   <li>Other details are always valid. The OCI SDK refreshes the tokens of
+   *   instance and resource principals.</li>
+   * </ul><p>
+   * A failure to authenticate is returned as a {@link FailedResource}, which
+   * is never valid, so that it is not reused by the cache.
+   * </p>
+   * @param parameterSet Parameters of the authentication details. Not null.
+   * @return Resource for the authentication details. Not null.
+   */
+  private static Resource<AbstractAuthenticationDetailsProvider>
+    requestAuthenticationDetails(ParameterSet parameterSet) {
+
+    AbstractAuthenticationDetailsProvider authenticationDetails;
+    try {
+      authenticationDetails = getAuthenticationDetails(parameterSet);
+    }
+    catch (RuntimeException failure) {
+      return Resource.createFailedResource(failure, true);
+    }
+
+    if (authenticationDetails instanceof ConfigFileDetails) {
+      return ((ConfigFileDetails) authenticationDetails).watch.watch(
+        Resource.createPermanentResource(authenticationDetails, true));
+    }
+
+    if (authenticationDetails instanceof InteractiveAuthenticationDetails) {
+      // The key ID is "ST$" followed by the session token, which is a JWT
+      String sessionToken =
+        ((InteractiveAuthenticationDetails) authenticationDetails)
+          .getKeyId().substring(3);
+      return Resource.createExpiringResource(
+        authenticationDetails,
+        JsonWebTokenParser.parseExp(sessionToken),
+        true);
+    }
 
-    // TODO: Check for authentication details that expire, perhaps because a
-    //  config file is updated, or because an interactive session token has
-    //  expired. Return an expiring resource when appropriate.
     return Resource.createPermanentResource(authenticationDetails, true);
   }
 
@@ -456,15 +566,55 @@ public final class AuthenticationDetailsFactory
    */
   private static ConfigFileAuthenticationDetailsProvider
     configFileAuthentication(String filePath, String profile) {
+    // Files are watched before they are read, so that a change made while
+    // they are read is not missed
+    FileWatcher.Watch watch = FileWatcher.newWatch();
+    ConfigFileReader.ConfigFile configFile;
     try {
-      if (filePath == null)
-        return new ConfigFileAuthenticationDetailsProvider(profile);
-      else
-        return new ConfigFileAuthenticationDetailsProvider(filePath, profile);
+      if (filePath == null) {
+        // The default file is the first of these that exists. Watch all of
+        // them, as creating one may change which file is read.
+        List<Path> files = new ArrayList<>();
+        files.add(toPath(ConfigFileReader.DEFAULT_FILE_PATH));
+        String envConfigFile =
+          System.getenv(ConfigFileReader.OCI_CONFIG_FILE_PATH_ENV_VAR_NAME);
+        if (envConfigFile != null)
+          files.add(toPath(envConfigFile));
+        files.add(toPath(ConfigFileReader.FALLBACK_DEFAULT_FILE_PATH));
+        watch.add(files);
+        configFile = ConfigFileReader.parseDefault(profile);
+      }
+      else {
+        watch.add(Collections.singletonList(toPath(filePath)));
+        configFile = ConfigFileReader.parse(filePath, profile);
+      }
     }
     catch (IOException ioException) {
       throw configFileReadFailure(ioException);
     }
+
+    List<Path> referencedFiles = new ArrayList<>();
+    for (String fileKey : CONFIG_FILE_REFERENCES) {
+      String referencedFile = configFile.get(fileKey);
+      if (referencedFile != null)
+        referencedFiles.add(toPath(referencedFile));
+    }
+    watch.add(referencedFiles);
+
+    return new ConfigFileDetails(configFile, watch);
+  }
+
+  /**
+   * Returns the path of a file named in an OCI configuration file, expanding
+   * a leading "~" to the home directory of the user.
+   * @param fileName Name of a file. Not null.
+   * @return Path of the file. Not null.
+   */
+  private static Path toPath(String fileName) {
+    if (fileName.startsWith("~"))
+      return Paths.get(System.getProperty("user.home"), fileName.substring(1));
+    else
+      return Paths.get(fileName);
   }
 
   /**
@@ -508,6 +658,23 @@ public final class AuthenticationDetailsFactory
       .build();
   }
 
+  /**
+   * Authentication details read from an OCI configuration file, along with
+   * the files that they were read from.
+   */
+  private static final class ConfigFileDetails
+    extends ConfigFileAuthenticationDetailsProvider {
+
+    /** Watches the configuration file, and the files that it references */
+    private final FileWatcher.Watch watch;
+
+    ConfigFileDetails(
+      ConfigFileReader.ConfigFile configFile, FileWatcher.Watch watch) {
+      super(configFile);
+      this.watch = watch;
+    }
+  }
+
   /**
    * This class lazily initializes a {@link #FUTURE} that completes with the
    * result of authenticating as an instance principal. The OCI SDK may block a
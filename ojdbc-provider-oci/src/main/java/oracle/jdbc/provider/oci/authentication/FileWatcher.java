@@ -0,0 +1,398 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oci.authentication;
+
+import oracle.jdbc.provider.factory.Resource;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * <p>
+ * Invalidates resources that were created from the content of files, when any
+ * of these files is created, modified, or deleted. Files are watched by a
+ * {@link WatchService}, so that a cached resource can be reused without
+ * reading its files again, until they change.
+ * </p><p>
+ * The directories of watched files are registered with a single
+ * {@code WatchService}, which is polled by a daemon thread. If the file system
+ * does not support a {@code WatchService}, or a directory can not be
+ * registered, then resources are returned as invalid, and are requested again
+ * each time they are used. A file in a directory that does not exist, such as
+ * a fallback location of the OCI configuration file, is watched by watching
+ * for the creation of the missing directory.
+ * </p><p>
+ * Files are added to a {@link Watch} before they are read, so that a change
+ * made while they are read invalidates the resource. The watcher only holds
+ * weak references to the resources, so a resource that is no longer used,
+ * such as a resource evicted from a cache, stops being watched, and a
+ * directory is no longer registered once none of its files are watched.
+ * </p>
+ */
+final class FileWatcher {
+
+  private static final Logger LOGGER =
+    Logger.getLogger(FileWatcher.class.getName());
+
+  /** The singleton, created when the first resource is watched */
+  private static volatile FileWatcher instance;
+
+  /** The service that reports events, or null if it is not supported */
+  private final WatchService watchService;
+
+  /** Directories that have been registered, by their key */
+  private final Map<WatchKey, Path> directories = new HashMap<>();
+
+  /** Flags of the resources that are invalidated when a file changes */
+  private final Map<Path, Set<Listener>> listeners = new HashMap<>();
+
+  /** Listeners of flags that are no longer referenced by a resource */
+  private final ReferenceQueue<AtomicBoolean> releasedFlags =
+    new ReferenceQueue<>();
+
+  private FileWatcher(WatchService watchService) {
+    this.watchService = watchService;
+  }
+
+  /**
+   * Returns a new watch, to which the files of a resource are added before
+   * they are read.
+   *
+   * @return A watch with no files. Not null.
+   */
+  static Watch newWatch() {
+    return new Watch();
+  }
+
+  /**
+   * Returns true if a file is watched for any resource that is still used.
+   * Listeners of resources that are no longer used are removed first.
+   *
+   * @param file A file. Not null.
+   * @return True if the file is watched.
+   */
+  static boolean isWatched(Path file) {
+    FileWatcher fileWatcher = getInstance();
+    synchronized (fileWatcher) {
+      fileWatcher.releaseListeners();
+      Set<Listener> pathListeners =
+        fileWatcher.listeners.get(file.toAbsolutePath().normalize());
+      return pathListeners != null
+        && pathListeners.stream().anyMatch(listener -> listener.get() != null);
+    }
+  }
+
+  private static FileWatcher getInstance() {
+    FileWatcher fileWatcher = instance;
+    if (fileWatcher != null)
+      return fileWatcher;
+
+    synchronized (FileWatcher.class) {
+      if (instance == null)
+        instance = create();
+      return instance;
+    }
+  }
+
+  private static FileWatcher create() {
+    WatchService watchService;
+    try {
+      watchService = FileSystems.getDefault().newWatchService();
+    }
+    catch (IOException | UnsupportedOperationException exception) {
+      LOGGER.log(Level.FINE, "Files can not be watched", exception);
+      return new FileWatcher(null);
+    }
+
+    FileWatcher fileWatcher = new FileWatcher(watchService);
+    Thread thread = new Thread(
+      fileWatcher::pollEvents, "ojdbc-provider-oci: File Watcher");
+    thread.setDaemon(true);
+    thread.start();
+    return fileWatcher;
+  }
+
+  /**
+   * Registers the directories of files, and the flag that is set when any of
+   * them changes. Returns false if a directory can not be registered.
+   */
+  private synchronized boolean register(
+    Collection<Path> files, AtomicBoolean isModified) {
+    if (watchService == null)
+      return false;
+
+    releaseListeners();
+
+    Set<Path> registered = new HashSet<>();
+    try {
+      for (Path file : files) {
+        Path path = file.toAbsolutePath().normalize();
+        // A directory that does not exist can not be registered. Watch for
+        // the creation of its nearest missing ancestor instead, as the file
+        // can only be created after it.
+        while (path.getParent() != null && !Files.isDirectory(path.getParent()))
+          path = path.getParent();
+        Path directory = path.getParent();
+        if (directory == null)
+          return false;
+        if (!directories.containsValue(directory)) {
+          WatchKey key = directory.register(
+            watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+          directories.put(key, directory);
+        }
+        listeners.computeIfAbsent(path, ignored -> new HashSet<>())
+          .add(new Listener(path, isModified, releasedFlags));
+        registered.add(path);
+      }
+      return true;
+    }
+    catch (IOException | RuntimeException exception) {
+      LOGGER.log(Level.FINE, "Failed to watch files: " + files, exception);
+      for (Path path : registered)
+        remove(path, isModified);
+      unregisterDirectories();
+      return false;
+    }
+  }
+
+  private void remove(Path path, AtomicBoolean isModified) {
+    Set<Listener> pathListeners = listeners.get(path);
+    if (pathListeners == null)
+      return;
+
+    pathListeners.removeIf(listener -> listener.get() == isModified);
+    if (pathListeners.isEmpty())
+      listeners.remove(path);
+  }
+
+  /**
+   * Removes the listeners of flags that are no longer referenced by a
+   * resource.
+   */
+  private void releaseListeners() {
+    boolean isReleased = false;
+    Reference<? extends AtomicBoolean> reference;
+    while ((reference = releasedFlags.poll()) != null) {
+      Listener listener = (Listener) reference;
+      Set<Listener> pathListeners = listeners.get(listener.path);
+      if (pathListeners != null && pathListeners.remove(listener)) {
+        isReleased = true;
+        if (pathListeners.isEmpty())
+          listeners.remove(listener.path);
+      }
+    }
+
+    if (isReleased)
+      unregisterDirectories();
+  }
+
+  /**
+   * Cancels the registration of directories that have no watched file.
+   */
+  private void unregisterDirectories() {
+    Set<Path> watchedDirectories = new HashSet<>();
+    for (Path path : listeners.keySet())
+      watchedDirectories.add(path.getParent());
+
+    directories.entrySet().removeIf(entry -> {
+      if (watchedDirectories.contains(entry.getValue()))
+        return false;
+      entry.getKey().cancel();
+      return true;
+    });
+  }
+
+  /**
+   * Waits for events, and invalidates the resources of the files that have
+   * changed.
+   */
+  private void pollEvents() {
+    while (true) {
+      WatchKey key;
+      try {
+        key = watchService.take();
+      }
+      catch (InterruptedException | ClosedWatchServiceException exception) {
+        return;
+      }
+
+      synchronized (this) {
+        Path directory = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+          if (directory == null)
+            continue;
+
+          if (event.kind() == OVERFLOW) {
+            // Events may have been lost: Invalidate everything in the directory
+            listeners.keySet().removeIf(path -> {
+              if (!directory.equals(path.getParent()))
+                return false;
+              listeners.get(path).forEach(Listener::setModified);
+              return true;
+            });
+            continue;
+          }
+
+          Path path = directory.resolve((Path) event.context());
+          Set<Listener> pathListeners = listeners.remove(path);
+          if (pathListeners != null)
+            pathListeners.forEach(Listener::setModified);
+        }
+
+        if (!key.reset())
+          directories.remove(key);
+
+        releaseListeners();
+        unregisterDirectories();
+      }
+    }
+  }
+
+  /**
+   * The files of a resource. Files are added before they are read, and the
+   * resource is returned by {@link #watch(Resource)} once they have been read.
+   */
+  static final class Watch {
+
+    /** Set when a file changes, or if a file can not be watched */
+    private final AtomicBoolean isModified = new AtomicBoolean();
+
+    private Watch() {}
+
+    /**
+     * Adds files to watch. A change to any of these files, from this call on,
+     * invalidates the resource returned by {@link #watch(Resource)}.
+     *
+     * @param files Files to watch. Not null.
+     */
+    void add(Collection<Path> files) {
+      if (!isModified.get() && !getInstance().register(files, isModified))
+        isModified.set(true);
+    }
+
+    /**
+     * Returns a resource that is no longer valid once any of the files of
+     * this watch is created, modified, or deleted, or once the given resource
+     * is no longer valid.
+     *
+     * @param resource Resource created from the content of the files. Not
+     * null.
+     * @param <T> The type of resource content.
+     * @return A resource with the same content. Not null.
+     */
+    <T> Resource<T> watch(Resource<T> resource) {
+      return new WatchedResource<>(resource, isModified);
+    }
+  }
+
+  /**
+   * A weak reference to the flag of a resource, which is set when a file
+   * changes. The reference is cleared once the resource is no longer used.
+   */
+  private static final class Listener extends WeakReference<AtomicBoolean> {
+
+    /** The watched file */
+    private final Path path;
+
+    Listener(
+      Path path, AtomicBoolean isModified,
+      ReferenceQueue<AtomicBoolean> queue) {
+      super(isModified, queue);
+      this.path = path;
+    }
+
+    void setModified() {
+      AtomicBoolean isModified = get();
+      if (isModified != null)
+        isModified.set(true);
+    }
+  }
+
+  /**
+   * A resource that is invalid once a flag is set by the watcher.
+   */
+  private static final class WatchedResource<T> implements Resource<T> {
+
+    private final Resource<T> resource;
+
+    private final AtomicBoolean isModified;
+
+    WatchedResource(Resource<T> resource, AtomicBoolean isModified) {
+      this.resource = resource;
+      this.isModified = isModified;
+    }
+
+    @Override
+    public T getContent() {
+      return resource.getContent();
+    }
+
+    @Override
+    public boolean isSensitive() {
+      return resource.isSensitive();
+    }
+
+    @Override
+    public boolean isValid() {
+      return !isModified.get() && resource.isValid();
+    }
+  }
+}
@@ -24,10 +24,20 @@ import oracle.jdbc.util.OracleConfigurationCache;
 import oracle.jdbc.util.OracleConfigurationProviderNetworkError;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * <p>
@@ -55,7 +65,20 @@ public class OciDatabaseToolsConnectionProvider
   private static final OracleConfigurationCache CACHE = OracleConfigurationCache
     .create(100);
 
-  private ParameterSet commonParameters;
+  private static final Logger LOGGER =
+    Logger.getLogger(OciDatabaseToolsConnectionProvider.class.getName());
+
+  /**
+   * Maximum number of secrets requested concurrently. A connection with a key
+   * store and a trust store has up to five secrets.
+   */
+  private static final int MAX_SECRET_REQUESTS = 5;
+
+  /**
+   * Executor of secret requests. Its threads are daemons, and terminate when
+   * no secret has been requested for 60 seconds.
+   */
+  private static final Executor EXECUTOR = createExecutor();
 
   @Override
   public Properties getConnectionProperties(String location)
@@ -117,7 +140,7 @@ public class OciDatabaseToolsConnectionProvider
       options = new HashMap<>();
     }
 
-    commonParameters = OciConfigurationParameters.getParser()
+    ParameterSet commonParameters = OciConfigurationParameters.getParser()
       .parseNamedValues(options)
       .copyBuilder()
       .add("connection_ocid",
@@ -146,6 +169,42 @@ public class OciDatabaseToolsConnectionProvider
           "are valid. Current state: " + state);
     }
 
+    // Request all secrets concurrently, before any of them is needed. Requests
+    // for the same secret, such as a password shared by a key store and a
+    // trust store, are only made once.
+    SecretRequests secretRequests = new SecretRequests(commonParameters);
+
+    DatabaseToolsUserPassword dbToolsUserPassword = connection.getUserPassword();
+    CompletableFuture<Secret> passwordSecret = dbToolsUserPassword == null
+      ? null
+      : secretRequests.request(getSecretId(dbToolsUserPassword));
+
+    List<DatabaseToolsKeyStore> keyStores = connection.getKeyStores();
+    List<CompletableFuture<Secret>> keyStoreContentSecrets = new ArrayList<>();
+    List<CompletableFuture<Secret>> keyStorePasswordSecrets = new ArrayList<>();
+    if (keyStores != null) {
+      for (DatabaseToolsKeyStore keyStore : keyStores) {
+        keyStoreContentSecrets.add(
+          secretRequests.request(getSecretId(keyStore.getKeyStoreContent())));
+
+        switch (keyStore.getKeyStoreType()) {
+        case JavaKeyStore:
+        case JavaTrustStore:
+          keyStorePasswordSecrets.add(secretRequests.request(
+            getSecretId(keyStore.getKeyStorePassword())));
+          break;
+        case Pkcs12:
+        case Sso:
+          keyStorePasswordSecrets.add(null);
+          break;
+        case UnknownEnumValue:
+        default:
+          throw new IllegalStateException(
+            "Unknown keyStore type: " + keyStore.getKeyStoreType());
+        }
+      }
+    }
+
     Properties properties = new Properties();
     properties.put("URL",
       "jdbc:oracle:thin:@" + connection.getConnectionString());
@@ -154,25 +213,26 @@ public class OciDatabaseToolsConnectionProvider
       properties.put("user", username);
 
     /* Get password from Secret */
-    DatabaseToolsUserPassword dbToolsUserPassword = connection.getUserPassword();
-    if (dbToolsUserPassword != null)
+    if (passwordSecret != null)
       properties.put(
         "password",
-        String.valueOf(getSecret(dbToolsUserPassword).toCharArray()));
+        String.valueOf(await(passwordSecret).toCharArray()));
 
     /* Get properties that are associated with Wallet */
-    if (connection.getKeyStores() != null) {
+    if (keyStores != null) {
       Properties walletProps = new Properties();
 
-      for (DatabaseToolsKeyStore keyStore : connection.getKeyStores()) {
+      for (int i = 0; i < keyStores.size(); i++) {
+        DatabaseToolsKeyStore keyStore = keyStores.get(i);
+
         // Get the base64 content of the Wallet, which has a format of KeyStore,
         // TrustStore, PKCS12, or SSO
         String base64KeyStoreContent =
-          getSecret(keyStore.getKeyStoreContent())
+          await(keyStoreContentSecrets.get(i))
             .getBase64Secret();
 
-        DatabaseToolsKeyStorePassword keyStorePassword =
-          keyStore.getKeyStorePassword();
+        CompletableFuture<Secret> keyStorePassword =
+          keyStorePasswordSecrets.get(i);
 
         switch (keyStore.getKeyStoreType()) {
         case JavaKeyStore:
@@ -185,7 +245,7 @@ public class OciDatabaseToolsConnectionProvider
           walletProps.setProperty(
             OracleConnection
               .CONNECTION_PROPERTY_THIN_JAVAX_NET_SSL_KEYSTOREPASSWORD,
-            String.valueOf(getSecret(keyStorePassword).toCharArray()));
+            String.valueOf(await(keyStorePassword).toCharArray()));
           break;
         case JavaTrustStore:
           walletProps.setProperty(
@@ -198,18 +258,13 @@ public class OciDatabaseToolsConnectionProvider
           walletProps.setProperty(
             OracleConnection
               .CONNECTION_PROPERTY_THIN_JAVAX_NET_SSL_TRUSTSTOREPASSWORD,
-            String.valueOf(getSecret(keyStorePassword).toCharArray()));
+            String.valueOf(await(keyStorePassword).toCharArray()));
           break;
-        case Pkcs12:
-        case Sso:
+        default: // Pkcs12 or Sso, as other types were rejected above
           walletProps.put(
             OracleConnection.CONNECTION_PROPERTY_WALLET_LOCATION,
             "data:;base64," + base64KeyStoreContent);
           break;
-        case UnknownEnumValue:
-        default:
-          throw new IllegalStateException(
-            "Unknown keyStore type: " + keyStore.getKeyStoreType());
         }
       }
 
@@ -242,76 +297,138 @@ public class OciDatabaseToolsConnectionProvider
   }
 
   /**
-   * Returns a {@code Secret} from the given {@code userPassword}.
+   * Returns the OCID of a {@code Secret} from the given {@code userPassword}.
    * @param userPassword the user password of a Database Tools Connection
-   * @return a {@code Secret} managed by the OCI Vault service
+   * @return the OCID of a {@code Secret} managed by the OCI Vault service
    */
-  private Secret getSecret(DatabaseToolsUserPassword userPassword) {
+  private static String getSecretId(DatabaseToolsUserPassword userPassword) {
     /* check the value type of Database Tools user password is SECRETID */
     if (!(userPassword instanceof DatabaseToolsUserPasswordSecretId))
       throw new IllegalStateException(
         "Unsupported class type: " + userPassword.getClass().getTypeName());
 
-    String secretId = ((DatabaseToolsUserPasswordSecretId) userPassword)
-      .getSecretId();
-
-    return requestSecretFromOCI(secretId);
+    return ((DatabaseToolsUserPasswordSecretId) userPassword).getSecretId();
   }
 
   /**
-   * Returns a {@code Secret} from the given {@code keyStoreContent}.
+   * Returns the OCID of a {@code Secret} from the given
+   * {@code keyStoreContent}.
    * @param keyStoreContent the content of a key store of Database Tools
    *                        Connection
-   * @return a {@code Secret} managed by the OCI Vault service
+   * @return the OCID of a {@code Secret} managed by the OCI Vault service
    */
-  private Secret getSecret(
+  private static String getSecretId(
     DatabaseToolsKeyStoreContent keyStoreContent) {
     /* check the value type of Database Tools Key Store content is SECRETID */
     if (!(keyStoreContent instanceof DatabaseToolsKeyStoreContentSecretId))
       throw new IllegalStateException(
         "Unsupported class type: " + keyStoreContent.getClass().getTypeName());
 
-      String secretId =
-        ((DatabaseToolsKeyStoreContentSecretId) keyStoreContent)
-          .getSecretId();
-
-    return requestSecretFromOCI(secretId);
+    return ((DatabaseToolsKeyStoreContentSecretId) keyStoreContent)
+      .getSecretId();
   }
 
   /**
-   * Returns a {@code Secret} from the given {@code keyStorePassword}.
+   * Returns the OCID of a {@code Secret} from the given
+   * {@code keyStorePassword}.
    * @param keyStorePassword the password of a key store of Database Tools
    *                         Connection
-   * @return a {@code Secret} managed by the OCI Vault service
+   * @return the OCID of a {@code Secret} managed by the OCI Vault service
    */
-  private Secret getSecret(
+  private static String getSecretId(
     DatabaseToolsKeyStorePassword keyStorePassword) {
     /* check the value type of Database Tools Key Store password is SECRETID */
     if (!(keyStorePassword instanceof DatabaseToolsKeyStorePasswordSecretId))
       throw new IllegalStateException(
         "Unsupported class type: " + keyStorePassword.getClass().getTypeName());
 
-    String secretId =
-      ((DatabaseToolsKeyStorePasswordSecretId) keyStorePassword)
-        .getSecretId();
-
-    return requestSecretFromOCI(secretId);
+    return ((DatabaseToolsKeyStorePasswordSecretId) keyStorePassword)
+      .getSecretId();
   }
 
   /**
-   * Requests a {@code Secret} from OCI using the given {@code secretId} and the
-   * common parameters that is already configured.
-   * @param secretId the Secret OCID
+   * Waits for a {@code Secret} to be requested. A {@code RuntimeException}
+   * thrown by the request, such as a {@link BmcException}, is rethrown by
+   * this method.
+   * @param secret the request of a {@code Secret}. Not null.
    * @return a {@code Secret} managed by the OCI Vault service
    */
-  private Secret requestSecretFromOCI(String secretId) {
-    ParameterSet walletParameters = commonParameters.copyBuilder()
-      .add("value", SecretFactory.OCID, secretId)
-      .build();
+  private static Secret await(CompletableFuture<Secret> secret) {
+    try {
+      return secret.join();
+    }
+    catch (CompletionException completionException) {
+      Throwable cause = completionException.getCause();
+      if (cause instanceof RuntimeException)
+        throw (RuntimeException) cause;
+      else if (cause instanceof Error)
+        throw (Error) cause;
+      else
+        throw new IllegalStateException(cause);
+    }
+  }
+
+  /**
+   * Requests of the secrets of a Database Tools Connection. Each secret is
+   * requested once, by a thread of the {@link #EXECUTOR}.
+   */
+  private static final class SecretRequests {
+
+    /** Common parameters of the Database Tools Connection */
+    private final ParameterSet commonParameters;
+
+    /** Requests of each secret, by OCID */
+    private final Map<String, CompletableFuture<Secret>> requests =
+      new HashMap<>();
+
+    SecretRequests(ParameterSet commonParameters) {
+      this.commonParameters = commonParameters;
+    }
+
+    /**
+     * Requests a {@code Secret} from OCI using the given {@code secretId} and
+     * the common parameters that are already configured.
+     * @param secretId the Secret OCID
+     * @return the request of a {@code Secret} managed by the OCI Vault service
+     */
+    CompletableFuture<Secret> request(String secretId) {
+      return requests.computeIfAbsent(secretId, id ->
+        CompletableFuture.supplyAsync(() -> requestSecretFromOCI(id), EXECUTOR));
+    }
+
+    private Secret requestSecretFromOCI(String secretId) {
+      ParameterSet walletParameters = commonParameters.copyBuilder()
+        .add("value", SecretFactory.OCID, secretId)
+        .build();
+
+      long start = System.nanoTime();
+      try {
+        return SecretFactory.getInstance()
+          .request(walletParameters)
+          .getContent();
+      }
+      finally {
+        LOGGER.log(Level.FINE, "Requested secret {0} in {1} ms",
+          new Object[]{
+            secretId,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)});
+      }
+    }
+  }
 
-    return SecretFactory.getInstance()
-      .request(walletParameters)
-      .getContent();
+  private static Executor createExecutor() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+      MAX_SECRET_REQUESTS, MAX_SECRET_REQUESTS,
+      60, TimeUnit.SECONDS,
+      new LinkedBlockingQueue<>(),
+      runnable -> {
+        Thread thread = new Thread(
+          runnable, "ojdbc-provider-oci: Database Tools Secret Request");
+        thread.setDaemon(true);
+        return thread;
+      });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
   }
 
   private Properties refreshProperties(String location)
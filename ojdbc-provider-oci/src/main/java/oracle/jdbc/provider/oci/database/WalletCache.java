@@ -0,0 +1,545 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oci.database;
+
+import oracle.jdbc.provider.util.Wallet;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.ZipInputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * <p>
+ * A cache of wallets stored in a directory of the local file system. The cache
+ * allows a wallet requested by one JVM to be reused by another JVM, or by the
+ * same JVM after a restart, rather than requesting a new wallet from the
+ * Autonomous Database service each time.
+ * </p><p>
+ * Each wallet is stored in a file named with a hash of the OCID of its
+ * database. The file holds the ZIP of the wallet and its password, encrypted
+ * with AES/GCM, along with the expiration date of the wallet's certificates.
+ * A wallet is not read from the cache once it has expired. The OCID is
+ * authenticated with the content, so that a file can not be read as the wallet
+ * of another database.
+ * </p><p>
+ * The encryption key is generated when the cache directory is first used, and
+ * is stored in a file of that directory. On file systems that support POSIX
+ * permissions, the key file and the wallet files are only readable by their
+ * owner. The encryption protects copies of the wallet files that are made
+ * without the key file. It does not protect the wallets from a user that
+ * can read the directory, and the directory should only be readable by the
+ * user that runs the JVM.
+ * </p><p>
+ * A wallet is regenerated by a background thread when its expiration date is
+ * within {@link #REFRESH_MARGIN}, so that it is replaced before it expires.
+ * If the new wallet expires no later than the one it replaces, the margin is
+ * halved before the next request. The thread stops regenerating the wallet of
+ * a database once the wallet passed to
+ * {@link #scheduleRefresh(String, Wallet, RefreshTask)} is no longer
+ * referenced, which happens when it has been evicted from the cache of
+ * {@link WalletFactory}.
+ * </p>
+ */
+final class WalletCache {
+
+  private static final Logger LOGGER =
+    Logger.getLogger(WalletCache.class.getName());
+
+  /** Version of the format of the files written by this class */
+  private static final int VERSION = 1;
+
+  /** Name of the file that stores the encryption key */
+  private static final String KEY_FILE = "wallet-cache.key";
+
+  /** File name extension of a cached wallet */
+  private static final String WALLET_FILE_EXTENSION = ".wallet";
+
+  /** Transformation of the cipher that encrypts wallets */
+  private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+  /** Length in bytes of a GCM initialization vector */
+  private static final int IV_LENGTH = 12;
+
+  /** Length in bits of a GCM authentication tag */
+  private static final int TAG_LENGTH = 128;
+
+  /** Length in bytes of the header of a wallet file */
+  private static final int HEADER_LENGTH = Integer.BYTES + Long.BYTES;
+
+  /**
+   * Time before the expiration of a wallet at which a new wallet is
+   * requested.
+   */
+  static final Duration REFRESH_MARGIN = Duration.ofDays(7);
+
+  /**
+   * Minimum time between requests for a new wallet. Requests are retried
+   * after this time if they fail.
+   */
+  private static final Duration MINIMUM_REFRESH_INTERVAL = Duration.ofHours(1);
+
+  /** Caches of each directory */
+  private static final Map<Path, WalletCache> CACHES =
+    new ConcurrentHashMap<>();
+
+  /** Executor of the tasks that refresh wallets in the background */
+  private static final ScheduledThreadPoolExecutor EXECUTOR =
+    createExecutor();
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  /** Directory of the cache */
+  private final Path directory;
+
+  /** Key that encrypts wallet files, or null if not yet created */
+  private SecretKey key;
+
+  /** Refreshes that have been scheduled, by the OCID of a database */
+  private final Map<String, Refresh> refreshes = new ConcurrentHashMap<>();
+
+  private WalletCache(Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Returns the cache of a directory. The directory is created if it does not
+   * exist when a wallet is written.
+   * @param directory Directory of the cache. Not null.
+   * @return The cache of the directory. Not null.
+   */
+  static WalletCache getInstance(Path directory) {
+    return CACHES.computeIfAbsent(
+      directory.toAbsolutePath().normalize(), WalletCache::new);
+  }
+
+  /**
+   * Returns a wallet that has been written to this cache, or null if none has
+   * been written, or if it has expired. A file which can not be read is
+   * treated as if it did not exist, and the failure is logged.
+   * @param ocid OCID of a database. Not null.
+   * @return The cached wallet of the database, or null if none is cached.
+   */
+  Wallet read(String ocid) {
+    Path file = getFile(ocid);
+    try {
+      byte[] fileContent = Files.readAllBytes(file);
+      ByteBuffer header = ByteBuffer.wrap(fileContent, 0, HEADER_LENGTH);
+      if (header.getInt() != VERSION)
+        return null;
+
+      Instant expirationDate = Instant.ofEpochSecond(header.getLong());
+      if (!Instant.now().isBefore(expirationDate))
+        return null;
+
+      Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+      cipher.init(
+        Cipher.DECRYPT_MODE,
+        getKey(),
+        new GCMParameterSpec(
+          TAG_LENGTH, fileContent, HEADER_LENGTH, IV_LENGTH));
+      cipher.updateAAD(fileContent, 0, HEADER_LENGTH);
+      cipher.updateAAD(ocid.getBytes(UTF_8));
+      int contentOffset = HEADER_LENGTH + IV_LENGTH;
+      byte[] content = cipher.doFinal(
+        fileContent, contentOffset, fileContent.length - contentOffset);
+
+      DataInputStream contentStream =
+        new DataInputStream(new ByteArrayInputStream(content));
+      char[] password = contentStream.readUTF().toCharArray();
+      try (ZipInputStream zipStream = new ZipInputStream(contentStream)) {
+        return Wallet.unzip(zipStream, password);
+      }
+      finally {
+        Arrays.fill(password, (char) 0);
+        Arrays.fill(content, (byte) 0);
+      }
+    }
+    catch (NoSuchFileException noSuchFileException) {
+      return null;
+    }
+    catch (IOException | GeneralSecurityException
+           | IllegalStateException | IndexOutOfBoundsException exception) {
+      LOGGER.log(Level.WARNING, "Failed to read a cached wallet: " + file,
+        exception);
+      return null;
+    }
+  }
+
+  /**
+   * Writes a wallet to this cache, replacing any wallet that has been written
+   * for the same database. The wallet is not written if its expiration date
+   * is not known. A failure to write the wallet is logged, and is not thrown.
+   * @param ocid OCID of a database. Not null.
+   * @param zip ZIP of the wallet. Not null.
+   * @param password Password of the wallet. Not null.
+   * @param expirationDate Expiration date of the wallet, or null if unknown.
+   */
+  void write(
+    String ocid, byte[] zip, char[] password, OffsetDateTime expirationDate) {
+    if (expirationDate == null)
+      return;
+
+    Path file = getFile(ocid);
+    byte[] content = null;
+    try {
+      ByteArrayOutputStream contentStream =
+        new ByteArrayOutputStream(zip.length + password.length + 16);
+      DataOutputStream dataStream = new DataOutputStream(contentStream);
+      dataStream.writeUTF(new String(password));
+      dataStream.write(zip);
+      content = contentStream.toByteArray();
+
+      ByteBuffer fileContent = ByteBuffer.allocate(
+        HEADER_LENGTH + IV_LENGTH + content.length + TAG_LENGTH / 8);
+      fileContent.putInt(VERSION);
+      fileContent.putLong(expirationDate.toEpochSecond());
+
+      byte[] iv = new byte[IV_LENGTH];
+      RANDOM.nextBytes(iv);
+      fileContent.put(iv);
+
+      Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+      cipher.init(
+        Cipher.ENCRYPT_MODE, getKey(), new GCMParameterSpec(TAG_LENGTH, iv));
+      cipher.updateAAD(fileContent.array(), 0, HEADER_LENGTH);
+      cipher.updateAAD(ocid.getBytes(UTF_8));
+      cipher.doFinal(ByteBuffer.wrap(content), fileContent);
+
+      writeAtomically(file, fileContent.array());
+    }
+    catch (IOException | GeneralSecurityException exception) {
+      LOGGER.log(Level.WARNING, "Failed to write a cached wallet: " + file,
+        exception);
+    }
+    finally {
+      if (content != null)
+        Arrays.fill(content, (byte) 0);
+    }
+  }
+
+  /**
+   * Schedules a task that requests a new wallet before the expiration date of
+   * a wallet. If a task is already scheduled for the same database, it is not
+   * rescheduled, but it runs the given task from then on. The task is
+   * expected to write the new wallet to this cache, and to return its
+   * expiration date. The task is then scheduled again, for the expiration
+   * date of the new wallet. It is no longer scheduled once the given wallet
+   * is no longer referenced.
+   * @param ocid OCID of a database. Not null.
+   * @param wallet The current wallet. If its expiration date is unknown, no
+   * task is scheduled. Not null.
+   * @param refreshTask Task that requests a new wallet. Not null.
+   */
+  void scheduleRefresh(String ocid, Wallet wallet, RefreshTask refreshTask) {
+    OffsetDateTime expirationDate = wallet.getExpirationDate();
+    if (expirationDate == null)
+      return;
+
+    refreshes.compute(ocid, (ignored, refresh) -> {
+      if (refresh == null) {
+        refresh = new Refresh(ocid, expirationDate);
+        refresh.update(wallet, refreshTask);
+        refresh.schedule(getRefreshDelay(expirationDate, REFRESH_MARGIN));
+      }
+      else {
+        refresh.update(wallet, refreshTask);
+      }
+      return refresh;
+    });
+  }
+
+  /**
+   * Returns the time to wait before requesting a wallet that replaces one
+   * with the given expiration date.
+   * @param expirationDate Expiration date of the current wallet. Not null.
+   * @param margin Time before the expiration date at which a new wallet is
+   * requested. Not null.
+   * @return The time to wait, which is no less than
+   * {@link #MINIMUM_REFRESH_INTERVAL}. Not null.
+   */
+  static Duration getRefreshDelay(
+    OffsetDateTime expirationDate, Duration margin) {
+    Duration delay = Duration.between(
+      OffsetDateTime.now(), expirationDate.minus(margin));
+    return delay.compareTo(MINIMUM_REFRESH_INTERVAL) < 0
+      ? MINIMUM_REFRESH_INTERVAL
+      : delay;
+  }
+
+  /** Returns the file of a wallet for a database */
+  private Path getFile(String ocid) {
+    try {
+      byte[] hash =
+        MessageDigest.getInstance("SHA-256").digest(ocid.getBytes(UTF_8));
+      StringBuilder fileName = new StringBuilder(hash.length * 2 + 8);
+      for (byte b : hash)
+        fileName.append(String.format("%02x", b & 0xFF));
+      return directory.resolve(fileName.append(WALLET_FILE_EXTENSION).toString());
+    }
+    catch (GeneralSecurityException generalSecurityException) {
+      throw new IllegalStateException(
+        "SHA-256 is not supported", generalSecurityException);
+    }
+  }
+
+  /**
+   * Returns the key that encrypts wallet files. The key is read from the key
+   * file of the cache directory, or is generated and written to that file if
+   * it does not exist.
+   */
+  private synchronized SecretKey getKey()
+    throws IOException, GeneralSecurityException {
+    if (key != null)
+      return key;
+
+    Path keyFile = directory.resolve(KEY_FILE);
+    if (!Files.exists(keyFile))
+      createKeyFile(keyFile);
+
+    // Another JVM may have created the file first, so the key is always read
+    // from the file that was created.
+    byte[] encoded = Files.readAllBytes(keyFile);
+    try {
+      key = new SecretKeySpec(encoded, "AES");
+    }
+    finally {
+      Arrays.fill(encoded, (byte) 0);
+    }
+    return key;
+  }
+
+  /**
+   * Creates the key file, unless another thread or process has already
+   * created it. The key is written to a temporary file, which is then linked
+   * to the key file. Unlike a move, creating a link fails if the key file
+   * exists, so a key file is never replaced, and is never read before it is
+   * completely written.
+   */
+  private static void createKeyFile(Path keyFile)
+    throws IOException, GeneralSecurityException {
+    KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+    keyGenerator.init(256, RANDOM);
+    byte[] encoded = keyGenerator.generateKey().getEncoded();
+    Path temporaryFile = createFile(keyFile.resolveSibling(
+      KEY_FILE + "." + Long.toHexString(RANDOM.nextLong())));
+    try {
+      Files.write(temporaryFile, encoded);
+      try {
+        Files.createLink(keyFile, temporaryFile);
+      }
+      catch (UnsupportedOperationException noLinks) {
+        // The file system does not support links. Creating the key file fails
+        // if it exists, but another process may read it before it is written.
+        Files.write(createFile(keyFile), encoded);
+      }
+    }
+    catch (FileAlreadyExistsException fileAlreadyExistsException) {
+      LOGGER.log(Level.FINE,
+        "Key file created by another thread or process: " + keyFile);
+    }
+    finally {
+      Arrays.fill(encoded, (byte) 0);
+      Files.deleteIfExists(temporaryFile);
+    }
+  }
+
+  /**
+   * Writes a file by replacing it with a temporary file, so that other
+   * threads and processes never read a partially written file.
+   */
+  private static void writeAtomically(Path file, byte[] content)
+    throws IOException {
+    Path temporaryFile = createFile(file.resolveSibling(
+      file.getFileName() + "." + Long.toHexString(RANDOM.nextLong())));
+    try {
+      Files.write(temporaryFile, content);
+      Files.move(temporaryFile, file,
+        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+    finally {
+      Files.deleteIfExists(temporaryFile);
+    }
+  }
+
+  /**
+   * Creates a file that is only readable and writable by its owner, if the
+   * file system supports POSIX permissions. The parent directory is created
+   * if it does not exist.
+   */
+  private static Path createFile(Path file) throws IOException {
+    Files.createDirectories(file.getParent());
+    try {
+      return Files.createFile(file,
+        PosixFilePermissions.asFileAttribute(
+          PosixFilePermissions.fromString("rw-------")));
+    }
+    catch (UnsupportedOperationException notPosix) {
+      return Files.createFile(file);
+    }
+  }
+
+  private static ScheduledThreadPoolExecutor createExecutor() {
+    ScheduledThreadPoolExecutor executor =
+      new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread =
+          new Thread(runnable, "ojdbc-provider-oci: Wallet Cache Refresh");
+        thread.setDaemon(true);
+        return thread;
+      });
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+
+  /**
+   * The scheduled refresh of the wallet of a database.
+   */
+  private final class Refresh {
+
+    /** OCID of the database */
+    private final String ocid;
+
+    /** Expiration date of the latest wallet */
+    private OffsetDateTime expirationDate;
+
+    /**
+     * Time before the expiration date at which a new wallet is requested.
+     * This is halved each time a new wallet does not expire later.
+     */
+    private Duration margin = REFRESH_MARGIN;
+
+    /** Wallet that is cached in memory, which is not retained by this object */
+    private volatile WeakReference<Wallet> wallet;
+
+    /** Task that requests a new wallet */
+    private volatile RefreshTask refreshTask;
+
+    private Refresh(String ocid, OffsetDateTime expirationDate) {
+      this.ocid = ocid;
+      this.expirationDate = expirationDate;
+    }
+
+    /** Updates the wallet that is cached, and the task that refreshes it */
+    void update(Wallet wallet, RefreshTask refreshTask) {
+      this.wallet = new WeakReference<>(wallet);
+      this.refreshTask = refreshTask;
+    }
+
+    void schedule(Duration delay) {
+      EXECUTOR.schedule(this::run, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void run() {
+      // Checking the wallet is atomic with the update of scheduleRefresh, so
+      // that a wallet cached again is not missed
+      refreshes.computeIfPresent(ocid, (ignored, refresh) ->
+        refresh == this && wallet.get() == null ? null : refresh);
+      if (refreshes.get(ocid) != this) {
+        LOGGER.log(Level.FINE,
+          "Stopped refreshing the evicted wallet of database: " + ocid);
+        return;
+      }
+
+      OffsetDateTime newExpirationDate;
+      try {
+        newExpirationDate = refreshTask.refresh();
+      }
+      catch (RuntimeException exception) {
+        LOGGER.log(Level.WARNING,
+          "Failed to request a new wallet for database: " + ocid, exception);
+        schedule(MINIMUM_REFRESH_INTERVAL);
+        return;
+      }
+
+      if (newExpirationDate != null
+        && newExpirationDate.isAfter(expirationDate)) {
+        expirationDate = newExpirationDate;
+        margin = REFRESH_MARGIN;
+      }
+      else {
+        // The certificates of the database have not been rotated yet
+        margin = margin.dividedBy(2);
+      }
+      schedule(getRefreshDelay(expirationDate, margin));
+    }
+  }
+
+  /**
+   * A task that requests a new wallet, and writes it to the cache.
+   */
+  @FunctionalInterface
+  interface RefreshTask {
+
+    /**
+     * Requests a new wallet, and writes it to the cache.
+     * @return The expiration date of the new wallet, or null if unknown.
+     */
+    OffsetDateTime refresh();
+  }
+}
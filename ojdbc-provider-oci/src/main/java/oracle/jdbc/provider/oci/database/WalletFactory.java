@@ -51,8 +51,11 @@ import oracle.jdbc.provider.parameter.ParameterSet;
 import oracle.jdbc.provider.factory.Resource;
 import oracle.jdbc.provider.util.Wallet;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Paths;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.zip.ZipInputStream;
@@ -69,6 +72,15 @@ public final class WalletFactory extends OciResourceFactory<Wallet> {
   /** OCID of a database that a wallet is provided for */
   public static final Parameter<String> OCID = Parameter.create();
 
+  /**
+   * Directory of a cache that stores wallets in the local file system. This
+   * parameter is optional. If it is configured, a wallet that has been stored
+   * by an earlier request, possibly made by another JVM, is used until it
+   * expires, and a new wallet is requested in the background before that
+   * happens. Wallets are stored in encrypted files.
+   */
+  public static final Parameter<String> CACHE_DIRECTORY = Parameter.create();
+
   /**
    * Private constructor that should never be called: This class is a singleton.
    */
@@ -101,6 +113,46 @@ public final class WalletFactory extends OciResourceFactory<Wallet> {
       ParameterSet parameterSet) {
 
     String ocid = parameterSet.getRequired(OCID);
+    String cacheDirectory = parameterSet.getOptional(CACHE_DIRECTORY);
+
+    final Wallet wallet;
+    if (cacheDirectory == null) {
+      wallet = generateWallet(authenticationDetails, ocid, null);
+    }
+    else {
+      WalletCache walletCache =
+        WalletCache.getInstance(Paths.get(cacheDirectory));
+
+      Wallet cachedWallet = walletCache.read(ocid);
+      wallet = cachedWallet != null
+        ? cachedWallet
+        : generateWallet(authenticationDetails, ocid, walletCache);
+
+      walletCache.scheduleRefresh(ocid, wallet,
+        () -> generateWallet(authenticationDetails, ocid, walletCache)
+          .getExpirationDate());
+    }
+
+    OffsetDateTime expiry = wallet.getExpirationDate();
+    if (expiry == null) {
+      // If expiry could not be determined, treat as permanent
+      return Resource.createPermanentResource(wallet, false);
+    } else {
+      return Resource.createExpiringResource(wallet, expiry, false);
+    }
+  }
+
+  /**
+   * Requests a new wallet from the ADB service.
+   * @param authenticationDetails Authentication details. Not null.
+   * @param ocid OCID of a database. Not null.
+   * @param walletCache Cache to write the wallet to, or null if the wallet is
+   * not cached.
+   * @return The new wallet. Not null.
+   */
+  private static Wallet generateWallet(
+    AbstractAuthenticationDetailsProvider authenticationDetails, String ocid,
+    WalletCache walletCache) {
 
     char[] password = WalletPasswordGenerator.generatePassword();
     try (DatabaseClient databaseClient =
@@ -122,26 +174,43 @@ public final class WalletFactory extends OciResourceFactory<Wallet> {
 
       InputStream responseStream = response.getInputStream();
 
-      final Wallet wallet;
-      try (ZipInputStream zipStream = new ZipInputStream(responseStream)) {
-        wallet = Wallet.unzip(zipStream, password);
+      if (walletCache == null) {
+        try (ZipInputStream zipStream = new ZipInputStream(responseStream)) {
+          return Wallet.unzip(zipStream, password);
+        }
+        catch (IOException ioException) {
+          throw new IllegalStateException(
+            "Failed to close ZIP stream", ioException);
+        }
+      }
+
+      // Retain the ZIP, so that it can be written to the cache
+      final byte[] zip;
+      try (InputStream inputStream = responseStream) {
+        zip = readAll(inputStream);
       }
       catch (IOException ioException) {
         throw new IllegalStateException(
-          "Failed to close ZIP stream", ioException);
+          "Failed to read wallet ZIP", ioException);
       }
 
-      OffsetDateTime expiry = wallet.getExpirationDate();
-      if (expiry == null) {
-        // If expiry could not be determined, treat as permanent
-        return Resource.createPermanentResource(wallet, false);
-      } else {
-        return Resource.createExpiringResource(wallet, expiry, false);
-      }
+      Wallet wallet =
+        Wallet.unzip(new ZipInputStream(new ByteArrayInputStream(zip)), password);
+      walletCache.write(ocid, zip, password, wallet.getExpirationDate());
+      return wallet;
     }
     finally {
       Arrays.fill(password, (char)0);
     }
   }
 
+  private static byte[] readAll(InputStream inputStream) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(16 * 1024);
+    byte[] buffer = new byte[8192];
+    int length;
+    while ((length = inputStream.read(buffer)) > -1)
+      outputStream.write(buffer, 0, length);
+    return outputStream.toByteArray();
+  }
+
 }
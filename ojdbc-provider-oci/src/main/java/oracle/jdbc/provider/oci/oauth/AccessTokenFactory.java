@@ -83,6 +83,12 @@ public final class AccessTokenFactory extends OciResourceFactory<AccessToken> {
   private static final ResourceFactory<AccessToken> INSTANCE =
     CachedResourceFactory.create(new AccessTokenFactory());
 
+  /**
+   * Pool of proof of possession key pairs. It is created with this factory,
+   * so that key pairs are generated before the first token is requested.
+   */
+  private final KeyPairPool keyPairPool = KeyPairPool.getInstance();
+
   private AccessTokenFactory() { }
 
   /**
@@ -105,7 +111,7 @@ public final class AccessTokenFactory extends OciResourceFactory<AccessToken> {
       AbstractAuthenticationDetailsProvider authenticationDetails,
       ParameterSet parameterSet) {
 
-    KeyPair keyPair = generateKeyPair();
+    KeyPair keyPair = keyPairPool.take();
     String scope = parameterSet.getRequired(SCOPE);
     SecurityToken securityToken = requestSecurityToken(
         authenticationDetails, scope, keyPair.getPublic());
@@ -119,22 +125,6 @@ public final class AccessTokenFactory extends OciResourceFactory<AccessToken> {
     }
   }
 
-  /**
-   * @return A public-private key pair for proof of possession when token
-   * requested by this provider is presented for validation.
-   */
-  private static KeyPair generateKeyPair() {
-    try {
-      return KeyPairGenerator.getInstance("RSA").generateKeyPair();
-    }
-    catch (NoSuchAlgorithmException noSuchAlgorithmException) {
-      throw new IllegalStateException(
-          "Failed to generated a proof of possession key pair. " +
-              "See cause for details.",
-          noSuchAlgorithmException);
-    }
-  }
-
   private static SecurityToken requestSecurityToken(
       AbstractAuthenticationDetailsProvider authenticationDetails,
       String scope, PublicKey publicKey) {
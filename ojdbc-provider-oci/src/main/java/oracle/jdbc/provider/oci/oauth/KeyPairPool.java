@@ -0,0 +1,178 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oci.oauth;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>
+ * A pool of proof of possession key pairs that are generated ahead of the
+ * requests for access tokens. Generating a 2048-bit RSA key pair takes tens to
+ * hundreds of milliseconds of CPU, and this cost would otherwise be paid by the
+ * thread that requests a token, typically while opening a connection.
+ * </p><p>
+ * The pool holds at most {@link #CAPACITY} key pairs. It is filled when it is
+ * created, and refilled when a key pair is taken, by a daemon thread of
+ * minimum priority which terminates once it has been idle for
+ * {@link #IDLE_SECONDS}. If the pool is empty, a key pair is generated by the
+ * calling thread. A key pair is only ever returned once.
+ * </p><p>
+ * Only RSA key pairs are generated. Oracle JDBC signs the proof of possession
+ * with the SHA256withRSA algorithm, and so it can not use a key pair of
+ * another algorithm.
+ * </p>
+ */
+final class KeyPairPool {
+
+  /** The algorithm of the key pairs */
+  private static final String ALGORITHM = "RSA";
+
+  /** The size, in bits, of the RSA keys */
+  private static final int KEY_SIZE = 2048;
+
+  /** Maximum number of key pairs held by a pool */
+  static final int CAPACITY = 2;
+
+  /** Number of seconds after which an idle refill thread terminates */
+  private static final long IDLE_SECONDS = 60;
+
+  /** Executor that refills the pool on a low priority thread */
+  private static final ExecutorService REFILL_EXECUTOR = createExecutor();
+
+  /** The single instance of this class */
+  private static final KeyPairPool INSTANCE = new KeyPairPool();
+
+  /** Key pairs that have not been taken yet */
+  private final BlockingQueue<KeyPair> keyPairs =
+    new ArrayBlockingQueue<>(CAPACITY);
+
+  /** True while a refill of this pool is scheduled or running */
+  private final AtomicBoolean isRefilling = new AtomicBoolean();
+
+  private KeyPairPool() {
+    refill();
+  }
+
+  /**
+   * @return The pool of RSA key pairs. Not null.
+   */
+  static KeyPairPool getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Takes a key pair from this pool, or generates one if the pool is empty.
+   * The pool is then refilled in the background.
+   *
+   * @return A key pair that has not been returned before. Not null.
+   * @throws IllegalStateException If a key pair can not be generated.
+   */
+  KeyPair take() {
+    KeyPair keyPair = keyPairs.poll();
+    refill();
+    return keyPair != null ? keyPair : generateKeyPair();
+  }
+
+  /**
+   * @return The number of key pairs that are ready to be taken.
+   */
+  int size() {
+    return keyPairs.size();
+  }
+
+  /**
+   * Schedules a refill of this pool, unless one is already scheduled.
+   */
+  private void refill() {
+    if (!isRefilling.compareAndSet(false, true))
+      return;
+
+    REFILL_EXECUTOR.execute(() -> {
+      try {
+        while (keyPairs.remainingCapacity() > 0) {
+          if (!keyPairs.offer(generateKeyPair()))
+            break;
+        }
+      }
+      finally {
+        isRefilling.set(false);
+      }
+    });
+  }
+
+  /**
+   * Generates an RSA key pair.
+   */
+  private static KeyPair generateKeyPair() {
+    try {
+      KeyPairGenerator generator = KeyPairGenerator.getInstance(ALGORITHM);
+      generator.initialize(KEY_SIZE);
+      return generator.generateKeyPair();
+    }
+    catch (GeneralSecurityException generalSecurityException) {
+      throw new IllegalStateException(
+        "Failed to generated a proof of possession key pair. " +
+          "See cause for details.",
+        generalSecurityException);
+    }
+  }
+
+  private static ExecutorService createExecutor() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+      1, 1, IDLE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+      runnable -> {
+        Thread thread = new Thread(
+          runnable, "ojdbc-provider-oci: Proof of Possession Key Generation");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+      });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+}
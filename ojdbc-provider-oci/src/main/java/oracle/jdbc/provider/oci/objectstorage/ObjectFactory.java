@@ -52,6 +52,10 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -69,6 +73,36 @@ public class ObjectFactory extends OciResourceFactory<InputStream> {
 
   private static final ResourceFactory<InputStream> INSTANCE = new ObjectFactory();
 
+  /** Size of a buffer that reads content of an unknown length */
+  private static final int BUFFER_SIZE = 8192;
+
+  /** The maximum length of an array that may be allocated by a JVM */
+  private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+  /**
+   * Number of objects that are cached. The value is configured by the same
+   * system property as the size of a {@code CachedResourceFactory}.
+   */
+  private static final int CACHE_SIZE =
+    Integer.getInteger("oracle.jdbc.provider.CACHE_SIZE", 16);
+
+  /**
+   * Objects that have been requested, by their URL. A cached object is not
+   * returned until Object Storage has confirmed that its entity tag is the
+   * current one, so each request is still authorized by Object Storage.
+   */
+  private static final Map<String, CachedObject> CACHE =
+    Collections.synchronizedMap(
+      new LinkedHashMap<String, CachedObject>(CACHE_SIZE, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(
+          Map.Entry<String, CachedObject> eldest) {
+          return size() > CACHE_SIZE;
+        }
+      });
+
   private ObjectFactory() {}
 
   /**
@@ -86,6 +120,11 @@ public class ObjectFactory extends OciResourceFactory<InputStream> {
    * Otherwise, the {@code InputStream} becomes unavailable after the server is
    * closed.
    * </p><p>
+   * The content of an object is cached along with its entity tag (ETag). If
+   * the object is requested again, the request includes an
+   * {@code If-None-Match} header, and the cached content is returned if Object
+   * Storage responds that the object has not been modified.
+   * </p><p>
    * The {@code parameterSet} is required to include an {@link #OBJECT_URL}.
    * </p>
    * @param authenticationDetails Authentication details configured by the
@@ -110,6 +149,10 @@ public class ObjectFactory extends OciResourceFactory<InputStream> {
            ObjectStorageClient.builder().build(authenticationDetails)) {
       client.setRegion(objectUrl.region);
 
+      // Revalidate a cached copy of the object, rather than downloading it
+      // again if it has not been modified.
+      CachedObject cachedObject = CACHE.get(urlString);
+
       GetObjectResponse getResponse = client
         .getObject(
           GetObjectRequest
@@ -117,10 +160,26 @@ public class ObjectFactory extends OciResourceFactory<InputStream> {
             .namespaceName(objectUrl.namespaceName)
             .bucketName(objectUrl.bucketName)
             .objectName(objectUrl.objectName)
+            .ifNoneMatch(cachedObject == null ? null : cachedObject.eTag)
             .build());
 
+      if (cachedObject != null && getResponse.isNotModified()) {
+        return Resource.createPermanentResource(
+          new ByteArrayInputStream(cachedObject.content), false);
+      }
+
+      byte[] content;
+      try (InputStream inputStream = getResponse.getInputStream()) {
+        content = readContent(inputStream, getResponse.getContentLength());
+      }
+
+      if (getResponse.getETag() != null)
+        CACHE.put(urlString, new CachedObject(getResponse.getETag(), content));
+      else
+        CACHE.remove(urlString);
+
       return Resource.createPermanentResource(
-        cloneInputStream(getResponse.getInputStream()), false);
+        new ByteArrayInputStream(content), false);
     } catch (IOException ioException) {
       throw new IllegalStateException(
         "Failed to read data stream from Object Storage", ioException);
@@ -175,18 +234,67 @@ public class ObjectFactory extends OciResourceFactory<InputStream> {
   }
 
   /**
-   * Returns a cloned {@code InputStream}.
+   * Returns the content of an {@code InputStream}. If the length of the
+   * content is known, the content is read into an array of that length,
+   * without copying it.
+   * @param source Stream of content. Not null.
+   * @param contentLength Length of the content, or null if not known.
+   * @return The content read from {@code source}. Not null.
    * @throws IOException if fails to read {@code source}
    */
-  private InputStream cloneInputStream(InputStream source) throws IOException {
-    ByteArrayOutputStream clonedSource = new ByteArrayOutputStream();
-    byte[] buffer = new byte[512];
-    int len;
-    while ((len = source.read(buffer)) > -1) {
-      clonedSource.write(buffer, 0, len);
+  static byte[] readContent(InputStream source, Long contentLength)
+    throws IOException {
+
+    if (contentLength == null
+      || contentLength < 0
+      || contentLength > MAX_ARRAY_LENGTH) {
+      return readAll(source, new ByteArrayOutputStream(BUFFER_SIZE));
+    }
+
+    byte[] content = new byte[contentLength.intValue()];
+    int offset = 0;
+    while (offset < content.length) {
+      int length = source.read(content, offset, content.length - offset);
+      if (length == -1)
+        return Arrays.copyOf(content, offset);
+      offset += length;
     }
-    clonedSource.flush();
 
-    return new ByteArrayInputStream(clonedSource.toByteArray());
+    // Read any content beyond the length that was given
+    int next = source.read();
+    if (next == -1)
+      return content;
+
+    ByteArrayOutputStream output =
+      new ByteArrayOutputStream(content.length + BUFFER_SIZE);
+    output.write(content);
+    output.write(next);
+    return readAll(source, output);
+  }
+
+  private static byte[] readAll(
+    InputStream source, ByteArrayOutputStream output) throws IOException {
+    byte[] buffer = new byte[BUFFER_SIZE];
+    int length;
+    while ((length = source.read(buffer)) > -1) {
+      output.write(buffer, 0, length);
+    }
+    return output.toByteArray();
+  }
+
+  /**
+   * The content of an object, and the entity tag that identifies the version
+   * of its content.
+   */
+  private static final class CachedObject {
+
+    private final String eTag;
+
+    private final byte[] content;
+
+    CachedObject(String eTag, byte[] content) {
+      this.eTag = eTag;
+      this.content = content;
+    }
   }
 }
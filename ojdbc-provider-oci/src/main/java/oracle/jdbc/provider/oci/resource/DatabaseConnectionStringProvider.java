@@ -67,6 +67,8 @@ public final class DatabaseConnectionStringProvider
   private static final ResourceParameter[] PARAMETERS =
     new ResourceParameter[] {
       new ResourceParameter("ocid", WalletFactory.OCID),
+      new ResourceParameter(
+        "walletCacheDirectory", WalletFactory.CACHE_DIRECTORY),
       new ResourceParameter("consumerGroup", CONSUMER_GROUP, "MEDIUM")
     };
 
@@ -61,7 +61,8 @@ public final class DatabaseTlsProvider
   implements TlsConfigurationProvider {
 
   private static final ResourceParameter[] PARAMETERS = {
-    new ResourceParameter("ocid", WalletFactory.OCID)
+    new ResourceParameter("ocid", WalletFactory.OCID),
+    new ResourceParameter("walletCacheDirectory", WalletFactory.CACHE_DIRECTORY)
   };
 
   /**
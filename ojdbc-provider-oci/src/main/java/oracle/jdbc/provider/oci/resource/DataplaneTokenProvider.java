@@ -78,6 +78,9 @@ import static oracle.jdbc.provider.oci.oauth.AccessTokenFactory.SCOPE;
  *   </dd>
  * </dl>
  * <p>
+ * The proof of possession key pair of each token is generated by a background
+ * thread, ahead of the request for the token.
+ * </p><p>
  * This class implements the {@link AccessTokenProvider} SPI defined by
  * Oracle JDBC. It is designed to be located and instantiated by
  * {@link java.util.ServiceLoader}.
@@ -41,6 +41,7 @@ package oracle.jdbc.provider.oci.resource;
 import oracle.jdbc.provider.oci.vault.Secret;
 import oracle.jdbc.provider.parameter.ParameterSet;
 import oracle.jdbc.provider.resource.ResourceParameter;
+import oracle.jdbc.provider.util.CredentialsCache;
 import oracle.jdbc.provider.util.WalletUtils;
 import oracle.jdbc.spi.OracleResourceProvider;
 import oracle.jdbc.spi.PasswordProvider;
@@ -119,7 +120,7 @@ public class VaultSEPSProvider
 
     String connectionStringIndex = parameterSet.getOptional(CONNECTION_STRING_INDEX);
     byte[] walletBytes = Base64.getDecoder().decode(secret.getBase64Secret());
-    return WalletUtils.getCredentials(walletBytes, walletPassword, connectionStringIndex);
+    return CredentialsCache.getCredentials(walletBytes, walletPassword, connectionStringIndex);
   }
 
 }
\ No newline at end of file
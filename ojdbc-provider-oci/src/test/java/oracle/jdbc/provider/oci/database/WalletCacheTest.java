@@ -0,0 +1,232 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oci.database;
+
+import oracle.jdbc.provider.util.Wallet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the {@link WalletCache} as implementing behavior specified by its
+ * JavaDoc.
+ */
+public class WalletCacheTest {
+
+  private static final String OCID =
+    "ocid1.autonomousdatabase.oc1.phx.test";
+
+  private static final String CONNECTION_STRING =
+    "(description=(address=(protocol=tcps)(port=1522)(host=example.com))"
+      + "(connect_data=(service_name=test_high.adb.oraclecloud.com)))";
+
+  /**
+   * Verifies that a wallet is read from the files written by another instance
+   * of the cache, and only for the database it was written for.
+   */
+  @Test
+  public void testWriteAndRead(@TempDir Path directory) throws Exception {
+    OffsetDateTime expirationDate =
+      OffsetDateTime.now(ZoneOffset.UTC).plusDays(30).truncatedTo(ChronoUnit.SECONDS);
+    char[] password = "Wallet-Password-1".toCharArray();
+    byte[] zip = createWalletZip(password, expirationDate);
+
+    WalletCache walletCache = WalletCache.getInstance(directory);
+    assertNull(walletCache.read(OCID));
+    walletCache.write(OCID, zip, password, expirationDate);
+
+    // Nothing in the directory holds the password or ZIP entries in plain text
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        String content = new String(Files.readAllBytes(file), UTF_8);
+        assertFalse(content.contains("Wallet-Password-1"));
+        assertFalse(content.contains("tnsnames.ora"));
+      }
+    }
+
+    Wallet wallet = WalletCache.getInstance(directory.resolve("."))
+      .read(OCID);
+    assertNotNull(wallet);
+    assertEquals(CONNECTION_STRING, wallet.getHighConnectionString().trim());
+    assertEquals(expirationDate, wallet.getExpirationDate());
+    assertNotNull(wallet.getSSLContext());
+
+    assertNull(walletCache.read(OCID + "2"));
+  }
+
+  /**
+   * Verifies that an expired wallet is not read, and that a wallet without an
+   * expiration date is not written.
+   */
+  @Test
+  public void testExpiration(@TempDir Path directory) throws Exception {
+    char[] password = "Wallet-Password-1".toCharArray();
+    OffsetDateTime expired =
+      OffsetDateTime.now(ZoneOffset.UTC).minusDays(1).truncatedTo(ChronoUnit.SECONDS);
+
+    WalletCache walletCache = WalletCache.getInstance(directory);
+    walletCache.write(OCID, createWalletZip(password, expired), password, expired);
+    assertNull(walletCache.read(OCID));
+
+    walletCache.write(OCID + "2", createWalletZip(password, null), password, null);
+    assertNull(walletCache.read(OCID + "2"));
+  }
+
+  /**
+   * Verifies that a file which has been modified is not read.
+   */
+  @Test
+  public void testModifiedFile(@TempDir Path directory) throws Exception {
+    OffsetDateTime expirationDate =
+      OffsetDateTime.now(ZoneOffset.UTC).plusDays(30).truncatedTo(ChronoUnit.SECONDS);
+    char[] password = "Wallet-Password-1".toCharArray();
+
+    WalletCache walletCache = WalletCache.getInstance(directory);
+    walletCache.write(OCID, createWalletZip(password, expirationDate), password,
+      expirationDate);
+
+    try (Stream<Path> files = Files.list(directory)) {
+      Path walletFile = files
+        .filter(file -> file.toString().endsWith(".wallet"))
+        .findFirst()
+        .orElseThrow(AssertionError::new);
+      byte[] content = Files.readAllBytes(walletFile);
+      content[content.length - 1] ^= 1;
+      Files.write(walletFile, content);
+    }
+
+    assertNull(walletCache.read(OCID));
+  }
+
+  /**
+   * Verifies that a key file created by another process is used, and is not
+   * replaced.
+   */
+  @Test
+  public void testExistingKeyFile(@TempDir Path directory) throws Exception {
+    byte[] key = new byte[32];
+    new SecureRandom().nextBytes(key);
+    Path keyFile = directory.resolve("wallet-cache.key");
+    Files.write(keyFile, key);
+
+    OffsetDateTime expirationDate =
+      OffsetDateTime.now(ZoneOffset.UTC).plusDays(30).truncatedTo(ChronoUnit.SECONDS);
+    char[] password = "Wallet-Password-1".toCharArray();
+    WalletCache walletCache = WalletCache.getInstance(directory);
+    walletCache.write(OCID, createWalletZip(password, expirationDate), password,
+      expirationDate);
+
+    assertNotNull(walletCache.read(OCID));
+    assertArrayEquals(key, Files.readAllBytes(keyFile));
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(2, files.count());
+    }
+  }
+
+  /**
+   * Verifies that a wallet is requested before its expiration date by the
+   * given margin, and no more often than hourly.
+   */
+  @Test
+  public void testRefreshDelay() {
+    OffsetDateTime expirationDate = OffsetDateTime.now().plusDays(30);
+    Duration delay =
+      WalletCache.getRefreshDelay(expirationDate, WalletCache.REFRESH_MARGIN);
+    Duration halvedDelay = WalletCache.getRefreshDelay(
+      expirationDate, WalletCache.REFRESH_MARGIN.dividedBy(2));
+    assertTrue(delay.compareTo(Duration.ofDays(23)) <= 0);
+    assertTrue(delay.compareTo(Duration.ofDays(23).minusMinutes(1)) > 0);
+    Duration difference = halvedDelay.minus(delay);
+    assertTrue(difference.compareTo(WalletCache.REFRESH_MARGIN.dividedBy(2)) <= 0);
+    assertTrue(difference.compareTo(
+      WalletCache.REFRESH_MARGIN.dividedBy(2).minusMinutes(1)) > 0);
+
+    assertEquals(Duration.ofHours(1), WalletCache.getRefreshDelay(
+      OffsetDateTime.now().plusDays(1), WalletCache.REFRESH_MARGIN));
+  }
+
+  private static byte[] createWalletZip(
+    char[] password, OffsetDateTime expirationDate) throws Exception {
+    ByteArrayOutputStream zip = new ByteArrayOutputStream();
+    try (ZipOutputStream zipStream = new ZipOutputStream(zip)) {
+      zipStream.putNextEntry(new ZipEntry("tnsnames.ora"));
+      zipStream.write(("test_high = " + CONNECTION_STRING + "\n").getBytes(UTF_8));
+
+      zipStream.putNextEntry(new ZipEntry("keystore.jks"));
+      zipStream.write(createKeyStore(password));
+
+      zipStream.putNextEntry(new ZipEntry("truststore.jks"));
+      zipStream.write(createKeyStore(password));
+
+      if (expirationDate != null) {
+        zipStream.putNextEntry(new ZipEntry("README"));
+        zipStream.write((
+          "The SSL certificates provided in this wallet will expire on "
+            + expirationDate.format(
+                DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+            + " UTC.\n").getBytes(UTF_8));
+      }
+    }
+    return zip.toByteArray();
+  }
+
+  private static byte[] createKeyStore(char[] password) throws Exception {
+    KeyStore keyStore = KeyStore.getInstance("JKS");
+    keyStore.load(null, null);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    keyStore.store(output, password);
+    return output.toByteArray();
+  }
+}
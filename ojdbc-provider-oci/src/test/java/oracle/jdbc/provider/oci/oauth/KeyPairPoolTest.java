@@ -0,0 +1,107 @@
+/*
+ ** Copyright (c) 2026 Oracle and/or its affiliates.
+ **
+ ** The Universal Permissive License (UPL), Version 1.0
+ **
+ ** Subject to the condition set forth below, permission is hereby granted to any
+ ** person obtaining a copy of this software, associated documentation and/or data
+ ** (collectively the "Software"), free of charge and under any and all copyright
+ ** rights in the Software, and any and all patent rights owned or freely
+ ** licensable by each licensor hereunder covering either (i) the unmodified
+ ** Software as contributed to or provided by such licensor, or (ii) the Larger
+ ** Works (as defined below), to deal in both
+ **
+ ** (a) the Software, and
+ ** (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ ** one is included with the Software (each a "Larger Work" to which the Software
+ ** is contributed by such licensors),
+ **
+ ** without restriction, including without limitation the rights to copy, create
+ ** derivative works of, display, perform, and distribute the Software and make,
+ ** use, sell, offer for sale, import, export, have made, and have sold the
+ ** Software and the Larger Work(s), and to sublicense the foregoing rights on
+ ** either these or other terms.
+ **
+ ** This license is subject to the following condition:
+ ** The above copyright notice and either this complete permission notice or at
+ ** a minimum a reference to the UPL must be included in all copies or
+ ** substantial portions of the Software.
+ **
+ ** THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ ** IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ ** FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ ** AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ ** LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ ** OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ ** SOFTWARE.
+ */
+
+package oracle.jdbc.provider.oci.oauth;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the {@link KeyPairPool} as implementing behavior specified by its
+ * JavaDoc.
+ */
+public class KeyPairPoolTest {
+
+  /**
+   * Verifies that the pool is filled before any key pair is taken.
+   */
+  @Test
+  public void testPrimed() throws InterruptedException {
+    KeyPairPool pool = KeyPairPool.getInstance();
+    awaitFull(pool);
+  }
+
+  /**
+   * Verifies that RSA key pairs are generated with the expected key size, and
+   * that no key pair is returned twice.
+   */
+  @Test
+  public void testTake() {
+    Set<KeyPair> keyPairs = new HashSet<>();
+    for (int i = 0; i < 3 * KeyPairPool.CAPACITY; i++) {
+      KeyPair rsa = KeyPairPool.getInstance().take();
+      assertEquals(2048,
+        ((RSAPublicKey) rsa.getPublic()).getModulus().bitLength());
+      assertTrue(keyPairs.add(rsa));
+    }
+  }
+
+  /**
+   * Verifies that the pool is refilled in the background after a key pair is
+   * taken.
+   */
+  @Test
+  public void testRefill() throws InterruptedException {
+    KeyPairPool pool = KeyPairPool.getInstance();
+    pool.take();
+    awaitFull(pool);
+
+    // Empty the pool, so that the next take generates a key pair
+    while (pool.size() > 0)
+      pool.take();
+    assertNotNull(pool.take());
+  }
+
+  /**
+   * Waits until a pool holds {@link KeyPairPool#CAPACITY} key pairs.
+   */
+  private static void awaitFull(KeyPairPool pool) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 60_000;
+    while (pool.size() < KeyPairPool.CAPACITY) {
+      assertTrue(System.currentTimeMillis() < deadline,
+        "Pool was not filled");
+      Thread.sleep(10);
+    }
+  }
+}
@@ -40,12 +40,19 @@ package oracle.jdbc.provider.oci.objectstorage;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
- * Verifies accepted and rejected URL formats for Object Storage URL parsing.
+ * Verifies accepted and rejected URL formats for Object Storage URL parsing,
+ * and the reading of Object content.
  */
 public class ObjectFactoryTest {
 
@@ -97,4 +104,48 @@ public class ObjectFactoryTest {
 
     assertTrue(exception.getMessage().contains("Fail to parse Object URL"));
   }
+
+  /**
+   * Verifies that content is read whether its length is given, not given, or
+   * given incorrectly.
+   */
+  @Test
+  public void testReadContent() throws IOException {
+    byte[] content = new byte[100_000];
+    new Random(0).nextBytes(content);
+
+    assertArrayEquals(content, ObjectFactory.readContent(
+      new ChunkedInputStream(content), (long) content.length));
+    assertArrayEquals(content, ObjectFactory.readContent(
+      new ChunkedInputStream(content), null));
+    assertArrayEquals(content, ObjectFactory.readContent(
+      new ChunkedInputStream(content), 10L));
+    assertArrayEquals(content, ObjectFactory.readContent(
+      new ChunkedInputStream(content), content.length + 10L));
+    assertArrayEquals(new byte[0], ObjectFactory.readContent(
+      new ByteArrayInputStream(new byte[0]), 0L));
+  }
+
+  /**
+   * A stream that returns no more than 1000 bytes from each read, as a
+   * network stream might.
+   */
+  private static final class ChunkedInputStream extends InputStream {
+
+    private final ByteArrayInputStream content;
+
+    ChunkedInputStream(byte[] content) {
+      this.content = new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public int read() {
+      return content.read();
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+      return content.read(buffer, offset, Math.min(length, 1000));
+    }
+  }
 }